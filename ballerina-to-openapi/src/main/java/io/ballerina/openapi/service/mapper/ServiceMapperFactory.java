@@ -37,6 +37,7 @@ import io.ballerina.openapi.service.mapper.interceptor.model.RequestParameterInf
 import io.ballerina.openapi.service.mapper.interceptor.model.ResponseInfo;
 import io.ballerina.openapi.service.mapper.interceptor.pipeline.InterceptorPipeline;
 import io.ballerina.openapi.service.mapper.metainfo.MetaInfoMapper;
+import io.ballerina.openapi.service.mapper.metainfo.ExampleFileCache;
 import io.ballerina.openapi.service.mapper.metainfo.MetaInfoMapperImpl;
 import io.ballerina.openapi.service.mapper.model.AdditionalData;
 import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
@@ -92,6 +93,13 @@ public class ServiceMapperFactory {
     public ServiceMapperFactory(OpenAPI openAPI, SemanticModel semanticModel, ModuleMemberVisitor moduleMemberVisitor,
                                 List<OpenAPIMapperDiagnostic> diagnostics, ServiceNode serviceDefinition,
                                 boolean enableBallerinaExt) {
+        this(openAPI, semanticModel, moduleMemberVisitor, diagnostics, serviceDefinition, enableBallerinaExt,
+                new ExampleFileCache());
+    }
+
+    public ServiceMapperFactory(OpenAPI openAPI, SemanticModel semanticModel, ModuleMemberVisitor moduleMemberVisitor,
+                                List<OpenAPIMapperDiagnostic> diagnostics, ServiceNode serviceDefinition,
+                                boolean enableBallerinaExt, ExampleFileCache exampleFileCache) {
         this.additionalData = new AdditionalData(semanticModel, moduleMemberVisitor, diagnostics, enableBallerinaExt);
         this.treatNilableAsOptional = isTreatNilableAsOptionalParameter(serviceDefinition);
         this.openAPI = openAPI;
@@ -103,7 +111,7 @@ public class ServiceMapperFactory {
         this.typeMapper = new TypeMapperImpl(getComponents(openAPI), additionalData);
         this.constraintMapper = new ConstraintMapperImpl(openAPI, moduleMemberVisitor, diagnostics);
         this.hateoasMapper = new HateoasMapperImpl();
-        this.metaInfoMapper = new MetaInfoMapperImpl();
+        this.metaInfoMapper = new MetaInfoMapperImpl(exampleFileCache);
         this.exampleMapper = new OpenAPIExampleMapperImpl(openAPI, serviceDefinition, additionalData);
     }
 
@@ -39,6 +39,7 @@ import io.ballerina.openapi.service.mapper.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.service.mapper.diagnostic.OpenAPIMapperDiagnostic;
 import io.ballerina.openapi.service.mapper.example.OpenAPIExampleMapper;
 import io.ballerina.openapi.service.mapper.hateoas.HateoasMapper;
+import io.ballerina.openapi.service.mapper.metainfo.ExampleFileCache;
 import io.ballerina.openapi.service.mapper.metainfo.MetaInfoMapper;
 import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
 import io.ballerina.openapi.service.mapper.model.OASGenerationMetaInfo;
@@ -50,7 +51,6 @@ import io.ballerina.openapi.service.mapper.model.ServiceContractType;
 import io.ballerina.openapi.service.mapper.model.ServiceDeclaration;
 import io.ballerina.openapi.service.mapper.model.ServiceNode;
 import io.ballerina.openapi.service.mapper.type.extension.BallerinaTypeExtensioner;
-import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -65,6 +65,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import static io.ballerina.openapi.service.mapper.Constants.HYPHEN;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.containErrors;
@@ -115,6 +122,85 @@ public final class ServiceToOpenAPIMapper {
                                                          SemanticModel semanticModel,
                                                          String serviceName, Boolean needJson,
                                                          Path inputPath, Boolean ballerinaExtension) {
+        return generateOAS3Definition(project, syntaxTree, semanticModel, serviceName, needJson, inputPath,
+                ballerinaExtension, null);
+    }
+
+    /**
+     * This method will generate  openapi definition Map lists with ballerina code.
+     *
+     * @param syntaxTree          - Syntax tree the related to ballerina service
+     * @param semanticModel       - Semantic model related to ballerina module
+     * @param serviceName         - Service name that need to generate the openAPI specification
+     * @param needJson            - Flag for enabling the generated file format with json or YAML
+     * @param inputPath           - Input file path for resolve the annotation details
+     * @param ballerinaExtension  - Flag to enable ballerina type extension
+     * @param moduleMemberVisitor - Module members extracted from the project using
+     *                            {@link #extractNodesFromProject(Project, SemanticModel)}. If {@code null}, the
+     *                            project is visited once for all the services in the syntax tree
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, SyntaxTree syntaxTree,
+                                                         SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, Boolean ballerinaExtension,
+                                                         ModuleMemberVisitor moduleMemberVisitor) {
+        return generateOAS3Definition(project, syntaxTree, semanticModel, serviceName, needJson, inputPath,
+                ballerinaExtension, moduleMemberVisitor, null);
+    }
+
+    /**
+     * This method will generate  openapi definition Map lists with ballerina code.
+     *
+     * @param syntaxTree          - Syntax tree the related to ballerina service
+     * @param semanticModel       - Semantic model related to ballerina module
+     * @param serviceName         - Service name that need to generate the openAPI specification
+     * @param needJson            - Flag for enabling the generated file format with json or YAML
+     * @param inputPath           - Input file path for resolve the annotation details
+     * @param ballerinaExtension  - Flag to enable ballerina type extension
+     * @param moduleMemberVisitor - Module members extracted from the project using
+     *                            {@link #extractNodesFromProject(Project, SemanticModel)}. If {@code null}, the
+     *                            project is visited once for all the services in the syntax tree
+     * @param cancellationCheck   - Check telling whether the generation is no longer needed. If {@code null}, the
+     *                            generation cannot be cancelled
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     * @throws CancellationException if the generation is cancelled through the cancellation check
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, SyntaxTree syntaxTree,
+                                                         SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, Boolean ballerinaExtension,
+                                                         ModuleMemberVisitor moduleMemberVisitor,
+                                                         BooleanSupplier cancellationCheck) {
+        return generateOAS3Definition(project, syntaxTree, semanticModel, serviceName, needJson, inputPath,
+                ballerinaExtension, moduleMemberVisitor, cancellationCheck, 1);
+    }
+
+    /**
+     * This method will generate  openapi definition Map lists with ballerina code.
+     *
+     * @param syntaxTree          - Syntax tree the related to ballerina service
+     * @param semanticModel       - Semantic model related to ballerina module
+     * @param serviceName         - Service name that need to generate the openAPI specification
+     * @param needJson            - Flag for enabling the generated file format with json or YAML
+     * @param inputPath           - Input file path for resolve the annotation details
+     * @param ballerinaExtension  - Flag to enable ballerina type extension
+     * @param moduleMemberVisitor - Module members extracted from the project using
+     *                            {@link #extractNodesFromProject(Project, SemanticModel)}. If {@code null}, the
+     *                            project is visited once for all the services in the syntax tree
+     * @param cancellationCheck   - Check telling whether the generation is no longer needed. If {@code null}, the
+     *                            generation cannot be cancelled
+     * @param parallelism         - Maximum number of services mapped concurrently. The results are in the same order
+     *                            as a sequential generation, regardless of the parallelism
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     * @throws CancellationException if the generation is cancelled through the cancellation check
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, SyntaxTree syntaxTree,
+                                                         SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, Boolean ballerinaExtension,
+                                                         ModuleMemberVisitor moduleMemberVisitor,
+                                                         BooleanSupplier cancellationCheck, int parallelism) {
         Map<String, ServiceNode> servicesToGenerate = new HashMap<>();
         List<String> availableService = new ArrayList<>();
         List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
@@ -131,13 +217,23 @@ public final class ServiceToOpenAPIMapper {
                         availableService.toString());
                 diagnostics.add(error);
             }
+            if (Objects.isNull(moduleMemberVisitor) && !servicesToGenerate.isEmpty()) {
+                moduleMemberVisitor = extractNodesFromProject(project, semanticModel);
+            }
             // Generating openapi specification for selected services
+            ExampleFileCache exampleFileCache = new ExampleFileCache();
+            List<Supplier<OASResult>> serviceGenerations = new ArrayList<>();
             for (Map.Entry<String, ServiceNode> serviceNode : servicesToGenerate.entrySet()) {
                 String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
-                OASResult oasDefinition = generateOasFroServiceNode(project, openApiName,
-                        semanticModel, inputPath, serviceNode.getValue(), ballerinaExtension);
-                outputs.add(oasDefinition);
+                ModuleMemberVisitor moduleMembers = moduleMemberVisitor;
+                serviceGenerations.add(() -> {
+                    checkCancellation(cancellationCheck);
+                    return generateOasForServiceNode(project, openApiName, semanticModel, inputPath,
+                            serviceNode.getValue(), ballerinaExtension, moduleMembers, exampleFileCache,
+                            cancellationCheck);
+                });
             }
+            outputs.addAll(generateOasForServiceNodes(serviceGenerations, parallelism));
         }
         if (!diagnostics.isEmpty()) {
             OASResult exceptions = new OASResult(null, diagnostics);
@@ -146,9 +242,81 @@ public final class ServiceToOpenAPIMapper {
         return outputs;
     }
 
+    /**
+     * Runs the given service generations, on a pool bounded by the given parallelism if there is more than one. Each
+     * service is mapped with its own mappers and diagnostics, so that the generations share only the read-only
+     * compilation data and the thread-safe example file cache.
+     */
+    private static List<OASResult> generateOasForServiceNodes(List<Supplier<OASResult>> serviceGenerations,
+                                                              int parallelism) {
+        List<OASResult> outputs = new ArrayList<>(serviceGenerations.size());
+        if (parallelism <= 1 || serviceGenerations.size() <= 1) {
+            for (Supplier<OASResult> serviceGeneration : serviceGenerations) {
+                outputs.add(serviceGeneration.get());
+            }
+            return outputs;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, serviceGenerations.size()));
+        try {
+            List<Future<OASResult>> futures = new ArrayList<>(serviceGenerations.size());
+            for (Supplier<OASResult> serviceGeneration : serviceGenerations) {
+                futures.add(executor.submit(serviceGeneration::get));
+            }
+            // Results are collected in the submission order, so the output does not depend on the scheduling
+            for (Future<OASResult> future : futures) {
+                outputs.add(future.get());
+            }
+            return outputs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("OpenAPI generation is interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @deprecated Use {@link #generateOasForServiceNode(Project, String, SemanticModel, Path, ServiceNode, Boolean,
+     * ModuleMemberVisitor)} method, which has the same behaviour when the module members are {@code null}
+     */
+    @Deprecated(forRemoval = true, since = "2.3.2")
     public static OASResult generateOasFroServiceNode(Project project, String openApiName, SemanticModel semanticModel,
                                                       Path inputPath, ServiceNode serviceNode,
                                                       Boolean ballerinaExtension) {
+        return generateOasForServiceNode(project, openApiName, semanticModel, inputPath, serviceNode,
+                ballerinaExtension, null);
+    }
+
+    /**
+     * Generates the OpenAPI definition of the given service node.
+     *
+     * @param moduleMemberVisitor - Module members extracted from the project using
+     *                            {@link #extractNodesFromProject(Project, SemanticModel)}. If {@code null}, the
+     *                            project is visited to extract them
+     */
+    public static OASResult generateOasForServiceNode(Project project, String openApiName, SemanticModel semanticModel,
+                                                      Path inputPath, ServiceNode serviceNode,
+                                                      Boolean ballerinaExtension,
+                                                      ModuleMemberVisitor moduleMemberVisitor) {
+        return generateOasForServiceNode(project, openApiName, semanticModel, inputPath, serviceNode,
+                ballerinaExtension, moduleMemberVisitor, null, null);
+    }
+
+    private static OASResult generateOasForServiceNode(Project project, String openApiName,
+                                                       SemanticModel semanticModel, Path inputPath,
+                                                       ServiceNode serviceNode, Boolean ballerinaExtension,
+                                                       ModuleMemberVisitor moduleMemberVisitor,
+                                                       ExampleFileCache exampleFileCache,
+                                                       BooleanSupplier cancellationCheck) {
         OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
                 new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
         builder.setServiceNode(serviceNode)
@@ -156,6 +324,9 @@ public final class ServiceToOpenAPIMapper {
                 .setOpenApiFileName(openApiName)
                 .setBallerinaFilePath(inputPath)
                 .setBallerinaExtension(ballerinaExtension)
+                .setModuleMemberVisitor(moduleMemberVisitor)
+                .setExampleFileCache(exampleFileCache)
+                .setCancellationCheck(cancellationCheck)
                 .setProject(project);
         OASGenerationMetaInfo oasGenerationMetaInfo = builder.build();
         OASResult oasDefinition = generateOAS(oasGenerationMetaInfo);
@@ -249,15 +420,18 @@ public final class ServiceToOpenAPIMapper {
      * @param oasGenerationMetaInfo Includes the service definition node, endpoints, semantic model, openapi file
      *                              name and ballerina file path
      * @return {@code OASResult}
+     * @throws CancellationException if the generation is cancelled through the cancellation check of the meta info
      */
     public static OASResult generateOAS(OASGenerationMetaInfo oasGenerationMetaInfo) {
         ServiceNode serviceDefinition = oasGenerationMetaInfo.getServiceNode();
         SemanticModel semanticModel = oasGenerationMetaInfo.getSemanticModel();
         Package currentPackage = oasGenerationMetaInfo.getProject().currentPackage();
-        ModuleMemberVisitor moduleMemberVisitor = extractNodesFromProject(oasGenerationMetaInfo.getProject(),
-                semanticModel);
+        ModuleMemberVisitor moduleMemberVisitor = oasGenerationMetaInfo.getModuleMemberVisitor();
+        if (Objects.isNull(moduleMemberVisitor)) {
+            moduleMemberVisitor = extractNodesFromProject(oasGenerationMetaInfo.getProject(), semanticModel);
+        }
+        BooleanSupplier cancellationCheck = oasGenerationMetaInfo.getCancellationCheck();
         Set<ListenerDeclarationNode> listeners = moduleMemberVisitor.getListenerDeclarationNodes();
-        Set<ServiceContractType> serviceContractTypes = moduleMemberVisitor.getServiceContractTypeNodes();
         String openApiFileName = oasGenerationMetaInfo.getOpenApiFileName();
         Path ballerinaFilePath = oasGenerationMetaInfo.getBallerinaFilePath();
         // 01.Fill the openAPI info section
@@ -267,29 +441,37 @@ public final class ServiceToOpenAPIMapper {
             OpenAPI openapi = oasResult.getOpenAPI().get();
             List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
             if (openapi.getPaths() == null) {
+                ExampleFileCache exampleFileCache = oasGenerationMetaInfo.getExampleFileCache();
+                if (Objects.isNull(exampleFileCache)) {
+                    exampleFileCache = new ExampleFileCache();
+                }
                 ServiceMapperFactory serviceMapperFactory = new ServiceMapperFactory(openapi, semanticModel,
-                        moduleMemberVisitor, diagnostics, serviceDefinition, true);
+                        moduleMemberVisitor, diagnostics, serviceDefinition, true, exampleFileCache);
 
                 ServersMapper serversMapperImpl = serviceMapperFactory.getServersMapper(listeners, serviceDefinition);
                 serversMapperImpl.setServers();
 
                 if (oasAvailableViaServiceContract(serviceDefinition)) {
                     return updateOasResultWithServiceContract((ServiceDeclaration) serviceDefinition, currentPackage,
-                            oasResult, semanticModel, serviceContractTypes);
+                            oasResult, semanticModel, moduleMemberVisitor);
                 }
 
+                checkCancellation(cancellationCheck);
                 convertServiceToOpenAPI(serviceDefinition, serviceMapperFactory);
 
+                checkCancellation(cancellationCheck);
                 ConstraintMapper constraintMapper = serviceMapperFactory.getConstraintMapper();
                 constraintMapper.setConstraints();
 
                 HateoasMapper hateoasMapper = serviceMapperFactory.getHateoasMapper();
                 hateoasMapper.setOpenApiLinks(serviceDefinition, openapi);
 
+                checkCancellation(cancellationCheck);
                 MetaInfoMapper metaInfoMapper = serviceMapperFactory.getMetaInfoMapper();
                 metaInfoMapper.setResourceMetaData(openapi, serviceDefinition, ballerinaFilePath);
                 diagnostics.addAll(metaInfoMapper.getDiagnostics());
 
+                checkCancellation(cancellationCheck);
                 OpenAPIExampleMapper exampleMapper = serviceMapperFactory.getExampleMapper();
                 exampleMapper.setExamples();
 
@@ -312,6 +494,29 @@ public final class ServiceToOpenAPIMapper {
         }
     }
 
+    private static void checkCancellation(BooleanSupplier cancellationCheck) {
+        if (Objects.nonNull(cancellationCheck) && cancellationCheck.getAsBoolean()) {
+            throw new CancellationException("OpenAPI generation is cancelled");
+        }
+    }
+
+    /**
+     * Provides the {@code OASResult}s of the given services, in the order of the given meta info. The services are
+     * mapped concurrently on a pool bounded by the given parallelism when it is greater than one.
+     *
+     * @param oasGenerationMetaInfos meta info of the services, which may share the module members and the example
+     *                               file cache
+     * @param parallelism            maximum number of services mapped concurrently
+     * @return {@code OASResult}s of the services
+     */
+    public static List<OASResult> generateOAS(List<OASGenerationMetaInfo> oasGenerationMetaInfos, int parallelism) {
+        List<Supplier<OASResult>> serviceGenerations = new ArrayList<>(oasGenerationMetaInfos.size());
+        for (OASGenerationMetaInfo oasGenerationMetaInfo : oasGenerationMetaInfos) {
+            serviceGenerations.add(() -> generateOAS(oasGenerationMetaInfo));
+        }
+        return generateOasForServiceNodes(serviceGenerations, parallelism);
+    }
+
     static boolean oasAvailableViaServiceContract(ServiceNode serviceNode) {
         return serviceNode.kind().equals(ServiceNode.Kind.SERVICE_DECLARATION) &&
                 ((ServiceDeclaration) serviceNode).implementsServiceContract();
@@ -319,9 +524,9 @@ public final class ServiceToOpenAPIMapper {
 
     private static OASResult updateOasResultWithServiceContract(ServiceDeclaration serviceDeclaration, Package pkg,
                                                                 OASResult oasResult, SemanticModel semanticModel,
-                                                                Set<ServiceContractType> serviceContractTypes) {
+                                                                ModuleMemberVisitor moduleMemberVisitor) {
         Optional<OpenAPI> openAPI = serviceDeclaration.getOpenAPIFromServiceContract(pkg, semanticModel,
-                serviceContractTypes, oasResult.getDiagnostics());
+                moduleMemberVisitor, oasResult.getDiagnostics());
         if (openAPI.isEmpty()) {
             return oasResult;
         }
@@ -369,15 +574,7 @@ public final class ServiceToOpenAPIMapper {
      * @param project - current project
      */
     public static ModuleMemberVisitor extractNodesFromProject(Project project, SemanticModel semanticModel) {
-        ModuleMemberVisitor balNodeVisitor = new ModuleMemberVisitor(semanticModel);
-        project.currentPackage().moduleIds().forEach(moduleId -> {
-            Module module = project.currentPackage().module(moduleId);
-            module.documentIds().forEach(documentId -> {
-                SyntaxTree syntaxTreeDoc = module.document(documentId).syntaxTree();
-                syntaxTreeDoc.rootNode().accept(balNodeVisitor);
-            });
-        });
-        return balNodeVisitor;
+        return ModuleMemberVisitor.fromProject(project, semanticModel);
     }
 
     private static void convertServiceToOpenAPI(ServiceNode serviceNode, ServiceMapperFactory serviceMapperFactory) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.service.mapper.metainfo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the parsed content of the example files referred by the `@openapi:ResourceInfo` annotations. Each file is
+ * streamed into the parser and is parsed at most once for as long as its last modified time does not change. A cache
+ * is meant to live as long as a single export, so that the same example file referred by many resources is shared
+ * between them.
+ *
+ * @since 2.3.2
+ */
+public final class ExampleFileCache {
+
+    // Object readers are immutable and thread-safe, hence a single reader is shared by all the mappers
+    static final ObjectReader MAP_READER = new ObjectMapper().readerFor(Map.class);
+
+    private final Map<Path, CachedExample> examples = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the JSON object in the given example file.
+     *
+     * @param examplePath canonical path of the example file
+     * @return unmodifiable view of the parsed JSON object
+     * @throws IOException in case of an error while reading or parsing the file
+     */
+    public Map<String, Object> read(Path examplePath) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(examplePath);
+        CachedExample cached = examples.get(examplePath);
+        if (cached != null && cached.lastModified().equals(lastModified)) {
+            return cached.content();
+        }
+        Map<String, Object> parsed;
+        try (InputStream inputStream = Files.newInputStream(examplePath)) {
+            parsed = MAP_READER.readValue(inputStream);
+        }
+        if (parsed == null) {
+            throw new IOException("example file does not contain a JSON object: " + examplePath);
+        }
+        Map<String, Object> content = Collections.unmodifiableMap(parsed);
+        examples.put(examplePath, new CachedExample(lastModified, content));
+        return content;
+    }
+
+    private record CachedExample(FileTime lastModified, Map<String, Object> content) {
+    }
+}
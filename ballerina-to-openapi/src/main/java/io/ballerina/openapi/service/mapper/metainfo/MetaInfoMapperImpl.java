@@ -19,7 +19,6 @@
 package io.ballerina.openapi.service.mapper.metainfo;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
@@ -87,7 +86,18 @@ import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getOpe
  * @since 2.0.1
  */
 public class MetaInfoMapperImpl implements MetaInfoMapper {
-    static List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
+    // Diagnostics of this mapping run. A mapper instance is created for each service mapping, so the diagnostics of
+    // different runs neither accumulate nor mix.
+    private final List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
+    private final ExampleFileCache exampleFileCache;
+
+    public MetaInfoMapperImpl() {
+        this(new ExampleFileCache());
+    }
+
+    public MetaInfoMapperImpl(ExampleFileCache exampleFileCache) {
+        this.exampleFileCache = exampleFileCache;
+    }
 
     @Override
     public List<OpenAPIMapperDiagnostic> getDiagnostics() {
@@ -166,8 +176,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
         return Optional.empty();
     }
 
-    private static void handleExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder,
-                                       ExpressionNode expressionNode, Path ballerinFilePath) {
+    private void handleExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder,
+                                ExpressionNode expressionNode, Path ballerinFilePath) {
         if (expressionNode instanceof MappingConstructorExpressionNode mapNode) {
             SeparatedNodeList<MappingFieldNode> fields = mapNode.fields();
             for (MappingFieldNode resultField : fields) {
@@ -181,9 +191,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
                     }
                     ExpressionNode expressValue = optExamplesValue.get();
                     String sourceCode = removeCommentLines(expressValue.toSourceCode());
-                    ObjectMapper objectMapper = new ObjectMapper();
                     try {
-                        Map<?, ?> objectMap = objectMapper.readValue(sourceCode, Map.class);
+                        Map<?, ?> objectMap = ExampleFileCache.MAP_READER.readValue(sourceCode);
                         setResponseExamples(resMetaInfoBuilder, objectMap, ballerinFilePath, expressValue.location());
                     } catch (JsonProcessingException e) {
                         DiagnosticMessages messages = DiagnosticMessages.OAS_CONVERTOR_130;
@@ -197,9 +206,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
                     }
                     ExpressionNode expressValue = optExamplesValue.get();
                     String mediaType = removeCommentLines(expressValue.toSourceCode());
-                    ObjectMapper objectMapper = new ObjectMapper();
                     try {
-                        Map<?, ?> objectMap = objectMapper.readValue(mediaType, Map.class);
+                        Map<?, ?> objectMap = ExampleFileCache.MAP_READER.readValue(mediaType);
                         setRequestExamples(resMetaInfoBuilder, objectMap, ballerinFilePath, expressValue.location());
                     } catch (JsonProcessingException e) {
                         DiagnosticMessages messages = DiagnosticMessages.OAS_CONVERTOR_130;
@@ -214,8 +222,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
     /**
      * This is for mapping response example in OAS.
      */
-    private static void setResponseExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
-                                            Path ballerinaFilePath, Location location) {
+    private void setResponseExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
+                                     Path ballerinaFilePath, Location location) {
         if (objectMap instanceof LinkedHashMap<?, ?> responseSet) {
             //<statusCode, <MediaType, Map<name, Object>>>
             Map<String, Map<String, Map<String, Object>>> responseExamples = new HashMap<>();
@@ -245,16 +253,16 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
     /**
      * This is for mapping request example in OAS.
      */
-    private static void setRequestExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
-                                            Path ballerinaFilePath, Location location) {
+    private void setRequestExamples(ResourceMetaInfoAnnotation.Builder resMetaInfoBuilder, Map<?, ?> objectMap,
+                                    Path ballerinaFilePath, Location location) {
         Map<String, Map<String, Object>> mediaTypeExampleMap = extractExamples(objectMap,
                 ballerinaFilePath, location);
             resMetaInfoBuilder.requestExamples(mediaTypeExampleMap);
 
     }
 
-    private static Map<String, Map<String, Object>> extractExamples(Object exampleValues, Path ballerinaFilePath,
-                                                                    Location location) {
+    private Map<String, Map<String, Object>> extractExamples(Object exampleValues, Path ballerinaFilePath,
+                                                             Location location) {
         //Map format: <key:mediaType ,value: <key:name, value>>
         Map<String, Map<String, Object>> mediaTypeExampleMap = new HashMap<>();
         if (exampleValues instanceof LinkedHashMap<?, ?> exampleValueMap) {
@@ -292,12 +300,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
                                     diagnostics.add(diagnostic);
                                     continue;
                                 }
-                                String content;
                                 try {
-                                    content = Files.readString(relativePath);
-                                    ObjectMapper objectMapper = new ObjectMapper();
-                                    Map<String, Object> objectMap = objectMapper.readValue(content, Map.class);
-                                    Map<String, Object> valueMap = new HashMap<>(objectMap);
+                                    Map<String, Object> valueMap = new HashMap<>(exampleFileCache.read(relativePath));
                                     modifiedExample.put(exampleName, valueMap);
                                 } catch (IOException e) {
                                     DiagnosticMessages messages = DiagnosticMessages.OAS_CONVERTOR_130;
@@ -314,8 +318,8 @@ public class MetaInfoMapperImpl implements MetaInfoMapper {
         return mediaTypeExampleMap;
     }
 
-    private static Path resolveExampleFilePath(Path ballerinaFilePath, String jsonFilePath, Location location,
-                                               String exampleName) {
+    private Path resolveExampleFilePath(Path ballerinaFilePath, String jsonFilePath, Location location,
+                                        String exampleName) {
         if (jsonFilePath.isBlank()) {
             DiagnosticMessages messages = DiagnosticMessages.OAS_CONVERTOR_131;
             ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(messages, location, exampleName);
@@ -25,8 +25,13 @@ import io.ballerina.compiler.syntax.tree.NodeVisitor;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.service.mapper.utils.MapperCommonUtils;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -34,40 +39,42 @@ import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getTyp
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.isHttpServiceContract;
 
 /**
- * Visitor to get the TypeDefinitionNode and ListenerDeclarationNodes.
+ * Index of the TypeDefinitionNodes, ListenerDeclarationNodes and ClassDefinitionNodes of a project. The index is
+ * built once by visiting all the syntax trees of the project, and it is not modified afterwards, so it can be shared
+ * by all the services of the same compilation.
  *
  * @since 1.6.0
  */
-public class ModuleMemberVisitor extends NodeVisitor {
+public final class ModuleMemberVisitor {
 
-    Set<TypeDefinitionNode> typeDefinitionNodes = new LinkedHashSet<>();
-    Set<ListenerDeclarationNode> listenerDeclarationNodes = new LinkedHashSet<>();
-    Set<ClassDefinitionNode> interceptorServiceClassNodes = new LinkedHashSet<>();
-    Set<ServiceContractType> serviceContractTypeNodes = new LinkedHashSet<>();
-    SemanticModel semanticModel;
+    private final Set<ListenerDeclarationNode> listenerDeclarationNodes;
+    private final Set<ServiceContractType> serviceContractTypeNodes;
+    private final Map<String, TypeDefinitionNode> typeDefinitionNodesByName;
+    private final Map<String, ClassDefinitionNode> interceptorServiceClassNodesByName;
 
-    public ModuleMemberVisitor(SemanticModel semanticModel) {
-        this.semanticModel = semanticModel;
+    private ModuleMemberVisitor(Collector collector) {
+        this.listenerDeclarationNodes = Collections.unmodifiableSet(collector.listenerDeclarationNodes);
+        this.serviceContractTypeNodes = Collections.unmodifiableSet(collector.serviceContractTypeNodes);
+        this.typeDefinitionNodesByName = Collections.unmodifiableMap(collector.typeDefinitionNodesByName);
+        this.interceptorServiceClassNodesByName =
+                Collections.unmodifiableMap(collector.interceptorServiceClassNodesByName);
     }
 
-    @Override
-    public void visit(TypeDefinitionNode typeDefinitionNode) {
-        typeDefinitionNodes.add(typeDefinitionNode);
-        Node descriptorNode = getTypeDescriptor(typeDefinitionNode);
-        if (descriptorNode.kind().equals(SyntaxKind.OBJECT_TYPE_DESC) &&
-                isHttpServiceContract(descriptorNode, semanticModel)) {
-            serviceContractTypeNodes.add(new ServiceContractType(typeDefinitionNode));
-        }
-    }
-
-    @Override
-    public void visit(ListenerDeclarationNode listenerDeclarationNode) {
-        listenerDeclarationNodes.add(listenerDeclarationNode);
-    }
-
-    @Override
-    public void visit(ClassDefinitionNode classDefinitionNode) {
-        interceptorServiceClassNodes.add(classDefinitionNode);
+    /**
+     * Builds the index of the module members of all the modules of the given project.
+     *
+     * @param project       project to index
+     * @param semanticModel semantic model used to identify the service contract types
+     * @return module member index of the project
+     */
+    public static ModuleMemberVisitor fromProject(Project project, SemanticModel semanticModel) {
+        Collector collector = new Collector(semanticModel);
+        project.currentPackage().moduleIds().forEach(moduleId -> {
+            Module module = project.currentPackage().module(moduleId);
+            module.documentIds().forEach(documentId ->
+                    module.document(documentId).syntaxTree().rootNode().accept(collector));
+        });
+        return new ModuleMemberVisitor(collector);
     }
 
     public Set<ListenerDeclarationNode> getListenerDeclarationNodes() {
@@ -75,24 +82,53 @@ public class ModuleMemberVisitor extends NodeVisitor {
     }
 
     public Optional<TypeDefinitionNode> getTypeDefinitionNode(String typeName) {
-        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
-            if (MapperCommonUtils.unescapeIdentifier(typeDefinitionNode.typeName().text()).equals(typeName)) {
-                return Optional.of(typeDefinitionNode);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(typeDefinitionNodesByName.get(typeName));
     }
 
     public Optional<ClassDefinitionNode> getInterceptorServiceClassNode(String typeName) {
-        for (ClassDefinitionNode classDefinitionNode : interceptorServiceClassNodes) {
-            if (MapperCommonUtils.unescapeIdentifier(classDefinitionNode.className().text()).equals(typeName)) {
-                return Optional.of(classDefinitionNode);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(interceptorServiceClassNodesByName.get(typeName));
     }
 
     public Set<ServiceContractType> getServiceContractTypeNodes() {
         return serviceContractTypeNodes;
     }
+
+    /**
+     * Visitor which collects the module members while the index is built.
+     */
+    private static final class Collector extends NodeVisitor {
+
+        private final Set<ListenerDeclarationNode> listenerDeclarationNodes = new LinkedHashSet<>();
+        private final Set<ServiceContractType> serviceContractTypeNodes = new LinkedHashSet<>();
+        private final Map<String, TypeDefinitionNode> typeDefinitionNodesByName = new HashMap<>();
+        private final Map<String, ClassDefinitionNode> interceptorServiceClassNodesByName = new HashMap<>();
+        private final SemanticModel semanticModel;
+
+        private Collector(SemanticModel semanticModel) {
+            this.semanticModel = semanticModel;
+        }
+
+        @Override
+        public void visit(TypeDefinitionNode typeDefinitionNode) {
+            // Keep the first definition to be consistent with the declaration order
+            typeDefinitionNodesByName.putIfAbsent(
+                    MapperCommonUtils.unescapeIdentifier(typeDefinitionNode.typeName().text()), typeDefinitionNode);
+            Node descriptorNode = getTypeDescriptor(typeDefinitionNode);
+            if (descriptorNode.kind().equals(SyntaxKind.OBJECT_TYPE_DESC) &&
+                    isHttpServiceContract(descriptorNode, semanticModel)) {
+                serviceContractTypeNodes.add(new ServiceContractType(typeDefinitionNode));
+            }
+        }
+
+        @Override
+        public void visit(ListenerDeclarationNode listenerDeclarationNode) {
+            listenerDeclarationNodes.add(listenerDeclarationNode);
+        }
+
+        @Override
+        public void visit(ClassDefinitionNode classDefinitionNode) {
+            interceptorServiceClassNodesByName.putIfAbsent(
+                    MapperCommonUtils.unescapeIdentifier(classDefinitionNode.className().text()), classDefinitionNode);
+        }
+    }
 }
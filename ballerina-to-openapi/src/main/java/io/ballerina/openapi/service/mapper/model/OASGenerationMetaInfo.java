@@ -19,10 +19,12 @@ package io.ballerina.openapi.service.mapper.model;
 
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.openapi.service.mapper.metainfo.ExampleFileCache;
 import io.ballerina.projects.Project;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 /**
  * This {@link OASGenerationMetaInfo} contains details related to openAPI specification.
@@ -37,6 +39,9 @@ public class OASGenerationMetaInfo {
     private final ServiceNode serviceNode;
     private final Project project;
     private final Boolean ballerinaExtensionLevel;
+    private final ModuleMemberVisitor moduleMemberVisitor;
+    private final ExampleFileCache exampleFileCache;
+    private final BooleanSupplier cancellationCheck;
 
     public OASGenerationMetaInfo(OASGenerationMetaInfoBuilder builder) {
         this.openApiFileName = builder.openApiFileName;
@@ -49,6 +54,9 @@ public class OASGenerationMetaInfo {
         this.serviceNode = serviceNodeFromBuilder;
         this.project = builder.project;
         this.ballerinaExtensionLevel = builder.ballerinaExtension;
+        this.moduleMemberVisitor = builder.moduleMemberVisitor;
+        this.exampleFileCache = builder.exampleFileCache;
+        this.cancellationCheck = builder.cancellationCheck;
     }
 
     public String getOpenApiFileName() {
@@ -75,6 +83,30 @@ public class OASGenerationMetaInfo {
         return ballerinaExtensionLevel;
     }
 
+    /**
+     * Returns the module members extracted from the project, or {@code null} if the members should be extracted
+     * for this service.
+     */
+    public ModuleMemberVisitor getModuleMemberVisitor() {
+        return moduleMemberVisitor;
+    }
+
+    /**
+     * Returns the cache of the resource example files shared by the services of an export, or {@code null} if the
+     * example files should be cached for this service only.
+     */
+    public ExampleFileCache getExampleFileCache() {
+        return exampleFileCache;
+    }
+
+    /**
+     * Returns the check telling whether the generation is no longer needed, or {@code null} if the generation cannot
+     * be cancelled.
+     */
+    public BooleanSupplier getCancellationCheck() {
+        return cancellationCheck;
+    }
+
     /**
      * This method is used to create a new {@link OASGenerationMetaInfoBuilder} instance.
      */
@@ -87,6 +119,9 @@ public class OASGenerationMetaInfo {
         private ServiceNode serviceNode;
         private Project project;
         private Boolean ballerinaExtension = false;
+        private ModuleMemberVisitor moduleMemberVisitor;
+        private ExampleFileCache exampleFileCache;
+        private BooleanSupplier cancellationCheck;
 
         public OASGenerationMetaInfoBuilder setBallerinaFilePath(Path ballerinaFilePath) {
             this.ballerinaFilePath = ballerinaFilePath;
@@ -127,6 +162,33 @@ public class OASGenerationMetaInfo {
             this.project = project;
         }
 
+        /**
+         * Sets the module members of the project, so that the project is not visited again for each service.
+         */
+        public OASGenerationMetaInfoBuilder setModuleMemberVisitor(ModuleMemberVisitor moduleMemberVisitor) {
+            this.moduleMemberVisitor = moduleMemberVisitor;
+            return this;
+        }
+
+        /**
+         * Sets the cache of the resource example files, so that an example file referred by several services is
+         * parsed only once.
+         */
+        public OASGenerationMetaInfoBuilder setExampleFileCache(ExampleFileCache exampleFileCache) {
+            this.exampleFileCache = exampleFileCache;
+            return this;
+        }
+
+        /**
+         * Sets the check telling whether the generation is no longer needed. The check is polled between the mapping
+         * phases, and the generation is abandoned with a {@link java.util.concurrent.CancellationException} once it
+         * returns {@code true}.
+         */
+        public OASGenerationMetaInfoBuilder setCancellationCheck(BooleanSupplier cancellationCheck) {
+            this.cancellationCheck = cancellationCheck;
+            return this;
+        }
+
         public OASGenerationMetaInfo build() {
             return new OASGenerationMetaInfo(this);
         }
@@ -17,6 +17,7 @@
  */
 package io.ballerina.openapi.service.mapper.model;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.openapi.service.mapper.diagnostic.OpenAPIMapperDiagnostic;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
@@ -26,7 +27,9 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * This {@link OASResult} is used to contain OpenAPI definition in string format and error list.
+ * This {@link OASResult} is used to contain OpenAPI definition in string format and error list. The YAML and JSON
+ * formats are serialized lazily on the first request and reused until the definition is replaced with
+ * {@link #setOpenAPI(OpenAPI)}, hence the definition must not be modified after it is serialized.
  *
  * @since 1.0.0
  */
@@ -34,6 +37,8 @@ public class OASResult {
     private OpenAPI openAPI;
     private String serviceName; // added base path for key to definition
     private final List<OpenAPIMapperDiagnostic> diagnostics;
+    private Serialized yaml;
+    private Serialized json;
 
     /**
      * This constructor is used to store the details that Map of {@code OpenAPI} objects and diagnostic list.
@@ -55,19 +60,46 @@ public class OASResult {
         return this.serviceName;
     }
 
-    public Optional<String> getYaml() {
-        return Optional.ofNullable(Yaml.pretty(this.openAPI));
+    public synchronized Optional<String> getYaml() {
+        if (yaml == null) {
+            yaml = new Serialized(Yaml.pretty(this.openAPI));
+        }
+        return Optional.ofNullable(yaml.content());
     }
 
-    public Optional<String> getJson() {
-        return Optional.ofNullable(Json.pretty(this.openAPI));
+    public synchronized Optional<String> getJson() {
+        if (json == null) {
+            json = new Serialized(Json.pretty(this.openAPI));
+        }
+        return Optional.ofNullable(json.content());
+    }
+
+    /**
+     * Returns the definition as a JSON tree, without serializing it to a string. The returned tree is not shared and
+     * can be modified by the caller. Similar to {@link #getJson()}, it is empty if the definition cannot be converted.
+     */
+    public synchronized Optional<JsonNode> getJsonNode() {
+        if (this.openAPI == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Json.mapper().valueToTree(this.openAPI));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     public void setServiceName(String serviceName) {
         this.serviceName = serviceName;
     }
 
-    public void setOpenAPI(OpenAPI openAPI) {
+    public synchronized void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        this.yaml = null;
+        this.json = null;
+    }
+
+    // Holds the result of a serialization, which is null if the serialization failed
+    private record Serialized(String content) {
     }
 }
@@ -61,7 +61,7 @@ import static io.ballerina.openapi.service.mapper.Constants.BALLERINA;
 import static io.ballerina.openapi.service.mapper.Constants.EMPTY;
 import static io.ballerina.openapi.service.mapper.Constants.HTTP;
 import static io.ballerina.openapi.service.mapper.Constants.HTTP_SERVICE_CONTRACT;
-import static io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper.generateOasFroServiceNode;
+import static io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper.generateOasForServiceNode;
 
 /**
  * The {@link ServiceDeclaration} represents the service declaration.
@@ -183,8 +183,22 @@ public class ServiceDeclaration implements ServiceNode {
     public Optional<OpenAPI> getOpenAPIFromServiceContract(Package pkg, SemanticModel semanticModel,
                                                            Set<ServiceContractType> serviceContractTypes,
                                                            List<OpenAPIMapperDiagnostic> diagnostics) {
+        return getOpenAPIFromServiceContract(pkg, semanticModel, serviceContractTypes, null, diagnostics);
+    }
+
+    public Optional<OpenAPI> getOpenAPIFromServiceContract(Package pkg, SemanticModel semanticModel,
+                                                           ModuleMemberVisitor moduleMemberVisitor,
+                                                           List<OpenAPIMapperDiagnostic> diagnostics) {
+        return getOpenAPIFromServiceContract(pkg, semanticModel, moduleMemberVisitor.getServiceContractTypeNodes(),
+                moduleMemberVisitor, diagnostics);
+    }
+
+    private Optional<OpenAPI> getOpenAPIFromServiceContract(Package pkg, SemanticModel semanticModel,
+                                                            Set<ServiceContractType> serviceContractTypes,
+                                                            ModuleMemberVisitor moduleMemberVisitor,
+                                                            List<OpenAPIMapperDiagnostic> diagnostics) {
         Optional<String> jsonOpenApi = getOpenAPISpecFromResources(pkg, semanticModel, serviceContractTypes,
-                diagnostics);
+                moduleMemberVisitor, diagnostics);
         if (jsonOpenApi.isEmpty()) {
             return Optional.empty();
         }
@@ -198,6 +212,7 @@ public class ServiceDeclaration implements ServiceNode {
 
     private Optional<String> getOpenAPISpecFromResources(Package pkg, SemanticModel semanticModel,
                                                          Set<ServiceContractType> serviceContractTypes,
+                                                         ModuleMemberVisitor moduleMemberVisitor,
                                                          List<OpenAPIMapperDiagnostic> diagnostics) {
         Optional<String> serviceName = serviceContractType.getName();
         if (serviceName.isEmpty()) {
@@ -235,8 +250,8 @@ public class ServiceDeclaration implements ServiceNode {
                 diagnostics.add(new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_137, serviceName.get()));
                 return Optional.empty();
             }
-            OASResult oasResult = generateOasFroServiceNode(pkg.project(), serviceName.get(), semanticModel, null,
-                    serviceContract.get(), false);
+            OASResult oasResult = generateOasForServiceNode(pkg.project(), serviceName.get(), semanticModel, null,
+                    serviceContract.get(), false, moduleMemberVisitor);
             if (oasResult.getDiagnostics().stream()
                     .anyMatch(diagnostic -> diagnostic.getDiagnosticSeverity().equals(DiagnosticSeverity.ERROR))) {
                 diagnostics.add(new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_136, serviceName.get()));
@@ -17,7 +17,6 @@
  */
 package io.ballerina.openapi.service.mapper.type;
 
-import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
 import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
@@ -36,7 +35,6 @@ import io.ballerina.openapi.service.mapper.model.AdditionalData;
 import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
 import io.ballerina.openapi.service.mapper.type.extension.BallerinaTypeExtensioner;
 import io.ballerina.openapi.service.mapper.utils.MapperCommonUtils;
-import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.OpenAPISchema2JsonSchema;
@@ -76,11 +74,16 @@ public class TypeMapperImpl implements TypeMapper {
     }
 
     public TypeMapperImpl(SyntaxNodeAnalysisContext context) {
+        this(context, extractNodesFromProject(context.currentPackage().project(), context.semanticModel()));
+    }
+
+    /**
+     * Creates a type mapper which uses the given module members instead of visiting the project again. This allows
+     * the same module members to be shared by all the type mappers of a compilation.
+     */
+    public TypeMapperImpl(SyntaxNodeAnalysisContext context, ModuleMemberVisitor moduleMemberVisitor) {
         this.components = new Components().schemas(new HashMap<>());
-        SemanticModel semanticModel = context.semanticModel();
-        Project project = context.currentPackage().project();
-        ModuleMemberVisitor moduleMemberVisitor = extractNodesFromProject(project, semanticModel);
-        this.componentMapperData = new AdditionalData(semanticModel, moduleMemberVisitor);
+        this.componentMapperData = new AdditionalData(context.semanticModel(), moduleMemberVisitor);
     }
 
     public Schema getSchema(TypeSymbol typeSymbol) throws UnsupportedOperationException {
@@ -21,10 +21,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 import static io.ballerina.openapi.service.mapper.Constants.JSON_EXTENSION;
 import static io.ballerina.openapi.service.mapper.Constants.YAML_EXTENSION;
@@ -34,6 +40,8 @@ import static io.ballerina.openapi.service.mapper.Constants.YAML_EXTENSION;
  */
 public final class CodegenUtils {
     private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final Set<PosixFilePermission> DEFAULT_FILE_PERMISSIONS =
+            PosixFilePermissions.fromString("rw-r--r--");
     /**
      * Resolves path to write generated implementation source files.
      *
@@ -58,6 +66,57 @@ public final class CodegenUtils {
         }
     }
 
+    /**
+     * Writes a file with content to specified {@code filePath}, so that readers never observe a partially written
+     * file. The content is written to a temporary file in the same directory, which then replaces the target file.
+     *
+     * @param filePath valid file path to write the content
+     * @param content  content of the file
+     * @throws IOException when a file operation fails
+     */
+    public static void writeFileAtomically(Path filePath, String content) throws IOException {
+        writeFileAtomically(filePath, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a file with content to specified {@code filePath}, so that readers never observe a partially written
+     * file. The file keeps its permissions when it is replaced, and gets {@code rw-r--r--} on POSIX file systems when
+     * it is created.
+     *
+     * @param filePath valid file path to write the content
+     * @param content  content of the file
+     * @throws IOException when a file operation fails
+     */
+    public static void writeFileAtomically(Path filePath, byte[] content) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, "." + filePath.getFileName(), ".tmp");
+        try {
+            Files.write(tempFile, content);
+            setFilePermissions(tempFile, filePath);
+            try {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Temporary files are created readable by the owner only, and the move keeps that. Hence, the temporary file is
+     * given the permissions of the file it replaces, or the permissions of a newly written file.
+     */
+    private static void setFilePermissions(Path tempFile, Path filePath) throws IOException {
+        PosixFileAttributeView attributeView = Files.getFileAttributeView(tempFile, PosixFileAttributeView.class);
+        if (attributeView == null) {
+            return;
+        }
+        Set<PosixFilePermission> permissions = Files.exists(filePath) ? Files.getPosixFilePermissions(filePath) :
+                DEFAULT_FILE_PERMISSIONS;
+        attributeView.setPermissions(permissions);
+    }
+
     /**
      * Copy content of a file/directory into another location.
      *
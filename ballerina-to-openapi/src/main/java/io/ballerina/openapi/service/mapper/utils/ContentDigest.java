@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.service.mapper.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 digest of a sequence of values, which is used to tell whether the sources an OpenAPI artifact was generated
+ * from have changed.
+ *
+ * @since 2.3.2
+ */
+public final class ContentDigest {
+
+    private final MessageDigest digest;
+
+    public ContentDigest() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the runtime", e);
+        }
+    }
+
+    /**
+     * Adds the given value to the digest. The consecutive values are separated, so that moving text from one value to
+     * the next changes the digest.
+     *
+     * @param value value to add
+     * @return this digest
+     */
+    public ContentDigest addValue(String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return this;
+    }
+
+    /**
+     * Completes the digest of the added values.
+     *
+     * @return digest as a lowercase hexadecimal string
+     */
+    public String toHex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -44,6 +44,7 @@ module io.ballerina.openapi.service {
     exports io.ballerina.openapi.service.mapper.response.utils;
     exports io.ballerina.openapi.service.mapper.hateoas;
     exports io.ballerina.openapi.service.mapper.constraint;
+    exports io.ballerina.openapi.service.mapper.metainfo;
     exports io.ballerina.openapi.service.mapper.interceptor;
     exports io.ballerina.openapi.service.mapper.interceptor.resource;
     exports io.ballerina.openapi.service.mapper.interceptor.model;
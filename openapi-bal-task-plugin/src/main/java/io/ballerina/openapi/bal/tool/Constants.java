@@ -34,10 +34,12 @@ public class Constants {
     public static final String MODE = "mode";
     public static final String CLIENT = "client";
     public static final String CACHE_FILE = "openapi-cache.txt";
+    public static final String SOURCE_CACHE_FILE = "openapi-source-cache.txt";
     public static final String STATUS_CODE_BINDING = "statusCodeBinding";
     public static final String MOCK = "mock";
     public static final String SINGLE_FILE = "singleFile";
     public static final String IS_SANITIZED_OAS = "isUsingSanitizedOas";
+    public static final String NATIVE_SERIALIZATION = "nativeSerialization";
 
     /**
      * Enum class for containing diagnostic messages.
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.bal.tool;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Computes a digest of the raw OpenAPI contract bytes together with the external files referenced by the contract.
+ * The digest is used to skip the code generation without parsing the contract when nothing has changed since the
+ * previous build.
+ *
+ * @since 2.3.2
+ */
+public final class ContractDigest {
+
+    // Matches the file part of `$ref` values in both yaml and json contracts. Local references (`#/...`) are ignored.
+    private static final Pattern EXTERNAL_REF = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+    private static final String REMOTE_REF = "://";
+
+    private final MessageDigest digest = DigestUtils.getSha256Digest();
+    private final Set<Path> visited = new HashSet<>();
+
+    /**
+     * Adds the given contract and all the files it references (transitively) to the digest.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @return this digest
+     */
+    public ContractDigest addContract(Path contractPath) throws IOException {
+        addFile(contractPath);
+        return this;
+    }
+
+    /**
+     * Adds the content of the given optional file (ex: license header) to the digest.
+     */
+    public ContractDigest addOptionalFile(Path filePath) throws IOException {
+        if (filePath != null && Files.isRegularFile(filePath)) {
+            update(filePath.toString());
+            digest.update(Files.readAllBytes(filePath));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the given value (ex: a tool option) to the digest.
+     */
+    public ContractDigest addValue(String value) {
+        update(String.valueOf(value));
+        return this;
+    }
+
+    public String toHex() {
+        return Hex.encodeHexString(digest.digest()).toUpperCase(Locale.ENGLISH);
+    }
+
+    private void addFile(Path filePath) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            update("missing:" + filePath);
+            return;
+        }
+        Path canonicalPath = filePath.toRealPath();
+        if (!visited.add(canonicalPath)) {
+            return;
+        }
+        update(canonicalPath.toString());
+        List<String> references = new ArrayList<>();
+        // The digest is updated with the raw bytes while the lines are scanned for external references.
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new DigestInputStream(Files.newInputStream(canonicalPath), digest), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.contains("$ref")) {
+                    continue;
+                }
+                Matcher matcher = EXTERNAL_REF.matcher(line);
+                while (matcher.find()) {
+                    references.add(matcher.group(1));
+                }
+            }
+        }
+        Path parent = canonicalPath.getParent();
+        for (String reference : references) {
+            if (reference.contains(REMOTE_REF)) {
+                update(reference);
+            } else {
+                addFile(parent.resolve(reference).normalize());
+            }
+        }
+    }
+
+    private void update(String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
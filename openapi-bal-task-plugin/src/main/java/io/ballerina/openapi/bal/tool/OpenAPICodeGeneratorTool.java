@@ -26,8 +26,10 @@ import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.mock.AdvanceMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.mock.BallerinaMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GeneratedSourceWriter;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
-import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
@@ -57,7 +59,6 @@ import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
@@ -69,12 +70,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import static io.ballerina.openapi.bal.tool.Constants.CACHE_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.CLIENT;
@@ -83,9 +86,11 @@ import static io.ballerina.openapi.bal.tool.Constants.IS_SANITIZED_OAS;
 import static io.ballerina.openapi.bal.tool.Constants.LICENSE;
 import static io.ballerina.openapi.bal.tool.Constants.MOCK;
 import static io.ballerina.openapi.bal.tool.Constants.MODE;
+import static io.ballerina.openapi.bal.tool.Constants.NATIVE_SERIALIZATION;
 import static io.ballerina.openapi.bal.tool.Constants.NULLABLE;
 import static io.ballerina.openapi.bal.tool.Constants.OPERATIONS;
 import static io.ballerina.openapi.bal.tool.Constants.SINGLE_FILE;
+import static io.ballerina.openapi.bal.tool.Constants.SOURCE_CACHE_FILE;
 import static io.ballerina.openapi.bal.tool.Constants.STATUS_CODE_BINDING;
 import static io.ballerina.openapi.bal.tool.Constants.TAGS;
 import static io.ballerina.openapi.bal.tool.Constants.TRUE;
@@ -107,6 +112,7 @@ import static io.ballerina.openapi.core.generators.common.GeneratorUtils.normali
 @ToolConfig(name = "openapi")
 public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
     String hashOpenAPI;
+    String hashSources;
 
     @Override
     public void execute(ToolContext toolContext) {
@@ -134,6 +140,10 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             String oasFilePath = toolContext.filePath();
             Path packagePath = toolContext.currentPackage().project().sourceRoot();
             Map<String, ToolContext.Option> options = toolContext.options();
+            // Skip parsing the contract when the contract, its references and the options are unchanged
+            if (validateSourceCache(toolContext, packagePath, Path.of(oasFilePath))) {
+                return;
+            }
 
             Optional<OpenAPI> openAPI = getOpenAPIContract(packagePath, Path.of(oasFilePath), location, toolContext);
             if (openAPI.isEmpty()) {
@@ -150,12 +160,14 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                         .withFilters(filter).withOpenAPI(openAPI.get()).build();
                 codeGeneratorConfig =  new ImmutablePair<>(clientConfig, serviceMetaData);
                 if (validateCache(toolContext, clientConfig)) {
+                    writeSourceCache(toolContext);
                     return;
                 }
                 generateClient(toolContext, codeGeneratorConfig, location);
             } else {
                 codeGeneratorConfig = extractOptionDetails(toolContext, openAPI.get());
                 if (validateCache(toolContext, codeGeneratorConfig.getLeft())) {
+                    writeSourceCache(toolContext);
                     return;
                 }
                 if (options.containsKey(MODE)) {
@@ -190,6 +202,69 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         return cacheContent.equals(hashOpenAPI);
     }
 
+    /**
+     * This method uses to validate the source cache. The source cache holds a digest of the raw contract bytes, the
+     * external files referenced by the contract and the tool options, so an unchanged contract is not parsed again.
+     */
+    private boolean validateSourceCache(ToolContext toolContext, Path packagePath, Path openAPIPath)
+            throws IOException {
+        Path contractPath = resolveContractPath(packagePath, openAPIPath);
+        if (!Files.exists(contractPath)) {
+            hashSources = null;
+            return false;
+        }
+        Map<String, String> optionValues = new HashMap<>();
+        Map<String, ToolContext.Option> options = toolContext.options();
+        if (options != null) {
+            for (Map.Entry<String, ToolContext.Option> option : options.entrySet()) {
+                optionValues.put(option.getKey(), String.valueOf(option.getValue().value()).trim());
+            }
+        }
+        hashSources = getSourceDigest(contractPath, packagePath, toolContext.targetModule(), getVersion(),
+                optionValues);
+        return isSourceCacheValid(toolContext.cachePath(), hashSources);
+    }
+
+    /**
+     * This method uses to compute the digest of the source cache from the contract and the files it references, the
+     * target module, the client native version and the tool options.
+     */
+    static String getSourceDigest(Path contractPath, Path packagePath, String targetModule, String version,
+                                  Map<String, String> options) throws IOException {
+        ContractDigest digest = new ContractDigest()
+                .addContract(contractPath)
+                .addValue(targetModule)
+                .addValue(version);
+        for (Map.Entry<String, String> option : new TreeMap<>(options).entrySet()) {
+            digest.addValue(option.getKey() + "=" + option.getValue());
+            if (option.getKey().equals(LICENSE) && !option.getValue().isBlank()) {
+                digest.addOptionalFile(getLicensePath(Paths.get(option.getValue()), packagePath));
+            }
+        }
+        return digest.toHex();
+    }
+
+    /**
+     * This method uses to check whether the source cache was written for the given digest, in which case the
+     * generated sources are up to date.
+     */
+    static boolean isSourceCacheValid(Path cachePath, String sourceDigest) throws IOException {
+        Path sourceCacheFilePath = cachePath.resolve(SOURCE_CACHE_FILE);
+        return Files.isRegularFile(sourceCacheFilePath) && Files.readString(sourceCacheFilePath).equals(sourceDigest);
+    }
+
+    /**
+     * This method uses to write the source cache after the generated sources are up to date.
+     */
+    private void writeSourceCache(ToolContext toolContext) throws IOException {
+        if (hashSources == null) {
+            return;
+        }
+        List<GenSrcFile> sourcesForCache = new ArrayList<>();
+        sourcesForCache.add(new GenSrcFile(GenSrcFile.GenFileType.CACHE_SRC, null, SOURCE_CACHE_FILE, hashSources));
+        writeGeneratedSources(sourcesForCache, toolContext.cachePath());
+    }
+
     /**
      * This method uses to handle the code generation mode. ex: client, service
      */
@@ -229,14 +304,7 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             isSanitized = Boolean.parseBoolean(value);
         }
         try {
-            Path inputPath = Paths.get(openAPIPath.toString());
-            if (inputPath.isAbsolute()) {
-                relativePath = inputPath;
-            } else {
-                File file = new File(ballerinaFilePath.toString());
-                File openapiContract = new File(file, openAPIPath.toString());
-                relativePath = Paths.get(openapiContract.getCanonicalPath());
-            }
+            relativePath = resolveContractPath(ballerinaFilePath, openAPIPath);
             if (Files.exists(relativePath)) {
                 return Optional.of(normalizeOpenAPI(relativePath, operationIdValidationRequired(toolContext),
                         isSanitized));
@@ -255,6 +323,19 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         return Optional.empty();
     }
 
+    /**
+     * Util to resolve the contract path against the package root.
+     */
+    private Path resolveContractPath(Path ballerinaFilePath, Path openAPIPath) throws IOException {
+        Path inputPath = Paths.get(openAPIPath.toString());
+        if (inputPath.isAbsolute()) {
+            return inputPath;
+        }
+        File file = new File(ballerinaFilePath.toString());
+        File openapiContract = new File(file, openAPIPath.toString());
+        return Paths.get(openapiContract.getCanonicalPath());
+    }
+
     private boolean operationIdValidationRequired(ToolContext toolContext) {
         Map<String, ToolContext.Option> options = toolContext.options();
         if (Objects.isNull(options)) {
@@ -325,6 +406,9 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                     clientMetaDataBuilder.withIsUsingSanitizedOas(value.contains(TRUE));
                     serviceMetaDataBuilder.withIsUsingSanitizedOas(value.contains(TRUE));
                     break;
+                case NATIVE_SERIALIZATION:
+                    clientMetaDataBuilder.withNativeSerialization(value.contains(TRUE));
+                    break;
                 default:
                     break;
             }
@@ -349,7 +433,7 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             OASServiceMetadata> codeGeneratorConfig, Location location) throws BallerinaOpenApiException, IOException,
             FormatterException, ClientException {
         boolean skipDependecyUpdate = true;
-        if (getStatusCodeBindingOption(toolContext)) {
+        if (isClientNativeDependencyRequired(toolContext)) {
             try {
                 skipDependecyUpdate = clientNativeDependencyAlreadyExist(getVersion(), toolContext, location);
             } catch (BallerinaOpenApiException e) {
@@ -369,15 +453,20 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                 CACHE_FILE, hashOpenAPI);
         sourcesForCache.add(genSrcFile);
         writeGeneratedSources(sourcesForCache, cachePath);
+        writeSourceCache(toolContext);
         if (!skipDependecyUpdate) {
             updateBallerinaTomlWithClientNativeDependency(toolContext,
                     toolContext.currentPackage().project().sourceRoot().resolve("Ballerina.toml"), location);
         }
     }
 
-    private boolean getStatusCodeBindingOption(ToolContext toolContext) {
-        return toolContext.options().containsKey(STATUS_CODE_BINDING) &&
-                toolContext.options().get(STATUS_CODE_BINDING).value().toString().contains(TRUE);
+    private boolean isClientNativeDependencyRequired(ToolContext toolContext) {
+        return isOptionEnabled(toolContext, STATUS_CODE_BINDING) || isOptionEnabled(toolContext, NATIVE_SERIALIZATION);
+    }
+
+    private boolean isOptionEnabled(ToolContext toolContext, String option) {
+        return toolContext.options().containsKey(option) &&
+                toolContext.options().get(option).value().toString().contains(TRUE);
     }
 
     private void updateBallerinaTomlWithClientNativeDependency(ToolContext toolContext, Path ballerinaTomlPath,
@@ -485,7 +574,8 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                 .append(clientConfig.isStatusCodeBinding())
                 .append(clientConfig.isMock())
                 .append(clientConfig.singleFile())
-                .append(clientConfig.isUsingSanitizedOas());
+                .append(clientConfig.isUsingSanitizedOas())
+                .append(clientConfig.isNativeSerialization());
         List<String> tags = clientConfig.getFilter().getTags();
         tags.sort(String.CASE_INSENSITIVE_ORDER);
         for (String str : tags) {
@@ -510,9 +600,10 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         List<GenSrcFile> sourceFiles = new ArrayList<>();
 
         // Generate ballerina client files.
-        TypeHandler.createInstance(oasClientConfig.getOpenAPI(), oasClientConfig.isNullable());
+        GenerationContext generationContext = GenerationContext.create(oasClientConfig.getOpenAPI(),
+                oasClientConfig.isNullable());
         String licenseContent = oasClientConfig.getLicense();
-        BallerinaClientGenerator ballerinaClientGenerator = getClientGenerator(oasClientConfig);
+        BallerinaClientGenerator ballerinaClientGenerator = getClientGenerator(oasClientConfig, generationContext);
         io.ballerina.compiler.syntax.tree.SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
         List<ClientDiagnostic> clientDiagnostic = ballerinaClientGenerator.getDiagnostics();
 
@@ -529,7 +620,7 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
         List<TypeDefinitionNode> authNodes = ballerinaClientGenerator.getBallerinaAuthConfigGenerator()
                 .getAuthRelatedTypeDefinitionNodes();
         for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            generationContext.getTypeHandler().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
         }
 
         String licenseHeader = licenseContent == null || licenseContent.isBlank() ? "" :
@@ -548,19 +639,23 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
                                                List<GenSrcFile> sourceFiles, String licenseHeader,
                                                BallerinaClientGenerator ballerinaClientGenerator) throws
             FormatterException, IOException {
-        String mainContent = Formatter.format(syntaxTree).toSourceCode();
+        io.ballerina.compiler.syntax.tree.SyntaxTree utilSyntaxTree = ballerinaClientGenerator
+                .getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        // Generate ballerina records to represent schemas.
+        io.ballerina.compiler.syntax.tree.SyntaxTree schemaSyntaxTree = ballerinaClientGenerator
+                .getGenerationContext().getTypeHandler().generateTypeSyntaxTree();
+        // The generated trees do not depend on each other, hence they are formatted together
+        List<String> contents = new SourceFormatter().format(List.of(syntaxTree, utilSyntaxTree, schemaSyntaxTree));
+
+        String mainContent = contents.get(0);
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null, CLIENT_FILE_NAME,
                 licenseHeader + mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
+        String utilContent = contents.get(1);
         if (!utilContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, null, UTIL_FILE_NAME,
                     licenseHeader + utilContent));
         }
-        // Generate ballerina records to represent schemas.
-        io.ballerina.compiler.syntax.tree.SyntaxTree schemaSyntaxTree = TypeHandler.getInstance()
-                .generateTypeSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
+        String schemaContent = contents.get(2);
         if (!schemaContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, null, TYPE_FILE_NAME,
                     licenseHeader + schemaContent));
@@ -574,25 +669,27 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
             FormatterException {
         syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
                 ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
-                TypeHandler.getInstance().generateTypeSyntaxTree());
+                ballerinaClientGenerator.getGenerationContext().getTypeHandler().generateTypeSyntaxTree());
+        // Large combined modules are formatted in chunks
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null,
-                CLIENT_FILE_NAME, licenseHeader + Formatter.format(syntaxTree).toSourceCode()));
+                CLIENT_FILE_NAME, licenseHeader + new SourceFormatter().format(List.of(syntaxTree)).get(0)));
     }
 
-    private BallerinaClientGenerator getClientGenerator(OASClientConfig oasClientConfig) {
+    private BallerinaClientGenerator getClientGenerator(OASClientConfig oasClientConfig,
+                                                        GenerationContext generationContext) {
         boolean statusCodeBinding = oasClientConfig.isStatusCodeBinding();
         boolean isMock = oasClientConfig.isMock();
 
         if (statusCodeBinding && isMock) {
-            return new AdvanceMockClientGenerator(oasClientConfig);
+            return new AdvanceMockClientGenerator(oasClientConfig, generationContext);
         }
         if (statusCodeBinding) {
-            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig);
+            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig, generationContext);
         }
         if (isMock) {
-            return new BallerinaMockClientGenerator(oasClientConfig);
+            return new BallerinaMockClientGenerator(oasClientConfig, generationContext);
         }
-        return new BallerinaClientGenerator(oasClientConfig);
+        return new BallerinaClientGenerator(oasClientConfig, generationContext);
     }
 
     /**
@@ -616,7 +713,7 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
     /**
      * Util to get license path.
      */
-    private Path getLicensePath(Path licensePath, Path ballerinaFilePath) throws IOException {
+    private static Path getLicensePath(Path licensePath, Path ballerinaFilePath) throws IOException {
         Path relativePath = null;
         if (!licensePath.toString().isBlank()) {
             Path finalLicensePath = Paths.get(licensePath.toString());
@@ -672,28 +769,23 @@ public class OpenAPICodeGeneratorTool implements CodeGeneratorTool {
     }
 
     /**
-     * This method uses to write the generated sources into the given output path.
+     * This method uses to write the generated sources into the given output path. The files which already have the
+     * generated content are left untouched, so that their modified time stays as it is across the builds.
      */
     private void writeGeneratedSources(List<GenSrcFile> sources, Path outputPath) throws IOException {
+        GeneratedSourceWriter writer = new GeneratedSourceWriter();
         for (GenSrcFile file : sources) {
             Path filePath = Paths.get(outputPath.resolve(file.getFileName()).toFile().getCanonicalPath());
             String fileContent = file.getContent();
-            writeFile(filePath, fileContent);
+            writer.write(filePath, fileContent);
         }
     }
 
     /**
-     * This method uses to write the content into the given file path.
+     * This method uses to write the content into the given file path. The file is replaced atomically, and only when
+     * its content differs from the given content.
      */
     public void writeFile(Path filePath, String content) throws IOException {
-        File file = new File(filePath.toString());
-        // Ensure the directory structure exists
-        File parentDirectory = file.getParentFile();
-        if (!parentDirectory.exists() && !parentDirectory.mkdirs()) {
-                return; // Directory creation failed
-        }
-        try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
-            writer.write(content);
-        }
+        new GeneratedSourceWriter().write(filePath, content);
     }
 }
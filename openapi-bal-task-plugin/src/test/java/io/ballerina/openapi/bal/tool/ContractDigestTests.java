@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.bal.tool;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * This test class covers the source cache of the OpenAPI tool, which skips the generation when the contract, the
+ * files it references and the tool options are unchanged since the previous build.
+ */
+public class ContractDigestTests {
+    private static final String TARGET_MODULE = "delivery";
+    private static final String VERSION = "1.1.0";
+    private static final String CONTRACT = """
+            openapi: 3.0.1
+            info:
+              title: Delivery
+              version: 1.0.0
+            paths:
+              /orders:
+                get:
+                  responses:
+                    "200":
+                      description: Ok
+                      content:
+                        application/json:
+                          schema:
+                            $ref: "schemas/order.yaml"
+                    "404":
+                      description: Not found
+                      content:
+                        application/json:
+                          schema:
+                            $ref: "#/components/schemas/Error"
+            components:
+              schemas:
+                Error:
+                  type: object
+            """;
+    private static final String ORDER_SCHEMA = """
+            type: object
+            properties:
+              id:
+                type: string
+              items:
+                type: array
+                items:
+                  $ref: "./item.yaml"
+            """;
+    private static final String ITEM_SCHEMA = """
+            type: object
+            properties:
+              order:
+                $ref: 'order.yaml'
+            """;
+
+    private Path packagePath;
+    private Path cachePath;
+    private Path contractPath;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        packagePath = Files.createTempDirectory("openapi-source-cache");
+        cachePath = Files.createDirectories(packagePath.resolve("target").resolve("cache"));
+        contractPath = Files.writeString(packagePath.resolve("delivery.yaml"), CONTRACT);
+        Path schemasPath = Files.createDirectories(packagePath.resolve("schemas"));
+        Files.writeString(schemasPath.resolve("order.yaml"), ORDER_SCHEMA);
+        Files.writeString(schemasPath.resolve("item.yaml"), ITEM_SCHEMA);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        try (Stream<Path> paths = Files.walk(packagePath)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "Generation is skipped when the contract and the options are unchanged")
+    public void testUnchangedContract() throws IOException {
+        Map<String, String> options = Map.of("mode", "client", "nullable", "true");
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(options)));
+
+        writeSourceCache(digest(options));
+        Assert.assertTrue(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(options)));
+        // The digest does not depend on the order of the options
+        Map<String, String> reorderedOptions = new LinkedHashMap<>();
+        reorderedOptions.put("nullable", "true");
+        reorderedOptions.put("mode", "client");
+        Assert.assertTrue(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(reorderedOptions)));
+    }
+
+    @Test(description = "Generation runs again when the contract changes")
+    public void testChangedContract() throws IOException {
+        writeSourceCache(digest(Map.of()));
+        Files.writeString(contractPath, CONTRACT.replace("title: Delivery", "title: Deliveries"));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(Map.of())));
+    }
+
+    @Test(description = "Generation runs again when a file referenced by the contract changes")
+    public void testChangedReferencedFile() throws IOException {
+        writeSourceCache(digest(Map.of()));
+        // The item schema is referenced through the order schema
+        Files.writeString(packagePath.resolve("schemas").resolve("item.yaml"),
+                ITEM_SCHEMA.replace("properties:", "required: [order]\nproperties:"));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(Map.of())));
+
+        writeSourceCache(digest(Map.of()));
+        Files.delete(packagePath.resolve("schemas").resolve("order.yaml"));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(Map.of())));
+    }
+
+    @Test(description = "Generation runs again when the options change")
+    public void testChangedOptions() throws IOException {
+        writeSourceCache(digest(Map.of("mode", "client")));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(Map.of("mode", "service"))));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath,
+                digest(Map.of("mode", "client", "nullable", "true"))));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(Map.of())));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath,
+                OpenAPICodeGeneratorTool.getSourceDigest(contractPath, packagePath, "orders", VERSION,
+                        Map.of("mode", "client"))));
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath,
+                OpenAPICodeGeneratorTool.getSourceDigest(contractPath, packagePath, TARGET_MODULE, "1.2.0",
+                        Map.of("mode", "client"))));
+    }
+
+    @Test(description = "Generation runs again when the license file given in the options changes")
+    public void testChangedLicenseFile() throws IOException {
+        Path licensePath = Files.writeString(packagePath.resolve("license.txt"), "// Copyright 2024");
+        Map<String, String> options = Map.of("license", "license.txt");
+        writeSourceCache(digest(options));
+        Assert.assertTrue(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(options)));
+
+        Files.writeString(licensePath, "// Copyright 2025");
+        Assert.assertFalse(OpenAPICodeGeneratorTool.isSourceCacheValid(cachePath, digest(options)));
+    }
+
+    private String digest(Map<String, String> options) throws IOException {
+        return OpenAPICodeGeneratorTool.getSourceDigest(contractPath, packagePath, TARGET_MODULE, VERSION, options);
+    }
+
+    private void writeSourceCache(String sourceDigest) throws IOException {
+        Files.writeString(cachePath.resolve(Constants.SOURCE_CACHE_FILE), sourceDigest);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * The corpus of real world OpenAPI contracts used by the benchmarks. The contracts are taken from the test resources
+ * of the `openapi-cli` module.
+ *
+ * @since 2.3.2
+ */
+final class BenchmarkContracts {
+
+    static final String RESOURCES_PROPERTY = "openapi.benchmarks.resources";
+    private static final Path DEFAULT_RESOURCES = Paths.get("..", "openapi-cli", "src", "test", "resources");
+
+    private static final Map<String, String> CONTRACTS = Map.of(
+            "stripe", "generators/diagnostic_files/ballerinax_connector_tests/stripe.yaml",
+            "jira", "jira_openapi.yaml",
+            "box", "generators/diagnostic_files/ballerinax_connector_tests/box.yaml",
+            "vimeo", "generators/diagnostic_files/ballerinax_connector_tests/vimeo.yaml",
+            "sendgrid", "generators/client/file_provider/swagger/sendgrid.yaml",
+            "files.com", "generators/diagnostic_files/ballerinax_connector_tests/files.com.yaml");
+
+    private BenchmarkContracts() {
+    }
+
+    static Path resolve(String contract) {
+        String relativePath = CONTRACTS.get(contract);
+        if (relativePath == null) {
+            throw new IllegalArgumentException("unknown benchmark contract: " + contract);
+        }
+        String resources = System.getProperty(RESOURCES_PROPERTY);
+        Path contractPath = (resources == null ? DEFAULT_RESOURCES : Paths.get(resources)).resolve(relativePath);
+        if (!Files.isRegularFile(contractPath)) {
+            throw new IllegalStateException("benchmark contract not found: " + contractPath.toAbsolutePath() +
+                    ", set the '" + RESOURCES_PROPERTY + "' system property to the openapi-cli test resources");
+        }
+        return contractPath;
+    }
+
+    static OpenAPI parse(String contract) throws IOException, BallerinaOpenApiException {
+        return GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(resolve(contract));
+    }
+
+    /**
+     * Parses and normalizes the given contract in the same way as the `bal openapi` client generation.
+     */
+    static PreparedContract prepare(String contract) throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = parse(contract);
+        boolean resourceMode = GeneratorUtils.getComplexPaths(openAPI).isEmpty();
+        return new PreparedContract(GeneratorUtils.normalizeOpenAPI(openAPI, !resourceMode, false), resourceMode);
+    }
+
+    /**
+     * Represents a normalized contract together with the client method mode selected for it.
+     *
+     * @param openAPI      normalized OpenAPI definition
+     * @param resourceMode whether resource methods are generated for the client
+     */
+    record PreparedContract(OpenAPI openAPI, boolean resourceMode) {
+    }
+}
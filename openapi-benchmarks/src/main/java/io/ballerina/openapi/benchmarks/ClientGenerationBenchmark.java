@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.benchmarks.BenchmarkContracts.PreparedContract;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.TypeHandler;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.swagger.v3.oas.models.media.Schema;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation stages which create the Ballerina syntax trees from a normalized OpenAPI definition,
+ * together with the whole client generation up to the formatted sources. Each invocation uses a freshly normalized
+ * definition and a new generation context, since the generators cache their state in the context.
+ *
+ * @since 2.3.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ClientGenerationBenchmark {
+
+    @Param({"stripe", "jira", "box", "vimeo", "sendgrid", "files.com"})
+    public String contract;
+
+    private PreparedContract preparedContract;
+    private GenerationContext generationContext;
+
+    @Setup(Level.Invocation)
+    public void setup() throws IOException, BallerinaOpenApiException {
+        preparedContract = BenchmarkContracts.prepare(contract);
+        generationContext = GenerationContext.create(preparedContract.openAPI(), false);
+    }
+
+    @Benchmark
+    public void generateTypes(Blackhole blackhole) {
+        Map<String, Schema> schemas = preparedContract.openAPI().getComponents().getSchemas();
+        if (Objects.isNull(schemas)) {
+            return;
+        }
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(generationContext);
+        for (Schema<?> schema : schemas.values()) {
+            blackhole.consume(typesGenerator.generateTypeDescriptorNodeForOASSchema(schema, false));
+        }
+    }
+
+    @Benchmark
+    public SyntaxTree generateClient() throws BallerinaOpenApiException, ClientException {
+        return createClientGenerator().generateSyntaxTree();
+    }
+
+    /**
+     * Runs the whole client generation as done by `bal openapi`, including the util and types files and the
+     * formatting of the generated sources.
+     */
+    @Benchmark
+    public void generateClientSources(Blackhole blackhole) throws BallerinaOpenApiException, ClientException,
+            IOException, FormatterException {
+        BallerinaClientGenerator clientGenerator = createClientGenerator();
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        TypeHandler typeHandler = generationContext.getTypeHandler();
+        for (TypeDefinitionNode typeDef : clientGenerator.getBallerinaAuthConfigGenerator()
+                .getAuthRelatedTypeDefinitionNodes()) {
+            typeHandler.addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+        }
+        blackhole.consume(Formatter.format(clientSyntaxTree).toSourceCode());
+        blackhole.consume(Formatter.format(clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree())
+                .toSourceCode());
+        blackhole.consume(Formatter.format(typeHandler.generateTypeSyntaxTree()).toSourceCode());
+    }
+
+    private BallerinaClientGenerator createClientGenerator() {
+        OASClientConfig clientConfig = new OASClientConfig.Builder()
+                .withOpenAPI(preparedContract.openAPI())
+                .withResourceMode(preparedContract.resourceMode())
+                .build();
+        return new BallerinaClientGenerator(clientConfig, generationContext);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.InlineModelResolver;
+import io.ballerina.openapi.core.generators.common.OASModifier;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the normalization stages which modify the parsed OpenAPI definition before the code generation. Since
+ * these stages modify the definition in place, each invocation works on a freshly parsed definition.
+ *
+ * @since 2.3.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class NormalizationBenchmark {
+
+    @Param({"stripe", "jira", "box", "vimeo", "sendgrid", "files.com"})
+    public String contract;
+
+    private OpenAPI openAPI;
+    private boolean resourceMode;
+
+    @Setup(Level.Invocation)
+    public void setup() throws IOException, BallerinaOpenApiException {
+        openAPI = BenchmarkContracts.parse(contract);
+        resourceMode = GeneratorUtils.getComplexPaths(openAPI).isEmpty();
+    }
+
+    @Benchmark
+    public OpenAPI normalize() throws BallerinaOpenApiException {
+        return GeneratorUtils.normalizeOpenAPI(openAPI, !resourceMode, false);
+    }
+
+    @Benchmark
+    public OpenAPI flatten() {
+        new InlineModelResolver(true, false).flatten(openAPI);
+        return openAPI;
+    }
+
+    @Benchmark
+    public OpenAPI sanitize() throws BallerinaOpenApiException {
+        return new OASModifier().modify(openAPI);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.service.mapper.ServiceMapperFactory;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.diagnostic.OpenAPIMapperDiagnostic;
+import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
+import io.ballerina.openapi.service.mapper.model.OASGenerationMetaInfo;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.openapi.service.mapper.model.ResourceFunction;
+import io.ballerina.openapi.service.mapper.model.ResourceFunctionDeclaration;
+import io.ballerina.openapi.service.mapper.model.ResourceFunctionDefinition;
+import io.ballerina.openapi.service.mapper.model.ServiceNode;
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the Ballerina service to OpenAPI export. The end to end generation as well as each mapping stage and the
+ * final serialization are measured against synthetic services of varying size, record graph depth and interceptor
+ * pipeline length. The services are compiled once per trial, so the compilation is not part of the measurement.
+ *
+ * @since 2.3.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ServiceExportBenchmark {
+
+    /**
+     * Holds the compiled synthetic service shared by all the benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SyntheticService {
+
+        @Param({"10", "100", "500", "2000"})
+        public int resources;
+
+        @Param({"4", "16"})
+        public int recordDepth;
+
+        @Param({"0", "4"})
+        public int interceptors;
+
+        private Path packagePath;
+        private Path ballerinaFilePath;
+        private Project project;
+        private SemanticModel semanticModel;
+        private ServiceNode serviceNode;
+        private ModuleMemberVisitor moduleMemberVisitor;
+        private TypeSymbol rootRecordType;
+        private OpenAPI exportedOpenAPI;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            packagePath = SyntheticServicePackage.create(resources, recordDepth, interceptors);
+            ballerinaFilePath = packagePath.resolve(SyntheticServicePackage.MAIN_FILE);
+            project = ProjectLoader.loadProject(packagePath);
+            PackageCompilation compilation = project.currentPackage().getCompilation();
+            DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+            if (diagnosticResult.hasErrors()) {
+                throw new IllegalStateException("synthetic service does not compile: " +
+                        diagnosticResult.errors().stream().map(Diagnostic::toString)
+                                .collect(Collectors.joining(System.lineSeparator())));
+            }
+            Module module = project.currentPackage().getDefaultModule();
+            semanticModel = compilation.getSemanticModel(module.moduleId());
+            moduleMemberVisitor = ServiceToOpenAPIMapper.extractNodesFromProject(project, semanticModel);
+            serviceNode = findServiceNode(module);
+            rootRecordType = findRootRecordType();
+            exportedOpenAPI = generateOAS(this).getOpenAPI()
+                    .orElseThrow(() -> new IllegalStateException("synthetic service export failed"));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            SyntheticServicePackage.delete(packagePath);
+        }
+
+        private ServiceNode findServiceNode(Module module) {
+            for (Document document : module.documentIds().stream().map(module::document).toList()) {
+                ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+                for (Node member : modulePartNode.members()) {
+                    Optional<ServiceNode> service = ServiceToOpenAPIMapper.getServiceNode(member, semanticModel);
+                    if (service.isPresent()) {
+                        return service.get();
+                    }
+                }
+            }
+            throw new IllegalStateException("synthetic service not found in " + packagePath);
+        }
+
+        private TypeSymbol findRootRecordType() {
+            for (Symbol symbol : semanticModel.moduleSymbols()) {
+                if (symbol.kind() == SymbolKind.TYPE_DEFINITION &&
+                        symbol.getName().filter(SyntheticServicePackage.ROOT_RECORD::equals).isPresent()) {
+                    return ((TypeDefinitionSymbol) symbol).typeDescriptor();
+                }
+            }
+            throw new IllegalStateException("record '" + SyntheticServicePackage.ROOT_RECORD + "' not found");
+        }
+
+        private List<ResourceFunction> resourceFunctions() {
+            List<ResourceFunction> resourceFunctions = new ArrayList<>();
+            for (Node member : serviceNode.members()) {
+                if (member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                    resourceFunctions.add(new ResourceFunctionDefinition((FunctionDefinitionNode) member));
+                } else if (member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DECLARATION) {
+                    resourceFunctions.add(new ResourceFunctionDeclaration((MethodDeclarationNode) member));
+                }
+            }
+            return resourceFunctions;
+        }
+    }
+
+    /**
+     * Holds a fresh mapper factory over an empty OpenAPI definition for each invocation.
+     */
+    @State(Scope.Thread)
+    public static class EmptyExport {
+
+        private OpenAPI openAPI;
+        private ServiceMapperFactory mapperFactory;
+        private List<ResourceFunction> resourceFunctions;
+
+        @Setup(Level.Invocation)
+        public void setup(SyntheticService service) {
+            openAPI = newOpenAPI();
+            mapperFactory = newMapperFactory(service, openAPI);
+            resourceFunctions = service.resourceFunctions();
+        }
+    }
+
+    /**
+     * Holds a mapper factory whose OpenAPI definition already contains the mapped resources, so that the stages
+     * running after the resource mapping can be measured in isolation.
+     */
+    @State(Scope.Thread)
+    public static class MappedExport {
+
+        private OpenAPI openAPI;
+        private ServiceMapperFactory mapperFactory;
+
+        @Setup(Level.Invocation)
+        public void setup(SyntheticService service) {
+            openAPI = newOpenAPI();
+            mapperFactory = newMapperFactory(service, openAPI);
+            mapperFactory.getResourceMapper(service.resourceFunctions()).setOperation();
+        }
+    }
+
+    @Benchmark
+    public OASResult generateOAS(SyntheticService service) {
+        OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
+                new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder()
+                        .setServiceNode(service.serviceNode)
+                        .setSemanticModel(service.semanticModel)
+                        .setOpenApiFileName("synthetic_openapi.yaml")
+                        .setBallerinaFilePath(service.ballerinaFilePath)
+                        .setModuleMemberVisitor(service.moduleMemberVisitor);
+        builder.setProject(service.project);
+        return ServiceToOpenAPIMapper.generateOAS(builder.build());
+    }
+
+    @Benchmark
+    public ModuleMemberVisitor extractModuleMembers(SyntheticService service) {
+        return ServiceToOpenAPIMapper.extractNodesFromProject(service.project, service.semanticModel);
+    }
+
+    @Benchmark
+    public OpenAPI mapResources(EmptyExport export) {
+        export.mapperFactory.getResourceMapper(export.resourceFunctions).setOperation();
+        return export.openAPI;
+    }
+
+    @Benchmark
+    public Schema mapRecordGraph(SyntheticService service, EmptyExport export) {
+        return export.mapperFactory.getTypeMapper().getTypeSchema(service.rootRecordType);
+    }
+
+    @Benchmark
+    public OpenAPI mapConstraints(MappedExport export) {
+        export.mapperFactory.getConstraintMapper().setConstraints();
+        return export.openAPI;
+    }
+
+    @Benchmark
+    public OpenAPI mapHateoasLinks(SyntheticService service, MappedExport export) {
+        export.mapperFactory.getHateoasMapper().setOpenApiLinks(service.serviceNode, export.openAPI);
+        return export.openAPI;
+    }
+
+    @Benchmark
+    public OpenAPI mapMetaInfo(SyntheticService service, MappedExport export) {
+        export.mapperFactory.getMetaInfoMapper().setResourceMetaData(export.openAPI, service.serviceNode,
+                service.ballerinaFilePath);
+        return export.openAPI;
+    }
+
+    @Benchmark
+    public OpenAPI mapExamples(MappedExport export) {
+        export.mapperFactory.getExampleMapper().setExamples();
+        return export.openAPI;
+    }
+
+    @Benchmark
+    public Optional<String> serializeYaml(SyntheticService service) {
+        return new OASResult(service.exportedOpenAPI, List.of()).getYaml();
+    }
+
+    @Benchmark
+    public Optional<String> serializeJson(SyntheticService service) {
+        return new OASResult(service.exportedOpenAPI, List.of()).getJson();
+    }
+
+    private static OASResult generateOAS(SyntheticService service) {
+        return new ServiceExportBenchmark().generateOAS(service);
+    }
+
+    private static OpenAPI newOpenAPI() {
+        return new OpenAPI().info(new Info().title("Synthetic Service").version("0.1.0"));
+    }
+
+    private static ServiceMapperFactory newMapperFactory(SyntheticService service, OpenAPI openAPI) {
+        List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
+        return new ServiceMapperFactory(openAPI, service.semanticModel, service.moduleMemberVisitor, diagnostics,
+                service.serviceNode, true);
+    }
+}
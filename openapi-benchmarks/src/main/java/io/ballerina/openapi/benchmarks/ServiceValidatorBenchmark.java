@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.service.ServiceGenerationHandler;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.validator.OpenAPIContractCache;
+import io.ballerina.openapi.validator.ServiceValidator;
+import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the OpenAPI validator against a service generated from a large contract, in the same way as the
+ * compiler plugin validates a service annotated with the contract. The service is generated with `bal openapi` service
+ * generation and compiled once per trial, so that only the validation of the service is measured. The contracts are
+ * the ones whose generated services are known to compile.
+ *
+ * @since 2.3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceValidatorBenchmark {
+
+    private static final String SERVICE_FILE = "service.bal";
+    private static final String BALLERINA_TOML = """
+            [package]
+            org = "benchmarks"
+            name = "validated_service"
+            version = "0.1.0"
+            """;
+
+    @Param({"stripe", "vimeo", "files.com"})
+    public String contract;
+
+    private Path packagePath;
+    private OpenAPI openAPI;
+    private Filter filter;
+    private Node serviceNode;
+    private ModuleId moduleId;
+    private Document document;
+    private PackageCompilation compilation;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path contractPath = BenchmarkContracts.resolve(contract);
+        openAPI = new OpenAPIContractCache(1, Long.MAX_VALUE).getOpenAPI(contractPath);
+        if (openAPI == null) {
+            throw new IllegalStateException("unable to parse the benchmark contract: " + contract);
+        }
+        filter = new Filter.FilterBuilder().build();
+
+        packagePath = Files.createTempDirectory("openapi-benchmark-validator");
+        Files.writeString(packagePath.resolve("Ballerina.toml"), BALLERINA_TOML, StandardCharsets.UTF_8);
+        Files.writeString(packagePath.resolve(SERVICE_FILE), generateService(contractPath), StandardCharsets.UTF_8);
+        Project project = ProjectLoader.loadProject(packagePath);
+        compilation = project.currentPackage().getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        if (diagnosticResult.hasErrors()) {
+            throw new IllegalStateException("generated service does not compile: " +
+                    diagnosticResult.errors().stream().map(Diagnostic::toString)
+                            .collect(Collectors.joining(System.lineSeparator())));
+        }
+        Module module = project.currentPackage().getDefaultModule();
+        moduleId = module.moduleId();
+        DocumentId documentId = module.documentIds().iterator().next();
+        document = module.document(documentId);
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        for (Node member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                serviceNode = member;
+                break;
+            }
+        }
+        if (serviceNode == null) {
+            throw new IllegalStateException("generated service not found in " + packagePath);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticServicePackage.delete(packagePath);
+    }
+
+    /**
+     * Validates the service in the same way as the service analysis task of the compiler plugin, once the contract
+     * is parsed and the annotation is checked.
+     */
+    @Benchmark
+    public List<Diagnostic> validate() {
+        BenchmarkAnalysisContext analysisContext = new BenchmarkAnalysisContext(this);
+        ServiceValidator serviceValidator = new ServiceValidator();
+        serviceValidator.initialize(analysisContext, openAPI, filter);
+        serviceValidator.validate();
+        return analysisContext.diagnostics;
+    }
+
+    /**
+     * Generates the service and the types of the given contract into a single source. The generated resources have
+     * empty bodies, hence they are made to panic so that the resources with return types compile.
+     */
+    private static String generateService(Path contractPath) throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        OpenAPI normalizedOpenAPI = GeneratorUtils.normalizeOpenAPI(contractPath, true, false);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(normalizedOpenAPI)
+                .withFilters(new io.ballerina.openapi.core.generators.common.model.Filter(new ArrayList<>(),
+                        new ArrayList<>()))
+                .withNullable(false)
+                .withGenerateServiceType(false)
+                .withGenerateWithoutDataBinding(false)
+                .build();
+        GenerationContext generationContext = GenerationContext.create(normalizedOpenAPI, false);
+        SyntaxTree serviceSyntaxTree = new ServiceGenerationHandler(generationContext)
+                .generateSingleSyntaxTree(oasServiceMetadata);
+        SyntaxTree syntaxTree = SingleFileGenerator.combineSyntaxTrees(serviceSyntaxTree,
+                generationContext.getTypeHandler().generateTypeSyntaxTree());
+        return Formatter.format(syntaxTree).toSourceCode().replaceAll(
+                "\\{" + System.lineSeparator() + "\\s*\\}", "{panic error(\"not implemented\");}");
+    }
+
+    /**
+     * Analysis context of the generated service, which collects the reported diagnostics instead of adding them to
+     * the compilation.
+     */
+    private static final class BenchmarkAnalysisContext implements SyntaxNodeAnalysisContext {
+
+        private final ServiceValidatorBenchmark benchmark;
+        private final List<Diagnostic> diagnostics = new ArrayList<>();
+
+        BenchmarkAnalysisContext(ServiceValidatorBenchmark benchmark) {
+            this.benchmark = benchmark;
+        }
+
+        @Override
+        public Node node() {
+            return benchmark.serviceNode;
+        }
+
+        @Override
+        public ModuleId moduleId() {
+            return benchmark.moduleId;
+        }
+
+        @Override
+        public DocumentId documentId() {
+            return benchmark.document.documentId();
+        }
+
+        @Override
+        public SyntaxTree syntaxTree() {
+            return benchmark.document.syntaxTree();
+        }
+
+        @Override
+        public SemanticModel semanticModel() {
+            return benchmark.compilation.getSemanticModel(benchmark.moduleId);
+        }
+
+        @Override
+        public Package currentPackage() {
+            return benchmark.document.module().packageInstance();
+        }
+
+        @Override
+        public PackageCompilation compilation() {
+            return benchmark.compilation;
+        }
+
+        @Override
+        public void reportDiagnostic(Diagnostic diagnostic) {
+            diagnostics.add(diagnostic);
+        }
+    }
+}
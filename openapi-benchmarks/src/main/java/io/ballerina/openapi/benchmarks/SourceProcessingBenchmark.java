@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.benchmarks.BenchmarkContracts.PreparedContract;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.constraint.ConstraintGeneratorImp;
+import io.ballerina.openapi.core.generators.constraint.ConstraintResult;
+import io.ballerina.openapi.core.generators.document.ClientDocCommentGenerator;
+import io.ballerina.openapi.core.generators.document.TypesDocCommentGenerator;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the stages which post-process the generated syntax trees: the constraint annotations, the doc comments
+ * and the formatting. The syntax trees are generated once per trial and these stages do not modify them.
+ *
+ * @since 2.3.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SourceProcessingBenchmark {
+
+    @Param({"stripe", "jira", "box", "vimeo", "sendgrid", "files.com"})
+    public String contract;
+
+    private PreparedContract preparedContract;
+    private GenerationContext generationContext;
+    private SyntaxTree clientSyntaxTree;
+    private SyntaxTree typesSyntaxTree;
+    // Type definitions without the constraint annotations, which are the input of the constraint generator
+    private HashMap<String, TypeDefinitionNode> typeDefinitions;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, BallerinaOpenApiException, ClientException {
+        preparedContract = BenchmarkContracts.prepare(contract);
+        generationContext = GenerationContext.create(preparedContract.openAPI(), false);
+        clientSyntaxTree = createClientGenerator(generationContext).generateSyntaxTree();
+        typesSyntaxTree = generationContext.getTypeHandler().generateTypeSyntaxTree();
+
+        // Constraints are not added to the types of a nullable generation
+        GenerationContext nullableContext = GenerationContext.create(preparedContract.openAPI(), true);
+        createClientGenerator(nullableContext).generateSyntaxTree();
+        ModulePartNode typesModule = nullableContext.getTypeHandler().generateTypeSyntaxTree().rootNode();
+        typeDefinitions = new HashMap<>();
+        for (ModuleMemberDeclarationNode member : typesModule.members()) {
+            if (member instanceof TypeDefinitionNode typeDefinition) {
+                typeDefinitions.put(typeDefinition.typeName().text(), typeDefinition);
+            }
+        }
+    }
+
+    @Benchmark
+    public ConstraintResult generateConstraints() {
+        try (GenerationContext.Scope ignored = generationContext.attach()) {
+            return new ConstraintGeneratorImp(preparedContract.openAPI(), new HashMap<>(typeDefinitions))
+                    .updateTypeDefinitionsWithConstraints();
+        }
+    }
+
+    @Benchmark
+    public SyntaxTree generateClientDocComments() {
+        return new ClientDocCommentGenerator(clientSyntaxTree, preparedContract.openAPI(),
+                preparedContract.resourceMode()).updateSyntaxTreeWithDocComments();
+    }
+
+    @Benchmark
+    public SyntaxTree generateTypesDocComments() {
+        return new TypesDocCommentGenerator(typesSyntaxTree, preparedContract.openAPI())
+                .updateSyntaxTreeWithDocComments();
+    }
+
+    @Benchmark
+    public SyntaxTree formatClient() throws FormatterException {
+        return Formatter.format(clientSyntaxTree);
+    }
+
+    @Benchmark
+    public SyntaxTree formatTypes() throws FormatterException {
+        return Formatter.format(typesSyntaxTree);
+    }
+
+    private BallerinaClientGenerator createClientGenerator(GenerationContext context) {
+        OASClientConfig clientConfig = new OASClientConfig.Builder()
+                .withOpenAPI(preparedContract.openAPI())
+                .withResourceMode(preparedContract.resourceMode())
+                .withNullable(context.getGeneratorMetaData().isNullable())
+                .build();
+        return new BallerinaClientGenerator(clientConfig, context);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a synthetic Ballerina package with a single HTTP service to be used by the service export benchmarks. The
+ * shape of the service is controlled by the number of resources, the depth of the record graph referred by the
+ * resources and the number of interceptors in the service pipeline.
+ *
+ * @since 2.3.2
+ */
+final class SyntheticServicePackage {
+
+    static final String MAIN_FILE = "main.bal";
+    static final String ROOT_RECORD = "Record0";
+
+    private static final String BALLERINA_TOML = """
+            [package]
+            org = "benchmarks"
+            name = "synthetic_service"
+            version = "0.1.0"
+            """;
+
+    private SyntheticServicePackage() {
+    }
+
+    /**
+     * Writes the package into a new temporary directory.
+     *
+     * @param resources    number of resource functions in the service
+     * @param recordDepth  depth of the record graph used by the payloads
+     * @param interceptors number of interceptors in the service pipeline
+     * @return the root directory of the package
+     */
+    static Path create(int resources, int recordDepth, int interceptors) throws IOException {
+        if (resources < 1 || recordDepth < 1 || interceptors < 0) {
+            throw new IllegalArgumentException("invalid synthetic service shape: resources=" + resources +
+                    ", recordDepth=" + recordDepth + ", interceptors=" + interceptors);
+        }
+        Path packagePath = Files.createTempDirectory("openapi-benchmark-service");
+        Files.writeString(packagePath.resolve("Ballerina.toml"), BALLERINA_TOML, StandardCharsets.UTF_8);
+        Files.writeString(packagePath.resolve(MAIN_FILE), source(resources, recordDepth, interceptors),
+                StandardCharsets.UTF_8);
+        return packagePath;
+    }
+
+    static void delete(Path packagePath) throws IOException {
+        if (packagePath == null || !Files.exists(packagePath)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(packagePath)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    static String source(int resources, int recordDepth, int interceptors) {
+        StringBuilder source = new StringBuilder();
+        source.append("import ballerina/constraint;\n")
+                .append("import ballerina/http;\n\n")
+                .append("public enum Status {\n    ACTIVE,\n    INACTIVE\n}\n\n")
+                .append("public type ErrorBody record {|\n    string message;\n    int code;\n|};\n\n")
+                .append("public type ItemNotFound record {|\n    *http:NotFound;\n    ErrorBody body;\n|};\n\n");
+        appendRecords(source, recordDepth);
+        appendInterceptors(source, interceptors);
+        appendService(source, resources, recordDepth, interceptors);
+        return source.toString();
+    }
+
+    private static void appendRecords(StringBuilder source, int recordDepth) {
+        for (int level = 0; level < recordDepth; level++) {
+            source.append("# Record at level ").append(level).append(" of the synthetic record graph.\n")
+                    .append("public type Record").append(level).append(" record {|\n")
+                    .append("    # Name of the record\n")
+                    .append("    @constraint:String {minLength: 1, maxLength: 64}\n")
+                    .append("    string name;\n")
+                    .append("    @constraint:Int {minValue: 0, maxValue: 1000}\n")
+                    .append("    int count;\n")
+                    .append("    decimal? amount;\n")
+                    .append("    Status status;\n")
+                    .append("    @constraint:Array {maxLength: 16}\n")
+                    .append("    string[] tags;\n")
+                    .append("    map<string> attributes;\n");
+            if (level + 1 < recordDepth) {
+                source.append("    Record").append(level + 1).append(" child;\n")
+                        .append("    Record").append(level + 1).append("[] children?;\n");
+            } else {
+                source.append("    ").append(ROOT_RECORD).append("? root;\n");
+            }
+            source.append("|};\n\n");
+        }
+    }
+
+    private static void appendInterceptors(StringBuilder source, int interceptors) {
+        for (int i = 0; i < interceptors; i++) {
+            if (i % 2 == 0) {
+                source.append("service class RequestInterceptor").append(i).append(" {\n")
+                        .append("    *http:RequestInterceptor;\n\n")
+                        .append("    resource function 'default [string... path](http:RequestContext ctx)\n")
+                        .append("            returns http:NextService|ItemNotFound|error? {\n")
+                        .append("        return ctx.next();\n")
+                        .append("    }\n")
+                        .append("}\n\n");
+            } else {
+                source.append("service class ResponseInterceptor").append(i).append(" {\n")
+                        .append("    *http:ResponseInterceptor;\n\n")
+                        .append("    remote function interceptResponse(http:RequestContext ctx)\n")
+                        .append("            returns http:NextService|http:InternalServerError|error? {\n")
+                        .append("        return ctx.next();\n")
+                        .append("    }\n")
+                        .append("}\n\n");
+            }
+        }
+    }
+
+    private static void appendService(StringBuilder source, int resources, int recordDepth, int interceptors) {
+        if (interceptors > 0) {
+            StringBuilder types = new StringBuilder();
+            StringBuilder values = new StringBuilder();
+            for (int i = 0; i < interceptors; i++) {
+                String name = (i % 2 == 0 ? "RequestInterceptor" : "ResponseInterceptor") + i;
+                types.append(i == 0 ? "" : ", ").append(name);
+                values.append(i == 0 ? "" : ", ").append("new ").append(name).append("()");
+            }
+            source.append("service http:InterceptableService /api on new http:Listener(9090) {\n\n")
+                    .append("    public function createInterceptors() returns [").append(types).append("] {\n")
+                    .append("        return [").append(values).append("];\n")
+                    .append("    }\n");
+        } else {
+            source.append("service /api on new http:Listener(9090) {\n");
+        }
+        String payload = "Record" + recordDepth / 2;
+        for (int i = 0; i < resources; i++) {
+            source.append('\n');
+            switch (i % 4) {
+                case 0 -> source.append("    # Returns the item ").append(i).append(".\n")
+                        .append("    #\n")
+                        .append("    # + id - Identifier of the item\n")
+                        .append("    # + filter - Filter applied to the item\n")
+                        .append("    # + return - The item or a not found response\n")
+                        .append("    @http:ResourceConfig {name: \"Item").append(i).append("\"}\n")
+                        .append("    resource function get items").append(i)
+                        .append("/[int id](string? filter, int 'limit = 10) returns ")
+                        .append(ROOT_RECORD).append("|ItemNotFound {\n")
+                        .append("        ItemNotFound notFound = {body: {message: \"not found\", code: 404}};\n")
+                        .append("        return notFound;\n")
+                        .append("    }\n");
+                case 1 -> source.append("    # Creates the item ").append(i).append(".\n")
+                        .append("    #\n")
+                        .append("    # + payload - The item to be created\n")
+                        .append("    # + return - The created response\n")
+                        .append("    @http:ResourceConfig {linkedTo: [{name: \"Item").append(i - 1)
+                        .append("\", relation: \"item\", method: \"get\"}]}\n")
+                        .append("    resource function post items").append(i).append("(@http:Payload ")
+                        .append(ROOT_RECORD).append(" payload) returns http:Created|http:BadRequest {\n")
+                        .append("        return http:CREATED;\n")
+                        .append("    }\n");
+                case 2 -> source.append("    # Replaces the items under the key.\n")
+                        .append("    #\n")
+                        .append("    # + key - Key of the items\n")
+                        .append("    # + requestId - Identifier of the request\n")
+                        .append("    # + payload - The replacement items\n")
+                        .append("    # + return - The stored items\n")
+                        .append("    resource function put items").append(i)
+                        .append("/[string key](@http:Header {name: \"x-request-id\"} string? requestId, ")
+                        .append(payload).append("[] payload) returns ").append(payload).append("[]|error {\n")
+                        .append("        return payload;\n")
+                        .append("    }\n");
+                default -> source.append("    # Deletes the item ").append(i).append(".\n")
+                        .append("    #\n")
+                        .append("    # + id - Identifier of the item\n")
+                        .append("    # + return - The no content response\n")
+                        .append("    resource function delete items").append(i)
+                        .append("/[int id]() returns http:NoContent|http:InternalServerError {\n")
+                        .append("        return http:NO_CONTENT;\n")
+                        .append("    }\n");
+            }
+        }
+        source.append("}\n");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.validator.OpenAPIContractCache;
+import io.ballerina.openapi.validator.ValidatorUtils;
+import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.openapi.validator.model.OpenAPIPathIndex;
+import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the path and method matching of the OpenAPI validator against a service implementing every operation
+ * of the contract. The matching is a lookup per resource method, so the time should grow linearly with the number of
+ * operations in the contract.
+ *
+ * @since 2.3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorPathIndexBenchmark {
+
+    @Param({"stripe", "jira", "box", "vimeo", "sendgrid", "files.com"})
+    public String contract;
+
+    private OpenAPI openAPI;
+    private Filter filter;
+    private OpenAPIPathIndex pathIndex;
+    private List<String[]> resourceMethods;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        openAPI = new OpenAPIContractCache(1, Long.MAX_VALUE).getOpenAPI(BenchmarkContracts.resolve(contract));
+        if (openAPI == null) {
+            throw new IllegalStateException("unable to parse the benchmark contract: " + contract);
+        }
+        filter = new Filter.FilterBuilder().build();
+        pathIndex = ValidatorUtils.summarizeOpenAPI(openAPI, null, filter);
+        resourceMethods = new ArrayList<>();
+        for (OpenAPIPathSummary pathSummary : pathIndex.getPaths()) {
+            for (String method : pathSummary.getOperations().keySet()) {
+                resourceMethods.add(new String[]{pathSummary.getPath(), method});
+            }
+        }
+    }
+
+    @Benchmark
+    public OpenAPIPathIndex summarize() {
+        return ValidatorUtils.summarizeOpenAPI(openAPI, null, filter);
+    }
+
+    @Benchmark
+    public void matchResources(Blackhole blackhole) {
+        for (String[] resourceMethod : resourceMethods) {
+            blackhole.consume(pathIndex.getOperation(resourceMethod[0], resourceMethod[1]));
+        }
+    }
+
+    @Benchmark
+    public void summarizeAndMatch(Blackhole blackhole) {
+        OpenAPIPathIndex index = ValidatorUtils.summarizeOpenAPI(openAPI, null, filter);
+        for (String[] resourceMethod : resourceMethods) {
+            blackhole.consume(index.getOperation(resourceMethod[0], resourceMethod[1]));
+        }
+    }
+}
@@ -28,33 +28,44 @@ import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
 import io.ballerina.openapi.service.mapper.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.service.mapper.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.service.mapper.diagnostic.OpenAPIMapperDiagnostic;
+import io.ballerina.openapi.service.mapper.metainfo.ExampleFileCache;
+import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
 import io.ballerina.openapi.service.mapper.model.OASGenerationMetaInfo;
 import io.ballerina.openapi.service.mapper.model.OASResult;
 import io.ballerina.openapi.service.mapper.model.ServiceDeclaration;
-import io.ballerina.openapi.service.mapper.model.ServiceNode;
 import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
-import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.projects.plugins.CompilationAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import static io.ballerina.openapi.build.PluginConstants.OAS_PATH_SEPARATOR;
+import static io.ballerina.openapi.build.PluginConstants.EXPORT_PARALLELISM;
 import static io.ballerina.openapi.build.PluginConstants.OPENAPI;
 import static io.ballerina.openapi.build.PluginConstants.UNDERSCORE;
 import static io.ballerina.openapi.service.mapper.Constants.HYPHEN;
@@ -62,37 +73,31 @@ import static io.ballerina.openapi.service.mapper.Constants.OPENAPI_SUFFIX;
 import static io.ballerina.openapi.service.mapper.Constants.SLASH;
 import static io.ballerina.openapi.service.mapper.Constants.YAML_EXTENSION;
 import static io.ballerina.openapi.service.mapper.utils.CodegenUtils.resolveContractFileName;
-import static io.ballerina.openapi.service.mapper.utils.CodegenUtils.writeFile;
+import static io.ballerina.openapi.service.mapper.utils.CodegenUtils.writeFileAtomically;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.containErrors;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getNormalizedFileName;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.isHttpService;
 
 /**
- * SyntaxNodeAnalyzer for getting all service node.
+ * Compilation analysis task exporting the OpenAPI contracts of all the HTTP services of the package.
+ * <p>
+ * The package is processed in a single pass per compilation: the compilation diagnostics are checked once, each
+ * module is scanned once for its services and its members, and the contracts of the services are generated together,
+ * optionally in parallel as set by the {@value PluginConstants#EXPORT_PARALLELISM} system property. The contracts are
+ * serialized and written on a separate thread while the next module is generated, and each file is replaced
+ * atomically.
+ * <p>
+ * As the task runs once per compilation, a package with compilation errors gets the skipped generation notice once
+ * per compilation, however many services it has. Services with the same base path in different files of the package
+ * no longer overwrite each other's contract: the later ones are written to {@code <name>_openapi.<count>.yaml}, the
+ * same form as the duplicate contracts of {@code bal openapi}.
  *
  * @since 2.0.0
  */
-public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
-    static boolean isErrorPrinted = false;
-
-    static void setIsWarningPrinted() {
-        HttpServiceAnalysisTask.isErrorPrinted = true;
-    }
+public class HttpServiceAnalysisTask implements AnalysisTask<CompilationAnalysisContext> {
 
     @Override
-    public void perform(SyntaxNodeAnalysisContext context) {
-        ModuleId moduleId = context.moduleId();
-        DocumentId documentId = context.documentId();
-        Module currentModule = context.currentPackage() != null ? context.currentPackage().module(moduleId) : null;
-
-        if (moduleId != null && documentId != null && currentModule != null &&
-                currentModule.testDocumentIds() != null &&
-                currentModule.testDocumentIds().contains(documentId)) {
-            // Skip test documents
-            return;
-        }
-        SemanticModel semanticModel = context.semanticModel();
-        SyntaxTree syntaxTree = context.syntaxTree();
+    public void perform(CompilationAnalysisContext context) {
         Package currentPackage = context.currentPackage();
         Project project = currentPackage.project();
         //Used build option exportOpenapi() to enable plugin at the build time.
@@ -100,49 +105,113 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         if (!buildOptions.exportOpenAPI()) {
             return;
         }
-        boolean hasErrors = context.compilation().diagnosticResult()
+        PackageCompilation compilation = context.compilation();
+        boolean hasErrors = compilation.diagnosticResult()
                 .diagnostics().stream()
                 .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
 
         // if there are any compilation errors, do not proceed
         if (hasErrors) {
-            if (!isErrorPrinted) {
-                setIsWarningPrinted();
-                PrintStream outStream = System.out;
-                outStream.println("openapi contract generation is skipped because of the following compilation " +
-                        "error(s) in the ballerina package:");
-            }
+            PrintStream outStream = System.out;
+            outStream.println("openapi contract generation is skipped because of the following compilation " +
+                    "error(s) in the ballerina package:");
             return;
         }
 
-        Path outPath = project.targetDir();
-        Optional<Path> path = currentPackage.project().documentPath(context.documentId());
-        Path inputPath = path.orElse(null);
-        ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
-        Map<Integer, String> services = new HashMap<>();
+        Path outPath = project.targetDir().resolve(OPENAPI);
+        int parallelism = Math.max(1, Integer.getInteger(EXPORT_PARALLELISM, 1));
         List<Diagnostic> diagnostics = new ArrayList<>();
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        // The files are written asynchronously, hence the names taken by this build are tracked here
+        Set<String> reservedFileNames = new HashSet<>();
+        // Resource example files are parsed once for all the services of the package
+        ExampleFileCache exampleFileCache = new ExampleFileCache();
+        ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "openapi-contract-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (ModuleId moduleId : currentPackage.moduleIds()) {
+                Module module = currentPackage.module(moduleId);
+                SemanticModel semanticModel = compilation.getSemanticModel(moduleId);
+                // Spec generation won't proceed, If diagnostic includes error type.
+                if (containErrors(semanticModel.diagnostics())) {
+                    diagnostics.addAll(semanticModel.diagnostics());
+                    continue;
+                }
+                List<OASGenerationMetaInfo> services = new ArrayList<>();
+                List<String> serviceNames = new ArrayList<>();
+                collectServices(project, module, semanticModel, exampleFileCache, services, serviceNames);
+                if (services.isEmpty()) {
+                    continue;
+                }
+                List<OASResult> oasResults = ServiceToOpenAPIMapper.generateOAS(services, parallelism);
+                for (int i = 0; i < oasResults.size(); i++) {
+                    OASResult oasResult = oasResults.get(i);
+                    oasResult.setServiceName(serviceNames.get(i));
+                    addDiagnostics(oasResult, diagnostics);
+                    if (oasResult.getOpenAPI().isEmpty()) {
+                        continue;
+                    }
+                    String fileName = reserveFileName(resolveContractFileName(outPath, oasResult.getServiceName(),
+                            false), reservedFileNames);
+                    writes.add(writeOpenAPIYaml(outPath.resolve(fileName), oasResult, writer));
+                }
+            }
+            for (CompletableFuture<Void> write : writes) {
+                try {
+                    write.join();
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() instanceof UncheckedIOException ioException ?
+                            ioException.getCause() : e.getCause();
+                    String message = Objects.nonNull(cause.getMessage()) ? cause.getMessage() : cause.toString();
+                    ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_108,
+                            message);
+                    diagnostics.add(BuildExtensionUtil.getDiagnostics(diagnostic));
+                }
+            }
+        } finally {
+            writer.shutdown();
+        }
+        for (Diagnostic diagnostic : diagnostics) {
+            context.reportDiagnostic(diagnostic);
+        }
+    }
 
-        // Spec generation won't proceed, If diagnostic includes error type.
-        if (containErrors(semanticModel.diagnostics())) {
-            diagnostics.addAll(semanticModel.diagnostics());
-        } else if (isHttpService(serviceNode, semanticModel)) {
-            Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
-            if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol) {
-                extractServiceNodes(syntaxTree.rootNode(), services, semanticModel);
+    /**
+     * Collects the HTTP services of the non-test documents of the given module. The module members are extracted
+     * once and shared by all the services of the module.
+     */
+    private static void collectServices(Project project, Module module, SemanticModel semanticModel,
+                                        ExampleFileCache exampleFileCache, List<OASGenerationMetaInfo> services,
+                                        List<String> serviceNames) {
+        ModuleMemberVisitor moduleMemberVisitor = null;
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            SyntaxTree syntaxTree = document.syntaxTree();
+            Path inputPath = project.documentPath(documentId).orElse(null);
+            Map<Integer, String> serviceFileNames = new HashMap<>();
+            List<ServiceDeclarationNode> serviceNodes = extractServiceNodes(syntaxTree.rootNode(), serviceFileNames,
+                    semanticModel);
+            for (ServiceDeclarationNode serviceNode : serviceNodes) {
+                Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
+                if (serviceSymbol.isEmpty()) {
+                    continue;
+                }
+                if (moduleMemberVisitor == null) {
+                    moduleMemberVisitor = ServiceToOpenAPIMapper.extractNodesFromProject(project, semanticModel);
+                }
                 OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
                         new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
-                ServiceNode service = new ServiceDeclaration(serviceNode, semanticModel);
-                builder.setServiceNode(service).setSemanticModel(semanticModel)
-                        .setOpenApiFileName(services.get(serviceSymbol.get().hashCode()))
+                builder.setServiceNode(new ServiceDeclaration(serviceNode, semanticModel))
+                        .setSemanticModel(semanticModel)
+                        .setOpenApiFileName(serviceFileNames.get(serviceSymbol.get().hashCode()))
                         .setBallerinaFilePath(inputPath).setProject(project);
-                OASResult oasResult = ServiceToOpenAPIMapper.generateOAS(builder.build());
-                oasResult.setServiceName(constructFileName(syntaxTree, services, serviceSymbol.get()));
-                writeOpenAPIYaml(outPath, oasResult, diagnostics);
-            }
-        }
-        if (!diagnostics.isEmpty()) {
-            for (Diagnostic diagnostic : diagnostics) {
-                context.reportDiagnostic(diagnostic);
+                builder.setModuleMemberVisitor(moduleMemberVisitor)
+                        .setExampleFileCache(exampleFileCache);
+                services.add(builder.build());
+                serviceNames.add(constructFileName(syntaxTree, serviceFileNames, serviceSymbol.get()));
             }
         }
     }
@@ -154,7 +223,8 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
      * @param services   service map for maintain the file name with updated name
      * @param serviceSymbol symbol for taking the hash code of services
      */
-    private String constructFileName(SyntaxTree syntaxTree, Map<Integer, String> services, Symbol serviceSymbol) {
+    private static String constructFileName(SyntaxTree syntaxTree, Map<Integer, String> services,
+                                            Symbol serviceSymbol) {
         String fileName = getNormalizedFileName(services.get(serviceSymbol.hashCode()));
         String balFileName = syntaxTree.filePath().replaceAll(SLASH, UNDERSCORE).split("\\.")[0];
         if (fileName.equals(SLASH)) {
@@ -165,34 +235,63 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         return fileName + OPENAPI_SUFFIX + YAML_EXTENSION;
     }
 
-    private void writeOpenAPIYaml(Path outPath, OASResult oasResult, List<Diagnostic> diagnostics) {
-        if (oasResult.getYaml().isPresent()) {
+    /**
+     * Reserves the given file name for a contract of this build. When another contract of this build already has the
+     * name, the first free name of the form {@code <name>.<count>.yaml} is reserved instead. Names are compared
+     * ignoring the case, as the file system may not distinguish them.
+     *
+     * @param fileName          file name resolved against the files in the output directory
+     * @param reservedFileNames file names already reserved by this build
+     * @return reserved file name
+     */
+    static String reserveFileName(String fileName, Set<String> reservedFileNames) {
+        String reservedFileName = fileName;
+        String baseName = fileName.endsWith(YAML_EXTENSION) ?
+                fileName.substring(0, fileName.length() - YAML_EXTENSION.length()) : fileName;
+        int duplicateCount = 0;
+        while (!reservedFileNames.add(reservedFileName.toLowerCase(Locale.ENGLISH))) {
+            duplicateCount++;
+            reservedFileName = baseName + "." + duplicateCount + YAML_EXTENSION;
+        }
+        return reservedFileName;
+    }
+
+    /**
+     * Serializes the contract and writes it to the given file on the given writer.
+     */
+    private static CompletableFuture<Void> writeOpenAPIYaml(Path filePath, OASResult oasResult,
+                                                            ExecutorService writer) {
+        return CompletableFuture.runAsync(() -> {
+            Optional<String> yaml = oasResult.getYaml();
+            if (yaml.isEmpty()) {
+                return;
+            }
             try {
                 // Create openapi directory if not exists in the path. If exists do not throw an error
-                Files.createDirectories(Paths.get(outPath + OAS_PATH_SEPARATOR + OPENAPI));
-                String serviceName = oasResult.getServiceName();
-                String fileName = resolveContractFileName(outPath.resolve(OPENAPI),
-                        serviceName, false);
-                writeFile(outPath.resolve(OPENAPI + OAS_PATH_SEPARATOR + fileName), oasResult.getYaml().get());
+                Files.createDirectories(filePath.getParent());
+                writeFileAtomically(filePath, yaml.get());
             } catch (IOException e) {
-                ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_108,
-                        e.toString());
-                diagnostics.add(BuildExtensionUtil.getDiagnostics(diagnostic));
-            }
-        }
-        if (!oasResult.getDiagnostics().isEmpty()) {
-            for (OpenAPIMapperDiagnostic diagnostic : oasResult.getDiagnostics()) {
-                diagnostics.add(BuildExtensionUtil.getDiagnostics(diagnostic));
+                throw new UncheckedIOException(e);
             }
+        }, writer);
+    }
+
+    private static void addDiagnostics(OASResult oasResult, List<Diagnostic> diagnostics) {
+        for (OpenAPIMapperDiagnostic diagnostic : oasResult.getDiagnostics()) {
+            diagnostics.add(BuildExtensionUtil.getDiagnostics(diagnostic));
         }
     }
 
     /**
      * Filter all the end points and service nodes for avoiding the generated file name conflicts.
+     *
+     * @return HTTP service declarations of the module part, in the order of the declarations
      */
-    private static void extractServiceNodes(ModulePartNode modulePartNode, Map<Integer, String> services,
-                                            SemanticModel semanticModel) {
+    private static List<ServiceDeclarationNode> extractServiceNodes(ModulePartNode modulePartNode,
+                                                                    Map<Integer, String> services,
+                                                                    SemanticModel semanticModel) {
         List<String> allServices = new ArrayList<>();
+        List<ServiceDeclarationNode> serviceNodes = new ArrayList<>();
         for (Node node : modulePartNode.members()) {
             SyntaxKind syntaxKind = node.kind();
             if (syntaxKind.equals(SyntaxKind.SERVICE_DECLARATION)) {
@@ -211,9 +310,11 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
                             allServices.add(service);
                         }
                         services.put(serviceSymbol.get().hashCode(), updateServiceName);
+                        serviceNodes.add(serviceNode);
                     }
                 }
             }
         }
+        return serviceNodes;
     }
 }
@@ -16,7 +16,6 @@
 
 package io.ballerina.openapi.build;
 
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.projects.plugins.CodeAnalysisContext;
 import io.ballerina.projects.plugins.CodeAnalyzer;
 
@@ -29,6 +28,6 @@ public class OpenAPIBuildCodeAnalyzer extends CodeAnalyzer {
 
     @Override
     public void init(CodeAnalysisContext codeAnalysisContext) {
-        codeAnalysisContext.addSyntaxNodeAnalysisTask(new HttpServiceAnalysisTask(), SyntaxKind.SERVICE_DECLARATION);
+        codeAnalysisContext.addCompilationAnalysisTask(new HttpServiceAnalysisTask());
     }
 }
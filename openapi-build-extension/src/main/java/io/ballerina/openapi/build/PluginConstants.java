@@ -24,4 +24,6 @@ public class PluginConstants {
     public static final String OPENAPI = "openapi";
     public static final String OAS_PATH_SEPARATOR = "/";
     public static final String UNDERSCORE = "_";
+    // System property setting the number of services exported concurrently, which is one by default
+    public static final String EXPORT_PARALLELISM = "openapi.export.parallelism";
 }
@@ -28,8 +28,11 @@ import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.mock.AdvanceMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.mock.BallerinaMockClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GeneratedSourceWriter;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.Filter;
@@ -40,14 +43,11 @@ import io.ballerina.openapi.core.generators.type.GeneratorConstants;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -58,6 +58,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -90,9 +91,12 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private boolean promptOnOverwrite = true;
     private List<Diagnostic> diagnostics = new ArrayList<>();
+    private String generationError;
 
-    private static final PrintStream outStream = System.out;
+    private PrintStream outStream = System.out;
+    private SourceFormatter sourceFormatter = new SourceFormatter();
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -128,8 +132,9 @@ public class BallerinaCodeGenerator {
         // absence of the operationId in operation. Therefore, we enable client flag true as default code generation.
         // if resource is enabled, we avoid checking operationId.
         OpenAPI normalizedOpenAPI = GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource, options.isSanitizedOas);
-        // Add typeHandler
-        TypeHandler.createInstance(normalizedOpenAPI, options.nullable);
+        // Create the generation context which holds the type handler of this run
+        GenerationContext generationContext = GenerationContext.create(normalizedOpenAPI, options.nullable);
+        TypeHandler typeHandler = generationContext.getTypeHandler();
         // Generate client.
         // Generate ballerina client remote.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
@@ -142,24 +147,18 @@ public class BallerinaCodeGenerator {
                 .withStatusCodeBinding(options.statusCodeBinding)
                 .withMock(options.isMock).build();
 
-        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toSourceCode();
+        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig, generationContext);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
 
         //Update type definition list with auth related type definitions
         List<TypeDefinitionNode> authNodes = clientGenerator.getBallerinaAuthConfigGenerator()
                 .getAuthRelatedTypeDefinitionNodes();
         for (TypeDefinitionNode typeDef: authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
-        }
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
-                (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + clientContent));
-        String utilContent = Formatter.format(clientGenerator.getBallerinaUtilGenerator()
-                .generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
-                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + utilContent));
+            typeHandler.addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
         }
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
 
+        List<GenSrcFile> serviceFiles = new ArrayList<>();
         if (complexPaths.isEmpty()) {
             OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
                     .withOpenAPI(normalizedOpenAPI)
@@ -173,22 +172,36 @@ public class BallerinaCodeGenerator {
                     .withLicenseHeader(licenseHeader)
                     .build();
 
-            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
-            sourceFiles.addAll(serviceGenerationHandler.generateServiceFiles(oasServiceMetadata));
+            ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler(generationContext);
+            serviceFiles.addAll(serviceGenerationHandler.generateServiceFiles(oasServiceMetadata));
             this.diagnostics.addAll(serviceGenerationHandler.getDiagnostics());
         }
 
-        TypeHandler typeHandler = TypeHandler.getInstance();
         SyntaxTree schemaSyntaxTree = typeHandler.generateTypeSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
-        this.diagnostics.addAll(TypeHandler.getInstance().getDiagnostics());
-
-        generateSchemaFile(sourceFiles, schemaContent, licenseHeader);
+        this.diagnostics.addAll(typeHandler.getDiagnostics());
 
         // Generate test boilerplate code for test cases
+        List<SyntaxTree> syntaxTrees = new ArrayList<>(List.of(clientSyntaxTree, utilSyntaxTree, schemaSyntaxTree));
+        BallerinaTestGenerator ballerinaTestGenerator = null;
         if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toSourceCode();
+            ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
+            syntaxTrees.add(ballerinaTestGenerator.generateSyntaxTree());
+        }
+        // The generated trees do not depend on each other, hence they are formatted together
+        List<String> contents = sourceFormatter.format(syntaxTrees);
+
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + contents.get(0)));
+        String utilContent = contents.get(1);
+        if (!utilContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + utilContent));
+        }
+        sourceFiles.addAll(serviceFiles);
+        generateSchemaFile(sourceFiles, contents.get(2), licenseHeader);
+
+        if (ballerinaTestGenerator != null) {
+            String testContent = contents.get(3);
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
                     (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + testContent));
 
@@ -259,7 +272,8 @@ public class BallerinaCodeGenerator {
                 writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
             }
         } catch (ClientException e) {
-            outStream.println("error occurred while generating the client: " + e.getMessage());
+            generationError = "error occurred while generating the client: " + e.getMessage();
+            outStream.println(generationError);
         }
     }
 
@@ -329,7 +343,7 @@ public class BallerinaCodeGenerator {
         for (File file : listFiles) {
             for (GenSrcFile gFile : sources) {
                 if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
+                    if (promptOnOverwrite && System.console() != null) {
                         String userInput = System.console().readLine("There is already a/an " + file.getName() +
                                 " in the location. Do you want to override the file? [y/N] ");
                         if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
@@ -341,6 +355,8 @@ public class BallerinaCodeGenerator {
             }
         }
 
+        // Files which already have the generated content are left untouched
+        GeneratedSourceWriter writer = new GeneratedSourceWriter();
         for (GenSrcFile file : sources) {
             Path filePath;
 
@@ -350,7 +366,7 @@ public class BallerinaCodeGenerator {
                 filePath = implPath.resolve(file.getFileName());
                 if (Files.notExists(filePath)) {
                     String fileContent = file.getContent();
-                    writeFile(filePath, fileContent);
+                    writer.write(filePath, fileContent);
                 }
             } else {
                 boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
@@ -365,7 +381,7 @@ public class BallerinaCodeGenerator {
                     filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
                 }
                 String fileContent = file.getContent();
-                writeFile(filePath, fileContent);
+                writer.write(filePath, fileContent);
             }
         }
 
@@ -381,6 +397,8 @@ public class BallerinaCodeGenerator {
         while (iterator.hasNext()) {
             outStream.println("-- " + iterator.next().getFileName());
         }
+        outStream.println(writer.getWrittenCount() + " file(s) written, " + writer.getSkippedCount() +
+                " file(s) unchanged.");
     }
 
     /**
@@ -423,28 +441,43 @@ public class BallerinaCodeGenerator {
                 .build();
         //Take default DO NOT modify
         licenseHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
-        TypeHandler.createInstance(normalizedOpenAPI, options.nullable);
-        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig);
+        GenerationContext generationContext = GenerationContext.create(normalizedOpenAPI, options.nullable);
+        TypeHandler typeHandler = generationContext.getTypeHandler();
+        BallerinaClientGenerator clientGenerator = getBallerinaClientGenerator(oasClientConfig, generationContext);
         SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
         //Update type definition list with auth related type definitions
         List<TypeDefinitionNode> authNodes = clientGenerator.getBallerinaAuthConfigGenerator()
                 .getAuthRelatedTypeDefinitionNodes();
         for (TypeDefinitionNode typeDef : authNodes) {
-            TypeHandler.getInstance().addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
+            typeHandler.addTypeDefinitionNode(typeDef.typeName().text(), typeDef);
         }
 
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
         if (options.singleFile) {
-            syntaxTree = generateSingleFileForClient(syntaxTree, clientGenerator);
+            syntaxTrees.add(generateSingleFileForClient(syntaxTree, clientGenerator));
         } else {
-            generateFilesForClient(syntaxTree, sourceFiles, clientGenerator);
+            syntaxTrees.add(syntaxTree);
+            syntaxTrees.add(clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree());
+            // Generate ballerina records to represent schemas.
+            syntaxTrees.add(typeHandler.generateTypeSyntaxTree());
         }
 
         //Type diagnostic
-        List<Diagnostic> diagnosticList = TypeHandler.getInstance().getDiagnostics();
+        List<Diagnostic> diagnosticList = typeHandler.getDiagnostics();
         // Generate test boilerplate code for test cases
+        BallerinaTestGenerator ballerinaTestGenerator = null;
         if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toSourceCode();
+            ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
+            syntaxTrees.add(ballerinaTestGenerator.generateSyntaxTree());
+        }
+        // The generated trees do not depend on each other, hence they are formatted together
+        List<String> contents = sourceFormatter.format(syntaxTrees);
+        if (!options.singleFile) {
+            generateFilesForClient(sourceFiles, contents.get(0), contents.get(1), contents.get(2));
+        }
+
+        if (ballerinaTestGenerator != null) {
+            String testContent = contents.get(contents.size() - 1);
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
                     licenseHeader + testContent));
 
@@ -462,7 +495,7 @@ public class BallerinaCodeGenerator {
         printDiagnostic(diagnosticList);
         if (options.singleFile) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                    CLIENT_FILE_NAME, licenseHeader + Formatter.format(syntaxTree).toSourceCode()));
+                    CLIENT_FILE_NAME, licenseHeader + contents.get(0)));
         }
         return sourceFiles;
     }
@@ -481,21 +514,14 @@ public class BallerinaCodeGenerator {
     public record ClientGeneratorOptions(boolean nullable, boolean isResource, boolean statusCodeBinding,
                                          boolean isMock, boolean singleFile, boolean isSanitizedOas) { }
 
-    private void generateFilesForClient(SyntaxTree syntaxTree, List<GenSrcFile> sourceFiles,
-                                        BallerinaClientGenerator clientGenerator) throws FormatterException,
-            IOException {
-        String mainContent = Formatter.format(syntaxTree).toSourceCode();
+    private void generateFilesForClient(List<GenSrcFile> sourceFiles, String mainContent, String utilContent,
+                                        String schemaContent) {
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
                 licenseHeader + mainContent));
-        String utilContent = Formatter.format(
-                clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
         if (!utilContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
                     licenseHeader + utilContent));
         }
-        // Generate ballerina records to represent schemas.
-        SyntaxTree schemaSyntaxTree = TypeHandler.getInstance().generateTypeSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
         generateSchemaFile(sourceFiles, schemaContent, licenseHeader);
     }
 
@@ -503,7 +529,7 @@ public class BallerinaCodeGenerator {
                                                           BallerinaClientGenerator clientGenerator) throws IOException {
         syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
                 clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
-                TypeHandler.getInstance().generateTypeSyntaxTree());
+                clientGenerator.getGenerationContext().getTypeHandler().generateTypeSyntaxTree());
         return syntaxTree;
     }
 
@@ -514,20 +540,21 @@ public class BallerinaCodeGenerator {
         }
     }
 
-    private static BallerinaClientGenerator getBallerinaClientGenerator(OASClientConfig oasClientConfig) {
+    private static BallerinaClientGenerator getBallerinaClientGenerator(OASClientConfig oasClientConfig,
+                                                                        GenerationContext generationContext) {
         boolean statusCodeBinding = oasClientConfig.isStatusCodeBinding();
         boolean isMock = oasClientConfig.isMock();
 
         if (statusCodeBinding && isMock) {
-            return new AdvanceMockClientGenerator(oasClientConfig);
+            return new AdvanceMockClientGenerator(oasClientConfig, generationContext);
         }
         if (statusCodeBinding) {
-            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig);
+            return new BallerinaClientGeneratorWithStatusCodeBinding(oasClientConfig, generationContext);
         }
         if (isMock) {
-            return new BallerinaMockClientGenerator(oasClientConfig);
+            return new BallerinaMockClientGenerator(oasClientConfig, generationContext);
         }
-        return new BallerinaClientGenerator(oasClientConfig);
+        return new BallerinaClientGenerator(oasClientConfig, generationContext);
     }
 
 
@@ -575,29 +602,32 @@ public class BallerinaCodeGenerator {
                 .withSrcFile(srcFile)
                 .withSrcPackage(srcPackage)
                 .build();
-        TypeHandler.createInstance(openAPIDef, options.nullable);
-        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler();
+        GenerationContext generationContext = GenerationContext.create(openAPIDef, options.nullable);
+        TypeHandler typeHandler = generationContext.getTypeHandler();
+        ServiceGenerationHandler serviceGenerationHandler = new ServiceGenerationHandler(generationContext);
         List<GenSrcFile> sourceFiles = new ArrayList<>();
         if (options.singleFile) {
-            generateSingleFileForService(serviceGenerationHandler, oasServiceMetadata, sourceFiles);
+            generateSingleFileForService(serviceGenerationHandler, typeHandler, oasServiceMetadata, sourceFiles);
         } else {
-            sourceFiles = generateFilesForService(serviceGenerationHandler, oasServiceMetadata);
+            sourceFiles = generateFilesForService(serviceGenerationHandler, typeHandler, oasServiceMetadata);
         }
 
         this.diagnostics.addAll(serviceGenerationHandler.getDiagnostics());
-        this.diagnostics.addAll(TypeHandler.getInstance().getDiagnostics());
+        this.diagnostics.addAll(typeHandler.getDiagnostics());
         printDiagnostic(diagnostics);
         return sourceFiles;
     }
 
     private static List<GenSrcFile> generateFilesForService(ServiceGenerationHandler serviceGenerationHandler,
+                                                            TypeHandler typeHandler,
                                                             OASServiceMetadata oasServiceMetadata) throws
             FormatterException, BallerinaOpenApiException {
         List<GenSrcFile> sourceFiles;
         sourceFiles = serviceGenerationHandler.generateServiceFiles(oasServiceMetadata);
         if (!oasServiceMetadata.generateWithoutDataBinding()) {
-            String schemaSyntaxTree = Formatter.format(TypeHandler.getInstance()
-                    .generateTypeSyntaxTree()).toSourceCode();
+            // Large type modules are formatted in chunks
+            String schemaSyntaxTree = sourceFormatter.format(List.of(typeHandler.generateTypeSyntaxTree()))
+                    .get(0);
             if (!schemaSyntaxTree.isBlank()) {
                 sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, oasServiceMetadata.getSrcPackage(),
                         GeneratorConstants.TYPE_FILE_NAME,
@@ -609,18 +639,19 @@ public class BallerinaCodeGenerator {
     }
 
     private static void generateSingleFileForService(ServiceGenerationHandler serviceGenerationHandler,
+                                                     TypeHandler typeHandler,
                                                      OASServiceMetadata oasServiceMetadata,
                                                      List<GenSrcFile> sourceFiles) throws
             BallerinaOpenApiException, FormatterException {
         SyntaxTree syntaxTree = serviceGenerationHandler.generateSingleSyntaxTree(oasServiceMetadata);
         if (!oasServiceMetadata.generateWithoutDataBinding()) {
-            syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree,
-                    TypeHandler.getInstance().generateTypeSyntaxTree());
+            syntaxTree = SingleFileGenerator.combineSyntaxTrees(syntaxTree, typeHandler.generateTypeSyntaxTree());
         }
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, oasServiceMetadata.getSrcPackage(),
                 oasServiceMetadata.getSrcFile(),
                 (oasServiceMetadata.getLicenseHeader().isBlank() ? DEFAULT_FILE_HEADER :
-                        oasServiceMetadata.getLicenseHeader()) + Formatter.format(syntaxTree).toSourceCode()));
+                        oasServiceMetadata.getLicenseHeader()) +
+                        sourceFormatter.format(List.of(syntaxTree)).get(0)));
     }
 
     private void printDiagnostic(List<Diagnostic> diagnostics) {
@@ -647,6 +678,45 @@ public class BallerinaCodeGenerator {
         this.includeTestFiles = includeTestFiles;
     }
 
+    /**
+     * Set whether the user is asked before overriding the existing files. The prompt is disabled when the sources
+     * are generated for several definitions concurrently.
+     *
+     * @param promptOnOverwrite whether to prompt before overriding existing files
+     */
+    public void setPromptOnOverwrite(boolean promptOnOverwrite) {
+        this.promptOnOverwrite = promptOnOverwrite;
+    }
+
+    /**
+     * Set the stream the progress and the diagnostics of the generation are printed to. The output of each
+     * definition is collected separately when the sources are generated for several definitions concurrently.
+     *
+     * @param outStream stream to print the output to
+     */
+    public void setOutStream(PrintStream outStream) {
+        this.outStream = outStream;
+    }
+
+    /**
+     * Set the formatter of the generated sources. The sources of a definition are formatted one after another when
+     * the sources are generated for several definitions concurrently, as the definitions keep the processors busy.
+     *
+     * @param sourceFormatter formatter of the generated sources
+     */
+    public void setSourceFormatter(SourceFormatter sourceFormatter) {
+        this.sourceFormatter = sourceFormatter;
+    }
+
+    /**
+     * Returns the error which stopped the generation after it was reported to the output, if any.
+     *
+     * @return error message of the failed generation
+     */
+    public Optional<String> getGenerationError() {
+        return Optional.ofNullable(generationError);
+    }
+
     private void checkOpenAPIVersion(OpenAPI openAPIDef) {
         if (!SUPPORTED_OPENAPI_VERSIONS.contains(openAPIDef.getOpenapi())) {
             outStream.printf("WARNING: The tool has not been tested with OpenAPI version %s. " +
@@ -664,17 +734,4 @@ public class BallerinaCodeGenerator {
     private static Path getImplPath(String pkg, Path srcPath) {
         return (pkg == null || pkg.isEmpty()) ? srcPath : srcPath.getParent();
     }
-
-    /**
-     * Writes a file with content to specified {@code filePath}.
-     *
-     * @param filePath valid file path to write the content
-     * @param content  content of the file
-     * @throws IOException when a file operation fails
-     */
-    private static void writeFile(Path filePath, String content) throws IOException {
-        try (FileWriter writer = new FileWriter(filePath.toString(), StandardCharsets.UTF_8)) {
-            writer.write(content);
-        }
-    }
 }
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.openapi.cmd.CmdConstants.JSON_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.YAML_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.YML_EXTENSION;
+
+/**
+ * Generates Ballerina sources for several OpenAPI definitions on a bounded worker pool. Each definition is handled
+ * by its own {@link BallerinaCodeGenerator} and is written to a separate directory under the output path, named after
+ * the definition without its extension. The output of each generation is collected separately, so that it can be
+ * printed along with the name of the definition. When the definitions are generated concurrently, the sources of
+ * each definition are formatted on its own worker, so that the formatting does not compete with the other workers
+ * for the processors.
+ *
+ * @since 2.3.2
+ */
+public class BatchCodeGenerator {
+
+    private final Supplier<BallerinaCodeGenerator> generatorSupplier;
+    private final int parallelism;
+
+    /**
+     * Generation step which is executed for a single OpenAPI definition.
+     */
+    @FunctionalInterface
+    public interface GenerationTask {
+        void generate(BallerinaCodeGenerator generator, Path definitionPath, String name, Path outputPath)
+                throws Exception;
+    }
+
+    /**
+     * Represents the outcome of the generation for a single OpenAPI definition.
+     *
+     * @param definitionPath path of the OpenAPI definition
+     * @param outputPath     directory which contains the generated sources
+     * @param elapsedMillis  time taken to generate the sources
+     * @param errorMessage   error message when the generation fails, {@code null} otherwise
+     * @param output         progress and diagnostics printed while generating the sources
+     */
+    public record Result(Path definitionPath, Path outputPath, long elapsedMillis, String errorMessage,
+                         String output) {
+        public boolean isSuccess() {
+            return errorMessage == null;
+        }
+    }
+
+    public BatchCodeGenerator(Supplier<BallerinaCodeGenerator> generatorSupplier) {
+        this(generatorSupplier, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchCodeGenerator(Supplier<BallerinaCodeGenerator> generatorSupplier, int parallelism) {
+        this.generatorSupplier = generatorSupplier;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns the OpenAPI definitions (yaml, yml and json files) available in the given directory, sorted by name.
+     */
+    public static List<Path> getDefinitions(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> {
+                        String fileName = file.getFileName().toString().toLowerCase(Locale.ENGLISH);
+                        return fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(YML_EXTENSION) ||
+                                fileName.endsWith(JSON_EXTENSION);
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the name of the directory the sources of the given definition are written to, which is the file name of
+     * the definition without its extension.
+     */
+    public static String getOutputName(Path definition) {
+        String fileName = definition.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    }
+
+    /**
+     * Runs the given generation task for all the definitions. The returned results are in the order of the given
+     * definitions. Definitions whose sources would be written to the same directory (ex: {@code api.yaml} and
+     * {@code api.json}) are not generated and are reported as failed.
+     *
+     * @param definitions OpenAPI definitions to generate the sources for
+     * @param outputPath  root directory for the generated sources
+     * @param task        generation step to execute for each definition
+     * @return generation results of the definitions
+     */
+    public List<Result> generate(List<Path> definitions, Path outputPath, GenerationTask task)
+            throws InterruptedException {
+        if (definitions.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Output names are compared ignoring the case, since the file system may not tell them apart
+        Map<String, List<Path>> definitionsByName = new HashMap<>();
+        for (Path definition : definitions) {
+            definitionsByName.computeIfAbsent(getOutputName(definition).toLowerCase(Locale.ENGLISH),
+                    name -> new ArrayList<>()).add(definition);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, definitions.size()));
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (Path definition : definitions) {
+                List<Path> sameNameDefinitions = definitionsByName.get(
+                        getOutputName(definition).toLowerCase(Locale.ENGLISH));
+                if (sameNameDefinitions.size() > 1) {
+                    String errorMessage = String.format("the output directory '%s' is shared by %s",
+                            getOutputName(definition), sameNameDefinitions.stream()
+                                    .map(sameNameDefinition -> sameNameDefinition.getFileName().toString())
+                                    .collect(Collectors.joining(", ")));
+                    futures.add(CompletableFuture.completedFuture(
+                            new Result(definition, null, 0, errorMessage, "")));
+                    continue;
+                }
+                futures.add(executor.submit(() -> generate(definition, outputPath, task)));
+            }
+            List<Result> results = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(new Result(definitions.get(i), null, 0, e.getCause().getMessage(), ""));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private Result generate(Path definition, Path outputPath, GenerationTask task) {
+        String name = getOutputName(definition);
+        Path definitionOutputPath = outputPath.resolve(name);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        String errorMessage;
+        try (PrintStream outStream = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            BallerinaCodeGenerator generator = generatorSupplier.get();
+            generator.setOutStream(outStream);
+            if (parallelism > 1) {
+                // The workers already use the processors, hence each definition is formatted on its own worker
+                generator.setSourceFormatter(new SourceFormatter(1, SourceFormatter.DEFAULT_CHUNK_SIZE));
+            }
+            Files.createDirectories(definitionOutputPath);
+            task.generate(generator, definition, name, definitionOutputPath);
+            errorMessage = generator.getGenerationError().orElse(null);
+        } catch (Exception e) {
+            errorMessage = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new Result(definition, definitionOutputPath, elapsedMillis, errorMessage,
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Prints the output of each definition, preceded by the name of the definition.
+     */
+    public static void printOutputs(List<Result> results, PrintStream outStream) {
+        for (Result result : results) {
+            if (result.output().isBlank()) {
+                continue;
+            }
+            outStream.println("Output of " + result.definitionPath().getFileName() + ":");
+            outStream.print(result.output());
+        }
+    }
+
+    /**
+     * Prints the timing of each definition and a combined summary.
+     */
+    public static void printSummary(List<Result> results, long totalMillis, PrintStream outStream) {
+        outStream.println("Generation summary:");
+        long failed = 0;
+        long cumulativeMillis = 0;
+        for (Result result : results) {
+            cumulativeMillis += result.elapsedMillis();
+            if (result.isSuccess()) {
+                outStream.printf("-- %s: generated in %d ms%n", result.definitionPath().getFileName(),
+                        result.elapsedMillis());
+            } else {
+                failed++;
+                outStream.printf("-- %s: failed in %d ms. %s%n", result.definitionPath().getFileName(),
+                        result.elapsedMillis(), result.errorMessage());
+            }
+        }
+        outStream.printf("%d definition(s) processed, %d succeeded, %d failed. Total time %d ms " +
+                "(cumulative %d ms).%n", results.size(), results.size() - failed, failed, totalMillis,
+                cumulativeMillis);
+    }
+}
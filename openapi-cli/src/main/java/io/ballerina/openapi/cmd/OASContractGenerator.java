@@ -61,6 +61,7 @@ public class OASContractGenerator {
     private List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
     private PrintStream outStream = System.out;
     private Boolean ballerinaExtension = false;
+    private int parallelism = 1;
 
     /**
      * Initialize constructor.
@@ -75,6 +76,13 @@ public class OASContractGenerator {
         }
     }
 
+    /**
+     * Sets the maximum number of services mapped concurrently. Services are mapped one by one by default.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
     public List<OpenAPIMapperDiagnostic> getDiagnostics() {
         return diagnostics;
     }
@@ -126,7 +134,7 @@ public class OASContractGenerator {
         }
         semanticModel = compilation.getSemanticModel(docId.moduleId());
         List<OASResult> openAPIDefinitions = ServiceToOpenAPIMapper.generateOAS3Definition(project, syntaxTree,
-                semanticModel, serviceName, needJson, inputPath, ballerinaExtension);
+                semanticModel, serviceName, needJson, inputPath, ballerinaExtension, null, null, parallelism);
 
         if (!openAPIDefinitions.isEmpty()) {
             List<String> fileNames = new ArrayList<>();
@@ -62,6 +62,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.cmd.CmdConstants.BAL_EXTENSION;
@@ -130,6 +131,10 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--with-bal-ext"}, hidden = true, description = "Generate ballerina type extensions")
     private boolean addBallerinaExtension;
 
+    @CommandLine.Option(names = {"--export-parallelism"}, hidden = true,
+            description = "Maximum number of services exported concurrently")
+    private int exportParallelism = 1;
+
 
     @CommandLine.Parameters
     private List<String> argList;
@@ -188,7 +193,8 @@ public class OpenApiCmd implements BLauncherCmd {
         // else if given ballerina service file it generates openapi contract file
         // else it generates error message to enter correct input file
         String fileName = baseCmd.inputPath;
-        if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
+        boolean isBatchInput = Files.isDirectory(Paths.get(fileName));
+        if (isBatchInput || fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
                 fileName.endsWith(YML_EXTENSION)) {
             List<String> tag = new ArrayList<>();
             List<String> operation = new ArrayList<>();
@@ -258,7 +264,11 @@ public class OpenApiCmd implements BLauncherCmd {
             }
 
             try {
-                openApiToBallerina(fileName, filter);
+                if (isBatchInput) {
+                    openApiToBallerinaBatch(fileName, filter);
+                } else {
+                    openApiToBallerina(fileName, filter);
+                }
             } catch (IOException e) {
                 outStream.println(e.getLocalizedMessage());
                 exitError(this.exitWhenFinish);
@@ -309,6 +319,7 @@ public class OpenApiCmd implements BLauncherCmd {
         // Check service name it is mandatory
         OASContractGenerator openApiConverter = new OASContractGenerator();
         openApiConverter.setBallerinaExtension(addBallerinaExtension);
+        openApiConverter.setParallelism(exportParallelism);
         openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
                 generatedFileType);
         mapperDiagnostics.addAll(openApiConverter.getDiagnostics());
@@ -374,6 +385,75 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * This util method generates the service and client stubs for all the contract files in the given directory.
+     * Each contract is generated concurrently into a separate directory under the output path.
+     *
+     * @param directoryName input directory which contains the contract files
+     */
+    private void openApiToBallerinaBatch(String directoryName, Filter filter) throws IOException {
+        boolean skipDependecyUpdate = true;
+        if (statusCodeBinding && Objects.nonNull(ballerinaTomlPath)) {
+            skipDependecyUpdate = clientNativeDependencyAlreadyExist(getVersion());
+        }
+        List<Path> definitions = BatchCodeGenerator.getDefinitions(Paths.get(directoryName));
+        if (definitions.isEmpty()) {
+            outStream.println("No OpenAPI definitions found in the directory: " + directoryName);
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        getTargetOutputPath();
+        if (baseCmd.nullable) {
+            outStream.println("WARNING: All the constraints in the OpenAPI contract will be ignored when generating" +
+                    " the Ballerina client/service with the `--nullable` option");
+        }
+        String licenseHeader = this.setLicenseHeader();
+        BatchCodeGenerator batchCodeGenerator = new BatchCodeGenerator(() -> {
+            BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+            generator.setLicenseHeader(licenseHeader);
+            generator.setIncludeTestFiles(this.includeTestFiles);
+            generator.setPromptOnOverwrite(false);
+            return generator;
+        });
+        long start = System.nanoTime();
+        List<BatchCodeGenerator.Result> results;
+        try {
+            results = batchCodeGenerator.generate(definitions, targetOutputPath,
+                    (generator, definition, name, outputPath) -> {
+                        String definitionPath = definition.toAbsolutePath().toString();
+                        switch (mode) {
+                            case SERVICE -> generator.generateService(definitionPath, name, outputPath.toString(),
+                                    filter, new ServiceGeneratorOptions(baseCmd.nullable, generateServiceType,
+                                            generateServiceContract, generateWithoutDataBinding,
+                                            baseCmd.singleFile, baseCmd.useSanitized));
+                            case CLIENT -> generator.generateClient(definitionPath, outputPath.toString(), filter,
+                                    new BallerinaCodeGenerator.ClientGeneratorOptions(baseCmd.nullable,
+                                            clientResourceMode, statusCodeBinding, baseCmd.mock,
+                                            baseCmd.singleFile, baseCmd.useSanitized));
+                            default -> generator.generateClientAndService(definitionPath, name,
+                                    outputPath.toString(), filter, new ClientServiceGeneratorOptions(
+                                            baseCmd.nullable, clientResourceMode, generateServiceType,
+                                            generateServiceContract, generateWithoutDataBinding,
+                                            statusCodeBinding, baseCmd.mock, baseCmd.useSanitized));
+                        }
+                    });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outStream.println("OpenAPI code generation was interrupted.");
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        BatchCodeGenerator.printOutputs(results, outStream);
+        BatchCodeGenerator.printSummary(results, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                outStream);
+        if (!skipDependecyUpdate) {
+            updateBallerinaTomlWithClientNativeDependency();
+        }
+        if (results.stream().anyMatch(result -> !result.isSuccess())) {
+            exitError(this.exitWhenFinish);
+        }
+    }
+
     /**
      * This util is to take the resource Path.
      *
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tests for generating the sources of several OpenAPI definitions concurrently.
+ */
+public class BatchCodeGeneratorTests extends OpenAPICommandTest {
+
+    @Test(description = "Output directory is named after the definition without its last extension")
+    public void testOutputName() {
+        Assert.assertEquals(BatchCodeGenerator.getOutputName(Paths.get("specs", "petstore.v1.yaml")), "petstore.v1");
+        Assert.assertEquals(BatchCodeGenerator.getOutputName(Paths.get("specs", "petstore.json")), "petstore");
+        Assert.assertEquals(BatchCodeGenerator.getOutputName(Paths.get("specs", "petstore")), "petstore");
+    }
+
+    @Test(description = "Definitions sharing an output directory are reported as failed without being generated")
+    public void testDuplicateOutputNames() throws InterruptedException {
+        List<Path> definitions = List.of(Paths.get("api.yaml"), Paths.get("API.json"), Paths.get("other.yaml"));
+        AtomicInteger generations = new AtomicInteger();
+        List<BatchCodeGenerator.Result> results = new BatchCodeGenerator(BallerinaCodeGenerator::new, 2)
+                .generate(definitions, tmpDir.resolve("duplicates"),
+                        (generator, definition, name, outputPath) -> generations.incrementAndGet());
+
+        Assert.assertEquals(generations.get(), 1);
+        Assert.assertFalse(results.get(0).isSuccess());
+        Assert.assertFalse(results.get(1).isSuccess());
+        Assert.assertTrue(results.get(0).errorMessage().contains("api.yaml, API.json"));
+        Assert.assertTrue(results.get(2).isSuccess());
+        Assert.assertTrue(Files.isDirectory(tmpDir.resolve("duplicates").resolve("other")));
+    }
+
+    @Test(description = "Output of each generation is collected along with its result")
+    public void testGenerationOutput() throws InterruptedException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        List<BatchCodeGenerator.Result> results = new BatchCodeGenerator(BallerinaCodeGenerator::new, 2)
+                .generate(List.of(petstoreYaml), tmpDir.resolve("batch"),
+                        (generator, definition, name, outputPath) -> generator.generateClient(
+                                definition.toString(), outputPath.toString(),
+                                new Filter(new ArrayList<>(), new ArrayList<>()),
+                                new BallerinaCodeGenerator.ClientGeneratorOptions(false, true, false, false, false,
+                                        false)));
+
+        Assert.assertTrue(results.get(0).isSuccess(), results.get(0).errorMessage());
+        Assert.assertTrue(results.get(0).output().contains("Client generated successfully."));
+        Assert.assertTrue(Files.exists(tmpDir.resolve("batch").resolve("petstore").resolve("client.bal")));
+    }
+
+    @Test(description = "Task failures are reported in the result of the definition")
+    public void testGenerationFailure() throws InterruptedException {
+        List<BatchCodeGenerator.Result> results = new BatchCodeGenerator(BallerinaCodeGenerator::new, 2)
+                .generate(List.of(Paths.get("broken.yaml")), tmpDir.resolve("failures"),
+                        (generator, definition, name, outputPath) -> {
+                            throw new IllegalStateException("invalid definition");
+                        });
+
+        Assert.assertFalse(results.get(0).isSuccess());
+        Assert.assertEquals(results.get(0).errorMessage(), "invalid definition");
+    }
+
+    @Test(description = "Definitions generated concurrently are formatted on their own workers")
+    public void testSourceFormatterOfWorkers() throws InterruptedException {
+        for (int parallelism : new int[]{1, 2}) {
+            AtomicInteger formatterChanges = new AtomicInteger();
+            Supplier<BallerinaCodeGenerator> generatorSupplier = () -> new BallerinaCodeGenerator() {
+                @Override
+                public void setSourceFormatter(SourceFormatter sourceFormatter) {
+                    formatterChanges.incrementAndGet();
+                    super.setSourceFormatter(sourceFormatter);
+                }
+            };
+            List<BatchCodeGenerator.Result> results = new BatchCodeGenerator(generatorSupplier, parallelism)
+                    .generate(List.of(Paths.get("first.yaml"), Paths.get("second.yaml")),
+                            tmpDir.resolve("formatters-" + parallelism), (generator, definition, name, outputPath) -> {
+                            });
+
+            Assert.assertTrue(results.stream().allMatch(BatchCodeGenerator.Result::isSuccess));
+            Assert.assertEquals(formatterChanges.get(), parallelism > 1 ? 2 : 0, "parallelism: " + parallelism);
+        }
+    }
+}
@@ -1139,6 +1139,26 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
         compareFiles(expectedFilePath, tmpDir.resolve("aligned_ballerina_openapi.yaml"));
     }
 
+    @Test(description = "Test openapi client generation for a directory of OpenAPI contracts")
+    public void testBatchClientGeneration() throws IOException {
+        Path inputDir = tmpDir.resolve("batch_input");
+        Path outputDir = tmpDir.resolve("batch_output");
+        Files.createDirectories(inputDir);
+        Files.copy(resourceDir.resolve("petstore.yaml"), inputDir.resolve("petstore.yaml"));
+        Files.copy(resourceDir.resolve("petstore_tags.yaml"), inputDir.resolve("petstore_tags.yaml"));
+        String[] args = {"--input", inputDir.toString(), "--mode", "client", "-o", outputDir.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("2 definition(s) processed, 2 succeeded, 0 failed."), output);
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore").resolve("client.bal")));
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore").resolve("types.bal")));
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore_tags").resolve("client.bal")));
+        FileUtils.deleteDirectory(inputDir.toFile());
+        FileUtils.deleteDirectory(outputDir.toFile());
+    }
+
     @AfterTest
     public void clean() {
         System.setErr(null);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.ballerina.openapi.generators.common.GeneratorTestUtils
+        .compareGeneratedSyntaxTreeWithExpectedSyntaxTree;
+
+/**
+ * Tests for running client generations concurrently with separate generation contexts.
+ */
+public class ConcurrentGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client").toAbsolutePath();
+    private static final String[] DEFINITIONS = {"missing_server_url", "blank_value_server_url"};
+
+    @Test(description = "Generate clients for different definitions concurrently")
+    public void generateClientsConcurrently() throws Exception {
+        int rounds = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(DEFINITIONS.length * rounds);
+        try {
+            List<Future<SyntaxTree>> results = new ArrayList<>();
+            for (int i = 0; i < rounds; i++) {
+                for (String definition : DEFINITIONS) {
+                    results.add(executor.submit(generateClient(definition)));
+                }
+            }
+            for (int i = 0; i < results.size(); i++) {
+                String definition = DEFINITIONS[i % DEFINITIONS.length];
+                compareGeneratedSyntaxTreeWithExpectedSyntaxTree(
+                        RES_DIR.resolve("ballerina/" + definition + ".bal"), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Number the status code records of concurrent generations separately")
+    public void generateRecordNamesConcurrently() throws Exception {
+        int generations = 4;
+        int records = 5;
+        CyclicBarrier barrier = new CyclicBarrier(generations);
+        ExecutorService executor = Executors.newFixedThreadPool(generations);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < generations; i++) {
+                results.add(executor.submit(generateRecordNames(records, barrier)));
+            }
+            for (Future<List<String>> result : results) {
+                List<String> recordNames = result.get();
+                Assert.assertEquals(recordNames.size(), records);
+                Assert.assertTrue(recordNames.get(0).endsWith("Response"));
+                for (int i = 1; i < records; i++) {
+                    Assert.assertEquals(recordNames.get(i), recordNames.get(0) + "_" + i);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Fail with a descriptive error when a generation step runs without a generation context",
+            expectedExceptions = IllegalStateException.class,
+            expectedExceptionsMessageRegExp = "no OpenAPI generation context is attached to the current thread.*")
+    public void generateRecordNameWithoutContext() {
+        Assert.assertTrue(GenerationContext.getCurrent().isEmpty());
+        GeneratorUtils.generateTypeDescForMediaType(new OpenAPI(), "/greeting", false, mapMediaType());
+    }
+
+    /**
+     * Generates the given number of status code records of the same path within a separate generation context. The
+     * generations wait for each other before each record, so that their record names are generated interleaved.
+     */
+    private static Callable<List<String>> generateRecordNames(int records, CyclicBarrier barrier) {
+        return () -> {
+            OpenAPI openAPI = new OpenAPI().components(new Components());
+            List<String> recordNames = new ArrayList<>();
+            try (GenerationContext.Scope ignored = GenerationContext.create(openAPI, false).attach()) {
+                for (int i = 0; i < records; i++) {
+                    barrier.await();
+                    TypeDescriptorNode typeDescriptor = GeneratorUtils.generateTypeDescForMediaType(openAPI,
+                            "/greeting", false, mapMediaType());
+                    recordNames.add(typeDescriptor.toString().trim());
+                }
+            }
+            Assert.assertTrue(GenerationContext.getCurrent().isEmpty());
+            return recordNames;
+        };
+    }
+
+    private static Map.Entry<String, MediaType> mapMediaType() {
+        return Map.entry("application/json", new MediaType().schema(new MapSchema()
+                .additionalProperties(new StringSchema())));
+    }
+
+    private static Callable<SyntaxTree> generateClient(String definition) {
+        return () -> {
+            OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/" + definition + ".yaml"),
+                    true, false);
+            OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                    .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(false).build();
+            GenerationContext generationContext = GenerationContext.create(openAPI, false);
+            BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig,
+                    generationContext);
+            SyntaxTree syntaxTree = clientGenerator.generateSyntaxTree();
+            Assert.assertTrue(GenerationContext.getCurrent().isEmpty());
+            return syntaxTree;
+        };
+    }
+}
@@ -225,6 +225,28 @@ public class UtilGenerationTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedUtilsPath, utilsSyntaxTree);
     }
 
+    @Test(description = "Validate the util functions generated with native serialization for OpenAPI definition " +
+            "with query parameters")
+    public void testUtilFileGenForQueryParamsWithNativeSerialization() throws IOException, BallerinaOpenApiException,
+            ClientException {
+        Path definitionPath = RESDIR.resolve("swagger/query_param.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
+        TypeHandler.createInstance(openAPI, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true)
+                .withNativeSerialization(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        ballerinaClientGenerator.generateSyntaxTree();
+        String utilContent = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toString();
+        Assert.assertTrue(utilContent.contains("import ballerina/jballerina.java;"));
+        Assert.assertFalse(utilContent.contains("import ballerina/url;"));
+        Assert.assertTrue(utilContent.contains("io.ballerina.openapi.client.QuerySerializer"));
+        Assert.assertTrue(utilContent.contains("getSerializedQueryPath(http:getQueryMap(queryParam), encodingMap)"));
+        Assert.assertFalse(utilContent.contains("string:'join"));
+    }
+
     private boolean checkUtil(List<String> invalidFunctionNames, SyntaxTree utilSyntaxTree) {
         ModulePartNode modulePartNode = utilSyntaxTree.rootNode();
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
@@ -1,6 +1,7 @@
 package io.ballerina.openapi.generators.common;
 
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.document.OperationKey;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -25,4 +26,21 @@ public class DocCommenTests {
                 "user/ssh_signing_keys/[int ssh_signing_key_id]", "XXX"),
                 "user/ssh_signing_keys/XXX");
     }
+
+    @Test(description = "Operations and the resource functions generated for them map to the same key")
+    public void testOperationKeyOfResource() {
+        Assert.assertEquals(OperationKey.ofResource("user/gpg_keys/[int gpg_key_id]", "get"),
+                OperationKey.of("/user/gpg_keys/{gpg_key_id}", "GET"));
+        Assert.assertEquals(OperationKey.ofResource("admin/api/2021-10/customers/[string customer_id]", "post"),
+                OperationKey.of("/admin/api/2021-10/customers/{customer_id}", "POST"));
+        Assert.assertEquals(OperationKey.ofResource(".", "get"), OperationKey.of("/", "GET"));
+        Assert.assertNotEquals(OperationKey.ofResource("user/gpg_keys/[int gpg_key_id]", "get"),
+                OperationKey.of("/user/gpg_keys/{gpg_key_id}", "DELETE"));
+        String[] paths = {"user/ssh_signing_keys/[int ssh_signing_key_id]", "admin/api/2021-10/customers/{id}/orders",
+                "a.b/c-d/{x}.json/e", "{a}/{b}[c]", "users/{id"};
+        for (String path : paths) {
+            Assert.assertEquals(OperationKey.ofResource(path, "get").path(),
+                    GeneratorUtils.replaceContentWithinBrackets(path, "XXX"));
+        }
+    }
 }
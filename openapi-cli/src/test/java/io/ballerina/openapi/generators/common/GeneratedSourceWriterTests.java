@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.generators.common.GeneratedSourceWriter;
+import io.ballerina.openapi.generators.openapi.TestUtils;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Tests for writing the generated sources.
+ */
+public class GeneratedSourceWriterTests {
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("openapi-generated-sources-" + System.nanoTime());
+    }
+
+    @Test(description = "Files with the generated content are not written again")
+    public void testUnchangedSources() throws IOException {
+        Path filePath = tempDir.resolve("client").resolve("types.bal");
+        GeneratedSourceWriter writer = new GeneratedSourceWriter();
+        Assert.assertTrue(writer.write(filePath, "public type Id int;"));
+        FileTime modifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(filePath, modifiedTime);
+
+        Assert.assertFalse(writer.write(filePath, "public type Id int;"));
+        Assert.assertEquals(Files.getLastModifiedTime(filePath), modifiedTime);
+        Assert.assertEquals(writer.getWrittenCount(), 1);
+        Assert.assertEquals(writer.getSkippedCount(), 1);
+    }
+
+    @Test(description = "Files with a different content are replaced")
+    public void testChangedSources() throws IOException {
+        Path filePath = tempDir.resolve("types.bal");
+        Files.writeString(filePath, "public type Id int;", StandardCharsets.UTF_8);
+        GeneratedSourceWriter writer = new GeneratedSourceWriter();
+
+        // Same size, different content
+        Assert.assertTrue(writer.write(filePath, "public type Id str;"));
+        Assert.assertEquals(Files.readString(filePath, StandardCharsets.UTF_8), "public type Id str;");
+        Assert.assertTrue(writer.write(filePath, "public type Id string;"));
+        Assert.assertEquals(Files.readString(filePath, StandardCharsets.UTF_8), "public type Id string;");
+        Assert.assertEquals(writer.getWrittenCount(), 2);
+        Assert.assertEquals(writer.getSkippedCount(), 0);
+    }
+
+    @Test(description = "Written files get the default permissions and replaced files keep their permissions")
+    public void testFilePermissions() throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            throw new SkipException("POSIX file permissions are not supported");
+        }
+        Path filePath = tempDir.resolve("types.bal");
+        GeneratedSourceWriter writer = new GeneratedSourceWriter();
+        Assert.assertTrue(writer.write(filePath, "public type Id int;"));
+        Assert.assertEquals(Files.getPosixFilePermissions(filePath), PosixFilePermissions.fromString("rw-r--r--"));
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw----");
+        Files.setPosixFilePermissions(filePath, permissions);
+        Assert.assertTrue(writer.write(filePath, "public type Id string;"));
+        Assert.assertEquals(Files.getPosixFilePermissions(filePath), permissions);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            Assert.assertEquals(files.toList(), List.of(filePath));
+        }
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        TestUtils.deleteDirectory(this.tempDir);
+    }
+}
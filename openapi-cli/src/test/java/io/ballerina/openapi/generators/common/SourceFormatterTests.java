@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.exception.ClientException;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
+import io.ballerina.openapi.core.generators.common.GeneratorUtils;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
+import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.common.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for formatting the generated syntax trees concurrently.
+ */
+public class SourceFormatterTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client").toAbsolutePath();
+
+    @Test(description = "Sources formatted concurrently and in chunks are the same as the ones formatted serially")
+    public void testConcurrentFormatting() throws IOException, BallerinaOpenApiException, ClientException,
+            FormatterException {
+        List<SyntaxTree> syntaxTrees = generateClient("salesforce_openapi.yaml");
+        ModulePartNode typesModulePart = syntaxTrees.get(2).rootNode();
+        Assert.assertTrue(typesModulePart.members().size() > 8);
+
+        List<String> serialSources = new SourceFormatter(1, 0).format(syntaxTrees);
+        Assert.assertEquals(new SourceFormatter(4, 0).format(syntaxTrees), serialSources);
+        for (int chunkSize : new int[]{1, 2, 7}) {
+            Assert.assertEquals(new SourceFormatter(4, chunkSize).format(syntaxTrees), serialSources,
+                    "chunk size: " + chunkSize);
+        }
+    }
+
+    @Test(description = "Formatters called concurrently share the formatting pool and give the serial sources")
+    public void testConcurrentCallers() throws Exception {
+        List<SyntaxTree> syntaxTrees = generateClient("salesforce_openapi.yaml");
+        List<String> serialSources = new SourceFormatter(1, 0).format(syntaxTrees);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> new SourceFormatter(4, 7).format(syntaxTrees)));
+            }
+            for (Future<List<String>> result : results) {
+                Assert.assertEquals(result.get(), serialSources);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Formatting no trees gives no sources")
+    public void testFormattingNoTrees() throws FormatterException {
+        Assert.assertTrue(new SourceFormatter(4, 1).format(List.of()).isEmpty());
+    }
+
+    private static List<SyntaxTree> generateClient(String definition) throws IOException, BallerinaOpenApiException,
+            ClientException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/" + definition), true, false);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        GenerationContext generationContext = GenerationContext.create(openAPI, false);
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig, generationContext);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        return List.of(clientSyntaxTree, clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree(),
+                generationContext.getTypeHandler().generateTypeSyntaxTree());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.openapi.service.mapper.metainfo.ExampleFileCache;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+/**
+ * This test class covers the caching of the example files referred by the resource info annotations.
+ */
+public class ExampleFileCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/ballerina-to-openapi").toAbsolutePath();
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+    }
+
+    @Test(description = "Example file is parsed once while it is unchanged")
+    public void testUnchangedExampleFile() throws IOException {
+        Path exampleFile = RES_DIR.resolve("metainfo/examples/example.json");
+        ExampleFileCache cache = new ExampleFileCache();
+        Map<String, Object> example = cache.read(exampleFile);
+        Assert.assertEquals(example.get("toCurrency"), "LKR");
+        Assert.assertSame(cache.read(exampleFile), example);
+    }
+
+    @Test(description = "Modified example file is parsed again")
+    public void testModifiedExampleFile() throws IOException {
+        Path exampleFile = tempDir.resolve("example.json");
+        Files.copy(RES_DIR.resolve("metainfo/examples/example.json"), exampleFile,
+                StandardCopyOption.REPLACE_EXISTING);
+        ExampleFileCache cache = new ExampleFileCache();
+        Map<String, Object> example = cache.read(exampleFile);
+        Files.writeString(exampleFile, "{\"toCurrency\": \"USD\"}");
+        Files.setLastModifiedTime(exampleFile, FileTime.fromMillis(Files.getLastModifiedTime(exampleFile).toMillis()
+                + 10_000));
+        Map<String, Object> modifiedExample = cache.read(exampleFile);
+        Assert.assertNotSame(modifiedExample, example);
+        Assert.assertEquals(modifiedExample.get("toCurrency"), "USD");
+    }
+
+    @Test(description = "Example file without a JSON object is rejected", expectedExceptions = IOException.class)
+    public void testInvalidExampleFile() throws IOException {
+        Path exampleFile = Files.writeString(tempDir.resolve("invalid.json"), "[\"LKR\", \"USD\"]");
+        new ExampleFileCache().read(exampleFile);
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        TestUtils.deleteDirectory(this.tempDir);
+    }
+}
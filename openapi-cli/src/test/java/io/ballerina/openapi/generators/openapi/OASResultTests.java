@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * This test class covers the serialized forms of the {@link OASResult}, which are reused until the definition is
+ * replaced.
+ */
+public class OASResultTests {
+
+    @Test(description = "Serialized definition is reused by the repeated calls")
+    public void testRepeatedCalls() {
+        OASResult oasResult = new OASResult(createOpenAPI("Greeting"), new ArrayList<>());
+        String yaml = oasResult.getYaml().orElseThrow();
+        String json = oasResult.getJson().orElseThrow();
+        Assert.assertTrue(yaml.contains("title: Greeting"));
+        Assert.assertTrue(json.contains("\"title\" : \"Greeting\""));
+        Assert.assertSame(oasResult.getYaml().orElseThrow(), yaml);
+        Assert.assertSame(oasResult.getJson().orElseThrow(), json);
+    }
+
+    @Test(description = "Serialized definition is invalidated when the definition is replaced")
+    public void testInvalidationAfterSetOpenAPI() {
+        OASResult oasResult = new OASResult(createOpenAPI("Greeting"), new ArrayList<>());
+        String yaml = oasResult.getYaml().orElseThrow();
+        String json = oasResult.getJson().orElseThrow();
+
+        oasResult.setOpenAPI(createOpenAPI("Farewell"));
+        Assert.assertNotEquals(oasResult.getYaml().orElseThrow(), yaml);
+        Assert.assertTrue(oasResult.getYaml().orElseThrow().contains("title: Farewell"));
+        Assert.assertNotEquals(oasResult.getJson().orElseThrow(), json);
+        Assert.assertTrue(oasResult.getJson().orElseThrow().contains("\"title\" : \"Farewell\""));
+        Assert.assertEquals(oasResult.getJsonNode().orElseThrow().get("info").get("title").asText(), "Farewell");
+
+        oasResult.setOpenAPI(null);
+        Assert.assertTrue(oasResult.getJsonNode().isEmpty());
+    }
+
+    @Test(description = "JSON tree is the same as the serialized JSON and is not shared between the calls")
+    public void testJsonNode() throws IOException {
+        OASResult oasResult = new OASResult(createOpenAPI("Greeting"), new ArrayList<>());
+        JsonNode jsonNode = oasResult.getJsonNode().orElseThrow();
+        Assert.assertEquals(jsonNode, Json.mapper().readTree(oasResult.getJson().orElseThrow()));
+        Assert.assertNotSame(oasResult.getJsonNode().orElseThrow(), jsonNode);
+    }
+
+    @Test(description = "Definition which cannot be converted gives empty serialized forms")
+    public void testConversionFailure() {
+        OpenAPI openAPI = createOpenAPI("Greeting");
+        openAPI.addExtension("x-failing", new FailingValue());
+        OASResult oasResult = new OASResult(openAPI, new ArrayList<>());
+        Assert.assertTrue(oasResult.getJsonNode().isEmpty());
+        Assert.assertTrue(oasResult.getJson().isEmpty());
+    }
+
+    private static OpenAPI createOpenAPI(String title) {
+        return new OpenAPI().openapi("3.0.1").info(new Info().title(title).version("0.1.0"));
+    }
+
+    /**
+     * Extension value which fails to be converted to JSON.
+     */
+    public static class FailingValue {
+        public String getValue() {
+            throw new IllegalStateException("value is not available");
+        }
+    }
+}
@@ -17,7 +17,16 @@
  */
 package io.ballerina.openapi.generators.openapi;
 
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
 import io.ballerina.openapi.cmd.OASContractGenerator;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -27,7 +36,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -69,6 +80,69 @@ public class ServiceDeclarationNodesTests {
                 "multiple_services_no_base_path_");
     }
 
+    @Test(description = "Services exported concurrently are the same as the services exported one by one")
+    public void multipleServicesExportedInParallel() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("multiple_services_no_base_path.bal");
+        Path parallelDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+        try {
+            new OASContractGenerator().generateOAS3DefinitionsAllService(ballerinaFilePath, tempDir, null, false);
+            OASContractGenerator parallelConverter = new OASContractGenerator();
+            parallelConverter.setParallelism(4);
+            parallelConverter.generateOAS3DefinitionsAllService(ballerinaFilePath, parallelDir, null, false);
+
+            String[] fileNames = Objects.requireNonNull(tempDir.toFile().list());
+            Assert.assertTrue(fileNames.length > 1);
+            Assert.assertEqualsNoOrder(Objects.requireNonNull(parallelDir.toFile().list()), fileNames);
+            for (String fileName : fileNames) {
+                Assert.assertEquals(Files.readString(parallelDir.resolve(fileName)),
+                        Files.readString(tempDir.resolve(fileName)));
+            }
+        } finally {
+            deleteDirectory(tempDir);
+            deleteDirectory(parallelDir);
+        }
+    }
+
+    @Test(description = "Services mapped concurrently are returned in the order of the sequential mapping")
+    public void multipleServicesMappedInParallel() {
+        Project project = ProjectLoader.loadProject(RES_DIR.resolve("multiple_services.bal"));
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+
+        List<OASResult> sequentialResults = ServiceToOpenAPIMapper.generateOAS3Definition(project,
+                document.syntaxTree(), semanticModel, null, false, null, false, null, null, 1);
+        Assert.assertEquals(sequentialResults.size(), 2);
+        for (int run = 0; run < 10; run++) {
+            List<OASResult> parallelResults = ServiceToOpenAPIMapper.generateOAS3Definition(project,
+                    document.syntaxTree(), semanticModel, null, false, null, false, null, null, 4);
+            Assert.assertEquals(parallelResults.size(), sequentialResults.size());
+            for (int i = 0; i < sequentialResults.size(); i++) {
+                OASResult sequentialResult = sequentialResults.get(i);
+                OASResult parallelResult = parallelResults.get(i);
+                Assert.assertEquals(parallelResult.getServiceName(), sequentialResult.getServiceName());
+                Assert.assertEquals(parallelResult.getYaml(), sequentialResult.getYaml());
+                Assert.assertEquals(parallelResult.getDiagnostics().size(), sequentialResult.getDiagnostics().size());
+            }
+        }
+    }
+
+    @Test(description = "Module members are indexed once and the index cannot be modified")
+    public void moduleMembersIndex() {
+        Project project = ProjectLoader.loadProject(RES_DIR.resolve("multiple_services.bal"));
+        Module module = project.currentPackage().getDefaultModule();
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        ModuleMemberVisitor moduleMembers = ServiceToOpenAPIMapper.extractNodesFromProject(project, semanticModel);
+
+        Set<ListenerDeclarationNode> listeners = moduleMembers.getListenerDeclarationNodes();
+        Assert.assertEquals(listeners.size(), 1);
+        Assert.assertEquals(listeners.iterator().next().variableName().text(), "ep1");
+        Assert.assertThrows(UnsupportedOperationException.class, listeners::clear);
+        Assert.assertThrows(UnsupportedOperationException.class,
+                () -> moduleMembers.getServiceContractTypeNodes().clear());
+        Assert.assertTrue(moduleMembers.getTypeDefinitionNode("Pet").isEmpty());
+    }
+
     private static String getStringFromGivenBalFile(Path expectedServiceFile, String s) throws IOException {
         Stream<String> expectedServiceLines = Files.lines(expectedServiceFile.resolve(s));
         String expectedServiceContent = expectedServiceLines.collect(Collectors.joining("\n"));
@@ -27,7 +27,6 @@ import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.openapi.core.generators.type.generators.UnionTypeGenerator;
-import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -58,7 +57,7 @@ public class AnyOfDataTypeTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
         Schema<?> schema = openAPI.getComponents().getSchemas().get("AnyOF");
         ComposedSchema composedSchema = (ComposedSchema) schema;
-        GeneratorMetaData.createInstance(openAPI, false);
+        TypeHandler.createInstance(openAPI, false);
         UnionTypeGenerator unionTypeGenerator = new UnionTypeGenerator(composedSchema, "AnyOF", false,
                 new HashMap<>(), new HashMap<>());
         String anyOfUnionType = unionTypeGenerator.generateTypeDescriptorNode().toString().trim();
@@ -29,7 +29,6 @@ import io.ballerina.openapi.core.generators.type.TypeGeneratorUtils;
 import io.ballerina.openapi.core.generators.type.exception.OASTypeGenException;
 import io.ballerina.openapi.core.generators.type.generators.TypeGenerator;
 import io.ballerina.openapi.core.generators.type.generators.UnionTypeGenerator;
-import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
 import io.ballerina.openapi.generators.common.GeneratorTestUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ComposedSchema;
@@ -60,7 +59,7 @@ public class OneOfDataTypeTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
         Schema<?> schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
-        GeneratorMetaData.createInstance(openAPI, false);
+        TypeHandler.createInstance(openAPI, false);
         UnionTypeGenerator unionTypeGenerator = new UnionTypeGenerator(composedSchema, "Error", false,
                 new HashMap<>(), new HashMap<>());
         String oneOfUnionType = unionTypeGenerator.generateTypeDescriptorNode().toString().trim();
@@ -74,7 +73,7 @@ public class OneOfDataTypeTests {
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
         Schema<?> schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
-        GeneratorMetaData.createInstance(openAPI, false);
+        TypeHandler.createInstance(openAPI, false);
         UnionTypeGenerator unionTypeGenerator = new UnionTypeGenerator(composedSchema, "Error", false,
                 new HashMap<>(), new HashMap<>());
         String oneOfUnionType = unionTypeGenerator.generateTypeDescriptorNode().toString().trim();
@@ -86,7 +85,7 @@ public class OneOfDataTypeTests {
         Path definitionPath = RES_DIR.resolve("generators/schema/swagger/scenario12.yaml");
         OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true, false);
         Schema<?> schema = openAPI.getComponents().getSchemas().get("Error");
-        GeneratorMetaData.createInstance(openAPI, true);
+        TypeHandler.createInstance(openAPI, true);
         TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, "Error", null, false,
                 new HashMap<>(), new HashMap<>());
         String oneOfUnionType = typeGenerator.generateTypeDescriptorNode().toString().trim();
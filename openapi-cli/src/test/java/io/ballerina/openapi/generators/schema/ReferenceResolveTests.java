@@ -19,14 +19,19 @@
 package io.ballerina.openapi.generators.schema;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.TypeHandler;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.service.ServiceGenerationHandler;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.generators.type.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.type.model.TypeGeneratorResult;
 import io.ballerina.openapi.generators.common.GeneratorTestUtils;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
 import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -145,4 +150,22 @@ public class ReferenceResolveTests {
         GeneratorTestUtils.assertGeneratedSyntaxTreeContainsExpectedSyntaxTree(
                 "schema/ballerina/schema_with_request_body_ref.bal", syntaxTree);
     }
+
+    @Test(description = "Test that a component referred by several schemas is generated only once")
+    public void testReferredComponentsGeneratedOnce() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("swagger/nested_schema_refs.yaml"),
+                true, false);
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(GenerationContext.create(openAPI,
+                false));
+        TypeGeneratorResult statusResult = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                new Schema<>().$ref("#/components/schemas/ProjectStatusBase"), false);
+        Assert.assertTrue(statusResult.subtypeDefinitions().containsKey("ProjectStatusBase"));
+        Assert.assertTrue(statusResult.subtypeDefinitions().containsKey("UserCompact"));
+
+        TypeGeneratorResult userResult = typesGenerator.generateTypeDescriptorNodeForOASSchema(
+                new Schema<>().$ref("#/components/schemas/UserCompact"), true);
+        Assert.assertEquals(userResult.typeDescriptorNode().orElseThrow().toSourceCode().trim(), "UserCompact");
+        Assert.assertTrue(userResult.subtypeDefinitions().isEmpty());
+        Assert.assertTrue(typesGenerator.getDiagnostics().isEmpty());
+    }
 }
@@ -0,0 +1,131 @@
+import ballerina/jballerina.java;
+import ballerina/test;
+
+// The implementation function names of a client type are resolved once by `ClientUtil` and shared by all the
+// clients of that type. This client does not call the service, its implementation functions only report which one
+// the resource or remote method was dispatched to.
+
+isolated client class MethodTableClient {
+
+    @MethodImpl {name: "getAlbumsImpl"}
+    resource isolated function get albums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "postAlbumsImpl"}
+    resource isolated function post albums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "putAlbumsImpl"}
+    resource isolated function put albums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "patchAlbumsImpl"}
+    resource isolated function patch albums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "deleteAlbumsImpl"}
+    resource isolated function delete albums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "headAlbumsImpl"}
+    resource isolated function head albums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "optionsAlbumsImpl"}
+    resource isolated function options albums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResourceWithoutPath"} external;
+
+    @MethodImpl {name: "getAlbumsIdImpl"}
+    resource isolated function get albums/[string id](map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResource"} external;
+
+    resource isolated function get albums/[string id]/tracks(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invokeResource"} external;
+
+    @MethodImpl {name: "getAlbumsImpl"}
+    remote isolated function getAlbums(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invoke"} external;
+
+    @MethodImpl {name: "getArtistsImpl"}
+    remote isolated function getArtists(map<string|string[]> headers = {}) returns string|error = @java:Method {'class: "io.ballerina.openapi.client.GeneratedClient", name: "invoke"} external;
+
+    private isolated function getAlbumsImpl(map<string|string[]> headers) returns string {
+        return "get";
+    }
+
+    private isolated function postAlbumsImpl(map<string|string[]> headers) returns string {
+        return "post";
+    }
+
+    private isolated function putAlbumsImpl(map<string|string[]> headers) returns string {
+        return "put";
+    }
+
+    private isolated function patchAlbumsImpl(map<string|string[]> headers) returns string {
+        return "patch";
+    }
+
+    private isolated function deleteAlbumsImpl(map<string|string[]> headers) returns string {
+        return "delete";
+    }
+
+    private isolated function headAlbumsImpl(map<string|string[]> headers) returns string {
+        return "head";
+    }
+
+    private isolated function optionsAlbumsImpl(map<string|string[]> headers) returns string {
+        return "options";
+    }
+
+    private isolated function getAlbumsIdImpl(string id, map<string|string[]> headers) returns string {
+        return "get " + id;
+    }
+}
+
+final MethodTableClient methodTableClient = new;
+
+@test:Config {}
+function testMethodTableResourceMethods() returns error? {
+    test:assertEquals(check methodTableClient->/albums.get(), "get");
+    test:assertEquals(check methodTableClient->/albums.post(), "post");
+    test:assertEquals(check methodTableClient->/albums.put(), "put");
+    test:assertEquals(check methodTableClient->/albums.patch(), "patch");
+    test:assertEquals(check methodTableClient->/albums.delete(), "delete");
+    test:assertEquals(check methodTableClient->/albums.head(), "head");
+    test:assertEquals(check methodTableClient->/albums.options(), "options");
+    test:assertEquals(check methodTableClient->/albums/'1.get(), "get 1");
+}
+
+@test:Config {}
+function testMethodTableRemoteMethods() returns error? {
+    test:assertEquals(check methodTableClient->getAlbums(), "get");
+}
+
+@test:Config {}
+function testMethodTableSharedByClients() returns error? {
+    // The second client of the same type is dispatched with the table resolved for the first one
+    MethodTableClient otherClient = new;
+    test:assertEquals(check methodTableClient->/albums.put(), "put");
+    test:assertEquals(check otherClient->/albums.put(), "put");
+    test:assertEquals(check otherClient->/albums.delete(), "delete");
+    test:assertEquals(check otherClient->/albums/'2.get(), "get 2");
+}
+
+@test:Config {}
+function testMethodTableAnnotationNotFound() {
+    string|error res = methodTableClient->/albums/'1/tracks.get();
+    if res is error {
+        test:assertTrue(res is ClientMethodInvocationError);
+        test:assertEquals(res.message(), "error in invoking client resource method: Method implementation annotation not found");
+    } else {
+        test:assertFail("invalid response type");
+    }
+    // The error is kept in the table, so that it is reported again for the next invocation
+    res = methodTableClient->/albums/'1/tracks.get();
+    if res is error {
+        test:assertEquals(res.message(), "error in invoking client resource method: Method implementation annotation not found");
+    } else {
+        test:assertFail("invalid response type");
+    }
+}
+
+@test:Config {}
+function testMethodTableUnknownImplFunction() {
+    string|error res = methodTableClient->getArtists();
+    if res is error {
+        test:assertTrue(res is ClientMethodInvocationError);
+        test:assertEquals(res.message(), "client method invocation failed: No such method: getArtistsImpl");
+    } else {
+        test:assertFail("invalid response type");
+    }
+}
@@ -0,0 +1,227 @@
+import ballerina/http;
+import ballerina/jballerina.java;
+import ballerina/test;
+
+// The native serializers are compared with the Ballerina implementations in `utils.bal`, which are the ones the
+// generated clients used before the native serialization was added.
+
+isolated function nativeCreateFormURLEncodedRequestBody(record {|anydata...; |} anyRecord, map<Encoding> encodingMap = {}) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer",
+    name: "createFormURLEncodedRequestBody"
+} external;
+
+isolated function nativeGetDeepObjectStyleRequest(string parent, record {} anyRecord) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer",
+    name: "getDeepObjectStyleRequest"
+} external;
+
+isolated function nativeGetFormStyleRequest(string parent, record {} anyRecord, boolean explode = true) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer",
+    name: "getFormStyleRequest"
+} external;
+
+isolated function nativeGetSerializedArray(string arrayName, anydata[] anyArray, string style = "form", boolean explode = true) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer",
+    name: "getSerializedArray"
+} external;
+
+isolated function nativeGetSerializedRecordArray(string parent, record {}[] value, string style = FORM, boolean explode = true) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer",
+    name: "getSerializedRecordArray"
+} external;
+
+isolated function nativeGetEncodedUri(anydata value) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer",
+    name: "getEncodedUri"
+} external;
+
+isolated function nativeGetSerializedQueryPath(map<anydata> queriesMap, map<Encoding> encodingMap) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer",
+    name: "getSerializedQueryPath"
+} external;
+
+// Ballerina implementation of the url-encoded request body serialization in the `utils_openapi.bal` template
+isolated function createFormURLEncodedRequestBody(record {|anydata...; |} anyRecord, map<Encoding> encodingMap = {}) returns string {
+    string[] payload = [];
+    foreach [string, anydata] [key, value] in anyRecord.entries() {
+        Encoding encodingData = encodingMap.hasKey(key) ? encodingMap.get(key) : defaultEncoding;
+        if value is SimpleBasicType {
+            payload.push(key, "=", getEncodedUri(value.toString()));
+        } else if value is SimpleBasicType[] {
+            payload.push(getSerializedArray(key, value, encodingData.style, encodingData.explode));
+        } else if (value is record {}) {
+            if encodingData.style == DEEPOBJECT {
+                payload.push(getDeepObjectStyleRequest(key, value));
+            } else {
+                payload.push(getFormStyleRequest(key, value));
+            }
+        } else if (value is record {}[]) {
+            payload.push(getSerializedRecordArray(key, value, encodingData.style, encodingData.explode));
+        }
+        payload.push("&");
+    }
+    _ = payload.pop();
+    return string:'join("", ...payload);
+}
+
+type Address record {
+    string city;
+    string street;
+};
+
+type Pet record {
+    string name;
+    int age;
+    string[] tags;
+    Address address;
+};
+
+final readonly & int[] ids = [1, 2, 3];
+final readonly & string[] reservedValues = ["a b", "c&d=e", "f/g?h#i"];
+final readonly & Pet pet = {
+    name: "Tom & Jerry",
+    age: 3,
+    tags: ["cat", "black/white"],
+    address: {city: "Colombo", street: "1st Lane"}
+};
+
+@test:Config {}
+function testSerializedArrayWithExplode() {
+    assertSerialization(nativeGetSerializedArray("ids", ids, FORM, true),
+            getSerializedArray("ids", ids, FORM, true), "ids=1&ids=2&ids=3");
+    assertSerialization(nativeGetSerializedArray("ids", ids, SPACEDELIMITED, true),
+            getSerializedArray("ids", ids, SPACEDELIMITED, true), "ids=1&ids=2&ids=3");
+    assertSerialization(nativeGetSerializedArray("ids", ids, PIPEDELIMITED, true),
+            getSerializedArray("ids", ids, PIPEDELIMITED, true), "ids=1&ids=2&ids=3");
+    assertSerialization(nativeGetSerializedArray("ids", ids, DEEPOBJECT, true),
+            getSerializedArray("ids", ids, DEEPOBJECT, true), "ids[]=1&ids[]=2&ids[]=3");
+    assertSerialization(nativeGetSerializedArray("ids", ids), getSerializedArray("ids", ids), "ids=1&ids=2&ids=3");
+}
+
+@test:Config {}
+function testSerializedArrayWithoutExplode() {
+    assertSerialization(nativeGetSerializedArray("ids", ids, FORM, false),
+            getSerializedArray("ids", ids, FORM, false), "ids=1,2,3");
+    assertSerialization(nativeGetSerializedArray("ids", ids, SPACEDELIMITED, false),
+            getSerializedArray("ids", ids, SPACEDELIMITED, false), "ids=1%202%203");
+    assertSerialization(nativeGetSerializedArray("ids", ids, PIPEDELIMITED, false),
+            getSerializedArray("ids", ids, PIPEDELIMITED, false), "ids=1|2|3");
+    assertSerialization(nativeGetSerializedArray("ids", ids, DEEPOBJECT, false),
+            getSerializedArray("ids", ids, DEEPOBJECT, false), "ids[]=1&ids[]=2&ids[]=3");
+    // The lowercase default style of the Ballerina function does not match the `FORM` style
+    assertSerialization(nativeGetSerializedArray("ids", ids, "form", false),
+            getSerializedArray("ids", ids, "form", false), "ids=1&ids=2&ids=3");
+    assertSerialization(nativeGetSerializedArray("ids", [], FORM, false), getSerializedArray("ids", [], FORM, false),
+            "");
+}
+
+@test:Config {}
+function testSerializedArrayWithReservedCharacters() {
+    assertSerialization(nativeGetSerializedArray("q", reservedValues, FORM, true),
+            getSerializedArray("q", reservedValues, FORM, true), "q=a%20b&q=c%26d%3De&q=f%2Fg%3Fh%23i");
+    assertSerialization(nativeGetSerializedArray("q", reservedValues, FORM, false),
+            getSerializedArray("q", reservedValues, FORM, false), "q=a%20b,c%26d%3De,f%2Fg%3Fh%23i");
+    assertSerialization(nativeGetSerializedArray("q", reservedValues, SPACEDELIMITED, false),
+            getSerializedArray("q", reservedValues, SPACEDELIMITED, false), "q=a%20b%20c%26d%3De%20f%2Fg%3Fh%23i");
+    assertSerialization(nativeGetSerializedArray("q", reservedValues, PIPEDELIMITED, false),
+            getSerializedArray("q", reservedValues, PIPEDELIMITED, false), "q=a%20b|c%26d%3De|f%2Fg%3Fh%23i");
+}
+
+@test:Config {}
+function testFormStyleRequest() {
+    assertSerialization(nativeGetFormStyleRequest("pet", pet, true), getFormStyleRequest("pet", pet, true),
+            "name=Tom%20%26%20Jerry&age=3&tags=cat&tags=black%2Fwhite&city=Colombo&street=1st%20Lane");
+    assertSerialization(nativeGetFormStyleRequest("pet", pet, false), getFormStyleRequest("pet", pet, false),
+            "name,Tom%20%26%20Jerry,age,3,tags=cat&tags=black%2Fwhite,city,Colombo,street,1st%20Lane");
+}
+
+@test:Config {}
+function testDeepObjectStyleRequest() {
+    assertSerialization(nativeGetDeepObjectStyleRequest("pet", pet), getDeepObjectStyleRequest("pet", pet),
+            "pet[name]=Tom%20%26%20Jerry&pet[age]=3&pet[tags][][]=cat&pet[tags][][]=black%2Fwhite" +
+            "&pet[address][city]=Colombo&pet[address][street]=1st%20Lane");
+}
+
+@test:Config {}
+function testSerializedRecordArray() {
+    Address[] addresses = [{city: "Colombo", street: "1st Lane"}, {city: "Kandy", street: "A/B"}];
+    assertSerialization(nativeGetSerializedRecordArray("addresses", addresses, DEEPOBJECT, true),
+            getSerializedRecordArray("addresses", addresses, DEEPOBJECT, true),
+            "addresses[0][city]=Colombo&addresses[0][street]=1st%20Lane" +
+            "&addresses[1][city]=Kandy&addresses[1][street]=A%2FB");
+    assertSerialization(nativeGetSerializedRecordArray("addresses", addresses, FORM, true),
+            getSerializedRecordArray("addresses", addresses, FORM, true),
+            "city=Colombo&street=1st%20Lane,city=Kandy&street=A%2FB");
+    assertSerialization(nativeGetSerializedRecordArray("addresses", addresses, FORM, false),
+            getSerializedRecordArray("addresses", addresses, FORM, false),
+            "addresses=city,Colombo,street,1st%20Lane,city,Kandy,street,A%2FB");
+}
+
+@test:Config {}
+function testFormURLEncodedRequestBody() {
+    Address[] addresses = [{city: "Colombo", street: "1st Lane"}];
+    record {|anydata...; |} body = {
+        id: 10,
+        name: "a+b c",
+        ids: ids,
+        pet: pet,
+        addresses
+    };
+    map<Encoding> encodingMap = {
+        ids: {style: PIPEDELIMITED, explode: false},
+        pet: {style: DEEPOBJECT},
+        addresses: {style: FORM, explode: false}
+    };
+    assertSerialization(nativeCreateFormURLEncodedRequestBody(body, encodingMap),
+            createFormURLEncodedRequestBody(body, encodingMap),
+            "id=10&name=a%2Bb%20c&ids=1|2|3&pet[name]=Tom%20%26%20Jerry&pet[age]=3&pet[tags][][]=cat" +
+            "&pet[tags][][]=black%2Fwhite&pet[address][city]=Colombo&pet[address][street]=1st%20Lane" +
+            "&addresses=city,Colombo,street,1st%20Lane");
+    assertSerialization(nativeCreateFormURLEncodedRequestBody(body), createFormURLEncodedRequestBody(body),
+            "id=10&name=a%2Bb%20c&ids=1&ids=2&ids=3&name=Tom%20%26%20Jerry&age=3&tags=cat&tags=black%2Fwhite" +
+            "&city=Colombo&street=1st%20Lane&city=Colombo&street=1st%20Lane");
+}
+
+@test:Config {}
+function testQueryPath() returns error? {
+    map<anydata> queries = {
+        "limit": 10,
+        "sort": "name asc",
+        "ids": ids,
+        "filter": pet,
+        "missing": ()
+    };
+    foreach boolean explode in [true, false] {
+        foreach string style in [FORM, SPACEDELIMITED, PIPEDELIMITED, DEEPOBJECT] {
+            map<Encoding> encodingMap = {ids: {style, explode}, filter: {style, explode}};
+            string nativePath = nativeGetSerializedQueryPath(http:getQueryMap(queries.clone()), encodingMap);
+            string path = check getPathForQueryParam(queries.clone(), encodingMap);
+            test:assertEquals(nativePath, path, string `query path did not match for ${style}, explode ${explode}`);
+        }
+    }
+    string path = check getPathForQueryParam(queries.clone(), {ids: {style: SPACEDELIMITED, explode: false}});
+    test:assertEquals(nativeGetSerializedQueryPath(http:getQueryMap(queries.clone()),
+            {ids: {style: SPACEDELIMITED, explode: false}}), path);
+    test:assertEquals(path, "?limit=10&sort=name%20asc&ids=1%202%203&name=Tom%20%26%20Jerry&age=3&tags=cat" +
+            "&tags=black%2Fwhite&city=Colombo&street=1st%20Lane");
+    test:assertEquals(nativeGetSerializedQueryPath({}, {}), check getPathForQueryParam({}));
+}
+
+@test:Config {}
+function testEncodedUri() {
+    string reserved = ":/?#[]@!$&'()*+,;= %";
+    assertSerialization(nativeGetEncodedUri(reserved), getEncodedUri(reserved),
+            "%3A%2F%3F%23%5B%5D%40%21%24%26%27%28%29%2A%2B%2C%3B%3D%20%25");
+    string unreserved = "AZaz09-._~";
+    assertSerialization(nativeGetEncodedUri(unreserved), getEncodedUri(unreserved), unreserved);
+    string nonAscii = "café 😀";
+    assertSerialization(nativeGetEncodedUri(nonAscii), getEncodedUri(nonAscii), "caf%C3%A9%20%F0%9F%98%80");
+    foreach anydata value in [12, 1.5, 2.50d, true, -7] {
+        test:assertEquals(nativeGetEncodedUri(value), getEncodedUri(value));
+    }
+}
+
+isolated function assertSerialization(string nativeValue, string ballerinaValue, string expected) {
+    test:assertEquals(nativeValue, ballerinaValue, "native serialization did not match the Ballerina serialization");
+    test:assertEquals(nativeValue, expected);
+}
@@ -28,8 +28,10 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class contains the generated client's utility functions.
@@ -39,6 +41,9 @@ import java.util.Objects;
 public class ClientUtil {
 
     static final String CLIENT_ERROR = "ClientMethodInvocationError";
+    private static final BString METHOD_IMPL_NAME = StringUtils.fromString("name");
+    // Implementation function names are resolved once per client type and reused for all the invocations
+    private static final Map<ClientType, MethodTable> METHOD_TABLES = new ConcurrentHashMap<>();
 
     public static BError createHttpError(String message, BError cause) {
         return ErrorCreator.createError(ModuleUtils.getPackage(), CLIENT_ERROR, StringUtils.fromString(message),
@@ -46,28 +51,86 @@ public class ClientUtil {
     }
 
     public static String getResourceImplFunctionName(String functionName, BObject client) throws RuntimeException {
-        ResourceMethodType resourceMethodNotFound = Arrays.stream(((ClientType) client.getOriginalType()).
-                        getResourceMethods()).filter(resourceMethod -> resourceMethod.getName().equals(functionName)).
-                findFirst().orElseThrow(() -> new RuntimeException("Resource method not found"));
-        return getImplFunctionName(resourceMethodNotFound);
+        ImplFunction implFunction = getMethodTable(client).resourceMethods().get(functionName);
+        if (Objects.isNull(implFunction)) {
+            throw new RuntimeException("Resource method not found");
+        }
+        return implFunction.getName();
     }
 
     public static String getRemoteImplFunctionName(String functionName, BObject client) throws RuntimeException {
-        RemoteMethodType remoteMethodNotFound = Arrays.stream(((ClientType) client.getOriginalType()).
-                        getRemoteMethods()).filter(remoteMethod -> remoteMethod.getName().equals(functionName)).
-                findFirst().orElseThrow(() -> new RuntimeException("Remote method not found"));
-        return getImplFunctionName(remoteMethodNotFound);
+        ImplFunction implFunction = getMethodTable(client).remoteMethods().get(functionName);
+        if (Objects.isNull(implFunction)) {
+            throw new RuntimeException("Remote method not found");
+        }
+        return implFunction.getName();
+    }
+
+    private static MethodTable getMethodTable(BObject client) {
+        ClientType clientType = (ClientType) client.getOriginalType();
+        MethodTable methodTable = METHOD_TABLES.get(clientType);
+        if (Objects.isNull(methodTable)) {
+            methodTable = METHOD_TABLES.computeIfAbsent(clientType, ClientUtil::createMethodTable);
+        }
+        return methodTable;
+    }
+
+    private static MethodTable createMethodTable(ClientType clientType) {
+        ResourceMethodType[] resourceMethods = clientType.getResourceMethods();
+        Map<String, ImplFunction> resourceImplFunctions = new HashMap<>(resourceMethods.length * 2);
+        for (ResourceMethodType resourceMethod : resourceMethods) {
+            resourceImplFunctions.putIfAbsent(resourceMethod.getName(), getImplFunction(resourceMethod));
+        }
+        RemoteMethodType[] remoteMethods = clientType.getRemoteMethods();
+        Map<String, ImplFunction> remoteImplFunctions = new HashMap<>(remoteMethods.length * 2);
+        for (RemoteMethodType remoteMethod : remoteMethods) {
+            remoteImplFunctions.putIfAbsent(remoteMethod.getName(), getImplFunction(remoteMethod));
+        }
+        return new MethodTable(resourceImplFunctions, remoteImplFunctions);
     }
 
-    private static String getImplFunctionName(MethodType clientMethod) {
-        BString methodImplKey = Arrays.stream(clientMethod.getAnnotations().getKeys()).
-                filter(key -> key.getValue().contains("MethodImpl")).
-                findFirst().orElseThrow(() -> new RuntimeException("Method implementation annotation not found"));
+    private static ImplFunction getImplFunction(MethodType clientMethod) {
+        BString methodImplKey = null;
+        for (BString key : clientMethod.getAnnotations().getKeys()) {
+            if (key.getValue().contains("MethodImpl")) {
+                methodImplKey = key;
+                break;
+            }
+        }
+        if (Objects.isNull(methodImplKey)) {
+            return new ImplFunction(null, "Method implementation annotation not found");
+        }
         BMap methodImplAnnotation = (BMap) clientMethod.getAnnotation(methodImplKey);
-        BString implFunctionName = methodImplAnnotation.getStringValue(StringUtils.fromString("name"));
+        BString implFunctionName = methodImplAnnotation.getStringValue(METHOD_IMPL_NAME);
         if (Objects.isNull(implFunctionName)) {
-            throw new RuntimeException("Method implementation function name not found");
+            return new ImplFunction(null, "Method implementation function name not found");
+        }
+        return new ImplFunction(implFunctionName.getValue(), null);
+    }
+
+    /**
+     * Implementation function names of the resource and remote methods of a client type.
+     *
+     * @param resourceMethods implementation functions of the resource methods by the method name
+     * @param remoteMethods   implementation functions of the remote methods by the method name
+     */
+    private record MethodTable(Map<String, ImplFunction> resourceMethods, Map<String, ImplFunction> remoteMethods) {
+    }
+
+    /**
+     * Implementation function of a client method. The error is kept so that it is reported only when the method
+     * is invoked.
+     *
+     * @param name         implementation function name
+     * @param errorMessage error message if the implementation function can not be resolved
+     */
+    private record ImplFunction(String name, String errorMessage) {
+
+        String getName() {
+            if (Objects.isNull(name)) {
+                throw new RuntimeException(errorMessage);
+            }
+            return name;
         }
-        return implFunctionName.getValue();
     }
 }
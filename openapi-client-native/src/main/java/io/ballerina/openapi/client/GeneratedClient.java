@@ -65,13 +65,8 @@ public class GeneratedClient {
         int paramLength = (int) params.getLength();
 
         Object[] paramFeed = new Object[pathLength + paramLength];
-        for (int i = 0; i < pathLength; i++) {
-            paramFeed[i] = path.get(i);
-        }
-        for (int i = 0; i < paramLength; i++) {
-            paramFeed[pathLength + i] = params.get(i);
-        }
-
+        copyValues(path, paramFeed, 0, pathLength);
+        copyValues(params, paramFeed, pathLength, paramLength);
         return invokeClientMethod(env, client, methodName, paramFeed);
     }
 
@@ -80,13 +75,22 @@ public class GeneratedClient {
         int paramLength = (int) params.getLength();
 
         Object[] paramFeed = new Object[paramLength];
-        for (int i = 0; i < paramLength; i++) {
-            paramFeed[i] = params.get(i);
-        }
-
+        copyValues(params, paramFeed, 0, paramLength);
         return invokeClientMethod(env, client, methodName, paramFeed);
     }
 
+    private static void copyValues(BArray values, Object[] target, int offset, int length) {
+        // Copy directly from the backing array of the rest parameters when it is available
+        Object[] backingValues = values.getValues();
+        if (backingValues != null && backingValues.length >= length) {
+            System.arraycopy(backingValues, 0, target, offset, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            target[offset + i] = values.get(i);
+        }
+    }
+
     private static Object invokeClientMethod(Environment env, BObject client, String methodName, Object[] paramFeed) {
         return env.yieldAndRun(() -> {
             try {
@@ -0,0 +1,450 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.client;
+
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.FiniteType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * This class contains the native implementations of the query parameter and the url-encoded request body
+ * serialization functions of the generated client utils. The output is identical to the Ballerina implementations
+ * in the `utils_openapi.bal` template, but each value is serialized in a single pass into one string builder.
+ *
+ * @since 2.3.2
+ */
+public final class QuerySerializer {
+
+    private static final BString STYLE = StringUtils.fromString("style");
+    private static final BString EXPLODE = StringUtils.fromString("explode");
+
+    private static final String DEEP_OBJECT = "DEEPOBJECT";
+    private static final String FORM = "FORM";
+    private static final String SPACE_DELIMITED = "SPACEDELIMITED";
+    private static final String PIPE_DELIMITED = "PIPEDELIMITED";
+    // Default style of the Ballerina `getSerializedArray` function, which does not match any `EncodingStyle` member
+    private static final String DEFAULT_ARRAY_STYLE = "form";
+
+    private static final int ESTIMATED_ENTRY_LENGTH = 16;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    // RFC 3986 unreserved characters, which are the only characters left as is by `url:encode`
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c : "-._~".toCharArray()) {
+            UNRESERVED[c] = true;
+        }
+    }
+
+    private QuerySerializer() {}
+
+    public static BString createFormURLEncodedRequestBody(BMap<BString, Object> anyRecord,
+                                                          BMap<BString, Object> encodingMap) {
+        Fragments out = new Fragments(anyRecord.size());
+        writeFormURLEncodedRequestBody(out, anyRecord, encodingMap);
+        return out.toBString();
+    }
+
+    public static BString getDeepObjectStyleRequest(BString parent, BMap<BString, Object> anyRecord) {
+        Fragments out = new Fragments(anyRecord.size());
+        writeDeepObjectStyleRequest(out, parent.getValue(), anyRecord);
+        return out.toBString();
+    }
+
+    public static BString getFormStyleRequest(BString parent, BMap<BString, Object> anyRecord, boolean explode) {
+        Fragments out = new Fragments(anyRecord.size());
+        writeFormStyleRequest(out, parent.getValue(), anyRecord, explode);
+        return out.toBString();
+    }
+
+    public static BString getSerializedArray(BString arrayName, BArray anyArray, BString style, boolean explode) {
+        Fragments out = new Fragments(anyArray.size());
+        writeSerializedArray(out, arrayName.getValue(), anyArray, style.getValue(), explode);
+        return out.toBString();
+    }
+
+    public static BString getSerializedRecordArray(BString parent, BArray value, BString style, boolean explode) {
+        Fragments out = new Fragments(value.size());
+        writeSerializedRecordArray(out, parent.getValue(), value, style.getValue(), explode);
+        return out.toBString();
+    }
+
+    public static BString getEncodedUri(Object value) {
+        String stringValue = StringUtils.getStringValue(value);
+        StringBuilder builder = new StringBuilder(stringValue.length() + ESTIMATED_ENTRY_LENGTH);
+        appendEncoded(builder, stringValue);
+        return StringUtils.fromString(builder.toString());
+    }
+
+    /**
+     * Serializes the query map returned by `http:getQueryMap` into the query part of the request path.
+     */
+    public static BString getSerializedQueryPath(BMap<BString, Object> queriesMap, BMap<BString, Object> encodingMap) {
+        Fragments out = new Fragments(queriesMap.size());
+        if (queriesMap.size() > 0) {
+            out.push("?");
+            for (Map.Entry<BString, Object> entry : queriesMap.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null) {
+                    continue;
+                }
+                String key = entry.getKey().getValue();
+                BMap<?, ?> encoding = getEncoding(encodingMap, entry.getKey());
+                if (isSimpleBasicValue(value)) {
+                    out.push(key);
+                    out.push("=");
+                    out.pushEncoded(value);
+                } else if (isSimpleBasicArray(value)) {
+                    writeSerializedArray(out, key, (BArray) value, getStyle(encoding), getExplode(encoding));
+                } else if (isRecord(value)) {
+                    if (DEEP_OBJECT.equals(getStyle(encoding))) {
+                        writeDeepObjectStyleRequest(out, key, asRecord(value));
+                    } else {
+                        writeFormStyleRequest(out, key, asRecord(value), getExplode(encoding));
+                    }
+                } else {
+                    out.push(key);
+                    out.push("=");
+                    out.push(StringUtils.getStringValue(value));
+                }
+                out.push("&");
+            }
+            out.pop();
+        }
+        return out.toBString();
+    }
+
+    private static void writeFormURLEncodedRequestBody(Fragments out, BMap<BString, Object> anyRecord,
+                                                       BMap<BString, Object> encodingMap) {
+        int start = out.begin();
+        for (Map.Entry<BString, Object> entry : anyRecord.entrySet()) {
+            String key = entry.getKey().getValue();
+            Object value = entry.getValue();
+            BMap<?, ?> encoding = getEncoding(encodingMap, entry.getKey());
+            if (isSimpleBasicValue(value)) {
+                out.push(key);
+                out.push("=");
+                out.pushEncoded(value);
+            } else if (isSimpleBasicArray(value)) {
+                writeSerializedArray(out, key, (BArray) value, getStyle(encoding), getExplode(encoding));
+            } else if (isRecord(value)) {
+                if (DEEP_OBJECT.equals(getStyle(encoding))) {
+                    writeDeepObjectStyleRequest(out, key, asRecord(value));
+                } else {
+                    writeFormStyleRequest(out, key, asRecord(value), true);
+                }
+            } else if (isRecordArray(value)) {
+                writeSerializedRecordArray(out, key, (BArray) value, getStyle(encoding), getExplode(encoding));
+            }
+            out.push("&");
+        }
+        out.pop();
+        out.end(start);
+    }
+
+    private static void writeDeepObjectStyleRequest(Fragments out, String parent, BMap<BString, Object> anyRecord) {
+        int start = out.begin();
+        for (Map.Entry<BString, Object> entry : anyRecord.entrySet()) {
+            String nextParent = parent + "[" + entry.getKey().getValue() + "]";
+            Object value = entry.getValue();
+            if (isSimpleBasicValue(value)) {
+                int fragmentStart = out.begin();
+                out.append(nextParent).append('=');
+                appendEncoded(out.builder, StringUtils.getStringValue(value));
+                out.end(fragmentStart);
+            } else if (isSimpleBasicArray(value)) {
+                writeSerializedArray(out, nextParent + "[]", (BArray) value, DEEP_OBJECT, true);
+            } else if (isRecord(value)) {
+                writeDeepObjectStyleRequest(out, nextParent, asRecord(value));
+            } else if (isRecordArray(value)) {
+                writeSerializedRecordArray(out, nextParent, (BArray) value, DEEP_OBJECT, true);
+            }
+            out.push("&");
+        }
+        out.pop();
+        out.end(start);
+    }
+
+    private static void writeFormStyleRequest(Fragments out, String parent, BMap<BString, Object> anyRecord,
+                                              boolean explode) {
+        int start = out.begin();
+        String keyValueSeparator = explode ? "=" : ",";
+        String entrySeparator = explode ? "&" : ",";
+        for (Map.Entry<BString, Object> entry : anyRecord.entrySet()) {
+            String key = entry.getKey().getValue();
+            Object value = entry.getValue();
+            if (isSimpleBasicValue(value)) {
+                out.push(key);
+                out.push(keyValueSeparator);
+                out.pushEncoded(value);
+            } else if (isSimpleBasicArray(value)) {
+                writeSerializedArray(out, key, (BArray) value, DEFAULT_ARRAY_STYLE, explode);
+            } else if (isRecord(value)) {
+                writeFormStyleRequest(out, parent, asRecord(value), explode);
+            }
+            out.push(entrySeparator);
+        }
+        out.pop();
+        out.end(start);
+    }
+
+    private static void writeSerializedArray(Fragments out, String key, BArray anyArray, String style,
+                                             boolean explode) {
+        int start = out.begin();
+        int size = anyArray.size();
+        if (size > 0) {
+            String separator = null;
+            if (!explode && FORM.equals(style)) {
+                separator = ",";
+            } else if (!explode && SPACE_DELIMITED.equals(style)) {
+                separator = "%20";
+            } else if (!explode && PIPE_DELIMITED.equals(style)) {
+                separator = "|";
+            }
+            if (separator != null) {
+                out.push(key);
+                out.push("=");
+                for (int i = 0; i < size; i++) {
+                    out.pushEncoded(anyArray.get(i));
+                    out.push(separator);
+                }
+            } else {
+                String name = DEEP_OBJECT.equals(style) ? key + "[]" : key;
+                for (int i = 0; i < size; i++) {
+                    out.push(name);
+                    out.push("=");
+                    out.pushEncoded(anyArray.get(i));
+                    out.push("&");
+                }
+            }
+            out.pop();
+        }
+        out.end(start);
+    }
+
+    private static void writeSerializedRecordArray(Fragments out, String parent, BArray value, String style,
+                                                   boolean explode) {
+        int start = out.begin();
+        int size = value.size();
+        if (DEEP_OBJECT.equals(style)) {
+            for (int i = 0; i < size; i++) {
+                writeDeepObjectStyleRequest(out, parent + "[" + i + "]", asRecord(value.get(i)));
+                out.push("&");
+            }
+        } else {
+            if (!explode) {
+                out.push(parent);
+                out.push("=");
+            }
+            for (int i = 0; i < size; i++) {
+                writeFormStyleRequest(out, parent, asRecord(value.get(i)), explode);
+                out.push(",");
+            }
+        }
+        out.pop();
+        out.end(start);
+    }
+
+    private static BMap<?, ?> getEncoding(BMap<BString, Object> encodingMap, BString key) {
+        return encodingMap.get(key) instanceof BMap<?, ?> encoding ? encoding : null;
+    }
+
+    private static String getStyle(BMap<?, ?> encoding) {
+        return encoding == null ? FORM : StringUtils.getStringValue(encoding.get(STYLE));
+    }
+
+    private static boolean getExplode(BMap<?, ?> encoding) {
+        return encoding == null || Boolean.TRUE.equals(encoding.get(EXPLODE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BMap<BString, Object> asRecord(Object value) {
+        return (BMap<BString, Object>) value;
+    }
+
+    /**
+     * Checks whether the given value belongs to `string|boolean|int|float|decimal`.
+     */
+    private static boolean isSimpleBasicValue(Object value) {
+        return value instanceof BString || value instanceof Long || value instanceof Integer ||
+                value instanceof Double || value instanceof Boolean || value instanceof BDecimal;
+    }
+
+    /**
+     * Checks whether the given value belongs to `record {}`. Since the serialized values are `anydata`, every mapping
+     * value belongs to it.
+     */
+    private static boolean isRecord(Object value) {
+        return value instanceof BMap;
+    }
+
+    private static boolean isSimpleBasicArray(Object value) {
+        return value instanceof BArray array && isListOf(array.getType(), true);
+    }
+
+    private static boolean isRecordArray(Object value) {
+        return value instanceof BArray array && isListOf(array.getType(), false);
+    }
+
+    /**
+     * Checks the inherent type of a list value, in the same way as the `is SimpleBasicType[]` and `is record {}[]`
+     * checks of the Ballerina implementation.
+     */
+    private static boolean isListOf(Type listType, boolean simpleBasicMembers) {
+        Type type = TypeUtils.getImpliedType(listType);
+        if (type.getTag() == TypeTags.ARRAY_TAG) {
+            return isMemberType(((ArrayType) type).getElementType(), simpleBasicMembers);
+        }
+        if (type.getTag() != TypeTags.TUPLE_TAG) {
+            return false;
+        }
+        TupleType tupleType = (TupleType) type;
+        for (Type memberType : tupleType.getTupleTypes()) {
+            if (!isMemberType(memberType, simpleBasicMembers)) {
+                return false;
+            }
+        }
+        return tupleType.getRestType() == null || isMemberType(tupleType.getRestType(), simpleBasicMembers);
+    }
+
+    private static boolean isMemberType(Type memberType, boolean simpleBasic) {
+        Type type = TypeUtils.getImpliedType(memberType);
+        int tag = type.getTag();
+        if (tag == TypeTags.UNION_TAG) {
+            for (Type unionMember : ((UnionType) type).getMemberTypes()) {
+                if (!isMemberType(unionMember, simpleBasic)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!simpleBasic) {
+            return tag == TypeTags.RECORD_TYPE_TAG || tag == TypeTags.MAP_TAG;
+        }
+        if (tag == TypeTags.FINITE_TYPE_TAG) {
+            for (Object value : ((FiniteType) type).getValueSpace()) {
+                if (!isSimpleBasicValue(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return TypeTags.isStringTypeTag(tag) || TypeTags.isIntegerTypeTag(tag) || tag == TypeTags.FLOAT_TAG ||
+                tag == TypeTags.DECIMAL_TAG || tag == TypeTags.BOOLEAN_TAG;
+    }
+
+    /**
+     * Percent-encodes the given value as `url:encode(value, "UTF8")` does.
+     */
+    private static void appendEncoded(StringBuilder builder, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                builder.append(c);
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && !isUnreserved(value.charAt(i))) {
+                i++;
+            }
+            // Consecutive reserved characters are encoded together so that surrogate pairs stay intact
+            for (byte b : value.substring(start, i).getBytes(StandardCharsets.UTF_8)) {
+                builder.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return c < UNRESERVED.length && UNRESERVED[c];
+    }
+
+    /**
+     * A string builder which keeps track of the last pushed fragment, to mirror the `push` and `pop` operations the
+     * Ballerina implementation performs on its `string[]` of fragments. A nested serialization is a single fragment
+     * from the point of view of its caller.
+     */
+    private static final class Fragments {
+
+        private final StringBuilder builder;
+        private int lastFragment = -1;
+
+        private Fragments(int entryCount) {
+            this.builder = new StringBuilder((entryCount + 1) * ESTIMATED_ENTRY_LENGTH);
+        }
+
+        private int begin() {
+            lastFragment = -1;
+            return builder.length();
+        }
+
+        private void end(int start) {
+            lastFragment = start;
+        }
+
+        private StringBuilder append(String value) {
+            return builder.append(value);
+        }
+
+        private void push(String fragment) {
+            lastFragment = builder.length();
+            builder.append(fragment);
+        }
+
+        private void pushEncoded(Object value) {
+            lastFragment = builder.length();
+            appendEncoded(builder, StringUtils.getStringValue(value));
+        }
+
+        private void pop() {
+            // Popping an empty fragment list panics in Ballerina; an empty value is serialized to an empty string here
+            if (lastFragment >= 0) {
+                builder.setLength(lastFragment);
+                lastFragment = -1;
+            }
+        }
+
+        private BString toBString() {
+            return StringUtils.fromString(builder.toString());
+        }
+    }
+}
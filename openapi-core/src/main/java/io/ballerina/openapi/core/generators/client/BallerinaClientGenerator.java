@@ -46,6 +46,7 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnostic;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -123,6 +124,7 @@ public class BallerinaClientGenerator {
     protected AuthConfigGeneratorImp authConfigGeneratorImp;
     private final boolean resourceMode;
     protected final List<ClientDiagnostic> diagnostics = new ArrayList<>();
+    protected final GenerationContext generationContext;
     private String serverURL;
 
     /**
@@ -155,11 +157,24 @@ public class BallerinaClientGenerator {
         return serverURL;
     }
 
+    /**
+     * Creates a client generator for the generation context the caller has attached to the current thread, e.g. with
+     * {@link io.ballerina.openapi.core.generators.common.TypeHandler#createInstance}.
+     *
+     * @param oasClientConfig client generation options
+     * @throws IllegalStateException when no generation context is attached to the current thread
+     */
     public BallerinaClientGenerator(OASClientConfig oasClientConfig) {
+        this(oasClientConfig, GenerationContext.requireCurrent());
+    }
+
+    public BallerinaClientGenerator(OASClientConfig oasClientConfig, GenerationContext generationContext) {
 
+        this.generationContext = generationContext;
         this.filter = oasClientConfig.getFilter();
         this.openAPI = oasClientConfig.getOpenAPI();
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
+        this.ballerinaUtilGenerator.setNativeSerialization(oasClientConfig.isNativeSerialization());
         this.remoteFunctionNameList = new ArrayList<>();
         this.authConfigGeneratorImp = new AuthConfigGeneratorImp(false, false);
         this.resourceMode = oasClientConfig.isResourceMode();
@@ -178,19 +193,28 @@ public class BallerinaClientGenerator {
     }
 
     protected SyntaxTree getSyntaxTree() throws ClientException, BallerinaOpenApiException {
-        // Add authentication related records
-        authConfigGeneratorImp.addAuthRelatedRecords(openAPI);
-        List<ModuleMemberDeclarationNode> nodes = getModuleMemberDeclarationNodes();
-        NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
-        ModulePartNode modulePartNode =
-                createModulePartNode(importsList, createNodeList(nodes), createToken(EOF_TOKEN));
-        TextDocument textDocument = TextDocuments.from("");
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        syntaxTree = syntaxTree.modifyWith(modulePartNode);
-        //Add comments
-        ClientDocCommentGenerator clientDocCommentGenerator = new ClientDocCommentGenerator(syntaxTree, openAPI,
-                resourceMode);
-        return clientDocCommentGenerator.updateSyntaxTreeWithDocComments();
+        try (GenerationContext.Scope ignored = generationContext.attach()) {
+            // Add authentication related records
+            authConfigGeneratorImp.addAuthRelatedRecords(openAPI);
+            List<ModuleMemberDeclarationNode> nodes = getModuleMemberDeclarationNodes();
+            NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
+            ModulePartNode modulePartNode =
+                    createModulePartNode(importsList, createNodeList(nodes), createToken(EOF_TOKEN));
+            TextDocument textDocument = TextDocuments.from("");
+            SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+            syntaxTree = syntaxTree.modifyWith(modulePartNode);
+            //Add comments
+            ClientDocCommentGenerator clientDocCommentGenerator = new ClientDocCommentGenerator(syntaxTree, openAPI,
+                    resourceMode);
+            return clientDocCommentGenerator.updateSyntaxTreeWithDocComments();
+        }
+    }
+
+    /**
+     * Returns the generation context used by this client generator.
+     */
+    public GenerationContext getGenerationContext() {
+        return generationContext;
     }
 
     private void generateHttpImport() {
@@ -47,6 +47,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.generators.client.diagnostic.ClientDiagnosticImp;
 import io.ballerina.openapi.core.generators.client.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
@@ -120,6 +121,12 @@ public class BallerinaClientGeneratorWithStatusCodeBinding extends BallerinaClie
         authConfigGeneratorImp = new AuthConfigGeneratorImp(false, false);
     }
 
+    public BallerinaClientGeneratorWithStatusCodeBinding(OASClientConfig oasClientConfig,
+                                                         GenerationContext generationContext) {
+        super(oasClientConfig, generationContext);
+        authConfigGeneratorImp = new AuthConfigGeneratorImp(false, false);
+    }
+
     /**
      * Get the imports required for the client generation.
      * <pre>
@@ -108,6 +108,7 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.ENC
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.EXPLODE;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.FORM;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.HTTP;
+import static io.ballerina.openapi.core.generators.common.GeneratorConstants.J_BALLERINA;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.MIME;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.PIPE_DELIMITED;
 import static io.ballerina.openapi.core.generators.common.GeneratorConstants.SPACE_DELIMITED;
@@ -126,6 +127,7 @@ public class BallerinaUtilGenerator {
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
     private boolean defaultStatusCodeResponseBindingFound = false;
+    private boolean nativeSerialization = false;
     private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
@@ -141,6 +143,14 @@ public class BallerinaUtilGenerator {
     private static final String POPULATE_ENCODING_INFO = "populateEncodingInfo";
     private static final String GET_VALIDATED_RESPONSE_FOR_DEFAULT_MAPPING = "getValidatedResponseForDefaultMapping";
     private static final String CREATE_STATUS_CODE_RESPONSE_BINDING_ERROR = "createStatusCodeResponseBindingError";
+    private static final String GET_SERIALIZED_QUERY_PATH = "getSerializedQueryPath";
+    private static final String UTILS_TEMPLATE = "templates/utils_openapi.bal";
+    private static final String NATIVE_UTILS_TEMPLATE = "templates/utils_openapi_native.bal";
+    // Serialization functions which are implemented in the client native library when native serialization is enabled
+    private static final Set<String> NATIVE_SERIALIZATION_FUNCTIONS = Set.of(
+            CREATE_FORM_URLENCODED_REQUEST_BODY, GET_DEEP_OBJECT_STYLE_REQUEST, GET_FORM_STYLE_REQUEST,
+            GET_SERIALIZED_ARRAY, GET_ENCODED_URI, GET_PATH_FOR_QUERY_PARAM, GET_SERIALIZED_RECORD_ARRAY,
+            GET_SERIALIZED_QUERY_PATH);
 
     /**
      * Set `queryParamsFound` flag to `true` when at least one query parameter found.
@@ -193,6 +203,16 @@ public class BallerinaUtilGenerator {
         return defaultStatusCodeResponseBindingFound;
     }
 
+    /**
+     * Set `nativeSerialization` flag to `true` to generate the query parameter and the url-encoded request body
+     * serialization functions as external functions implemented in the client native library.
+     *
+     * @param flag Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setNativeSerialization(boolean flag) {
+        this.nativeSerialization = flag;
+    }
+
     /**
      * Generates util file syntax tree.
      *
@@ -214,7 +234,31 @@ public class BallerinaUtilGenerator {
 
     private void addUtilFunctionDeclarationNodes(List<ModuleMemberDeclarationNode> memberDeclarationNodes,
                                                  Set<String> functionNameList) throws IOException {
-        Path path = getResourceFilePath();
+        if (!nativeSerialization) {
+            addTemplateFunctionDeclarationNodes(UTILS_TEMPLATE, memberDeclarationNodes, functionNameList);
+            return;
+        }
+        Set<String> nativeFunctionNames = new LinkedHashSet<>();
+        Set<String> otherFunctionNames = new LinkedHashSet<>();
+        for (String functionName : functionNameList) {
+            if (NATIVE_SERIALIZATION_FUNCTIONS.contains(functionName)) {
+                nativeFunctionNames.add(functionName);
+            } else {
+                otherFunctionNames.add(functionName);
+            }
+        }
+        if (!nativeFunctionNames.isEmpty()) {
+            addTemplateFunctionDeclarationNodes(NATIVE_UTILS_TEMPLATE, memberDeclarationNodes, nativeFunctionNames);
+        }
+        if (!otherFunctionNames.isEmpty()) {
+            addTemplateFunctionDeclarationNodes(UTILS_TEMPLATE, memberDeclarationNodes, otherFunctionNames);
+        }
+    }
+
+    private void addTemplateFunctionDeclarationNodes(String template,
+                                                     List<ModuleMemberDeclarationNode> memberDeclarationNodes,
+                                                     Set<String> functionNameList) throws IOException {
+        Path path = getResourceFilePath(template);
         Project project = ProjectLoader.loadProject(path);
         Package currentPackage = project.currentPackage();
         DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
@@ -249,6 +293,9 @@ public class BallerinaUtilGenerator {
                     GET_ENCODED_URI, GET_ORIGINAL_KEY, GET_SERIALIZED_ARRAY, GET_PATH_FOR_QUERY_PARAM,
                     GET_SERIALIZED_RECORD_ARRAY
             ));
+            if (nativeSerialization) {
+                functionNameList.add(GET_SERIALIZED_QUERY_PATH);
+            }
         }
         if (pathParametersFound) {
             functionNameList.add(GET_ENCODED_URI);
@@ -269,7 +316,7 @@ public class BallerinaUtilGenerator {
 
     private List<ImportDeclarationNode> generateImports(Set<String> functionNameList) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        if (functionNameList.contains(GET_ENCODED_URI)) {
+        if (functionNameList.contains(GET_ENCODED_URI) && !nativeSerialization) {
             ImportDeclarationNode importForUrl = GeneratorUtils.getImportDeclarationNode(BALLERINA, URL);
             imports.add(importForUrl);
         }
@@ -281,6 +328,10 @@ public class BallerinaUtilGenerator {
             ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(BALLERINA, HTTP);
             imports.add(importForHttp);
         }
+        if (nativeSerialization && functionNameList.stream().anyMatch(NATIVE_SERIALIZATION_FUNCTIONS::contains)) {
+            ImportDeclarationNode importForJBallerina = GeneratorUtils.getImportDeclarationNode(BALLERINA, J_BALLERINA);
+            imports.add(importForJBallerina);
+        }
         return imports;
     }
 
@@ -440,15 +491,16 @@ public class BallerinaUtilGenerator {
     }
 
     /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
+     * Gets the path of the given util template at the time of execution.
      *
-     * @return Path to utils_openapi.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/utils_openapi.bal file from resources
+     * @param template Resource path of the template
+     * @return Path to the template file in the temporary directory created
+     * @throws IOException When failed to get the template file from resources
      */
-    private Path getResourceFilePath() throws IOException {
+    private Path getResourceFilePath(String template) throws IOException {
         Path path = null;
         ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
+        InputStream inputStream = classLoader.getResourceAsStream(template);
         if (inputStream != null) {
             String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
             Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
@@ -34,6 +34,7 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.exception.ClientException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorConstants;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.swagger.v3.oas.models.Operation;
@@ -74,6 +75,10 @@ public class BallerinaMockClientGenerator extends BallerinaClientGenerator {
         super(oasClientConfig);
     }
 
+    public BallerinaMockClientGenerator(OASClientConfig oasClientConfig, GenerationContext generationContext) {
+        super(oasClientConfig, generationContext);
+    }
+
     public FunctionDefinitionNode getInitFunction() {
         FunctionSignatureNode functionSignatureNode = super.getInitFunctionSignatureNode();
         NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
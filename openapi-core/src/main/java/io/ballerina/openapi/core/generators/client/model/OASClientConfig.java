@@ -38,6 +38,7 @@ public class OASClientConfig {
     private final boolean isMock;
     private final boolean singleFile;
     private final boolean isUsingSanitizedOas;
+    private final boolean nativeSerialization;
 
 
     private OASClientConfig(Builder clientConfigBuilder) {
@@ -51,6 +52,7 @@ public class OASClientConfig {
         this.isMock = clientConfigBuilder.isMock;
         this.singleFile = clientConfigBuilder.singleFile;
         this.isUsingSanitizedOas = clientConfigBuilder.isUsingSanitizedOas;
+        this.nativeSerialization = clientConfigBuilder.nativeSerialization;
     }
 
     public OpenAPI getOpenAPI() {
@@ -91,6 +93,10 @@ public class OASClientConfig {
         return isUsingSanitizedOas;
     }
 
+    public boolean isNativeSerialization() {
+        return nativeSerialization;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -105,6 +111,7 @@ public class OASClientConfig {
         private boolean isMock = false;
         private boolean singleFile = false;
         private boolean isUsingSanitizedOas = false;
+        private boolean nativeSerialization = false;
 
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
@@ -156,6 +163,11 @@ public class OASClientConfig {
             return this;
         }
 
+        public Builder withNativeSerialization(boolean nativeSerialization) {
+            this.nativeSerialization = nativeSerialization;
+            return this;
+        }
+
         public OASClientConfig build() {
             return new OASClientConfig(this);
         }
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.openapi.service.mapper.utils.CodegenUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Writes the generated sources, leaving the files which already have the generated content untouched.
+ * <p>
+ * A file is rewritten only when its content differs from the generated content, so the modified time of an unchanged
+ * file is kept and the caches of the compiler and the build tools stay valid. Changed files are replaced atomically
+ * with {@link CodegenUtils#writeFileAtomically(Path, byte[])}, hence a build running at the same time never reads a
+ * partially written file.
+ * <p>
+ * A writer keeps the number of written and skipped files, and is meant to be used by a single thread for a single
+ * generation.
+ *
+ * @since 2.3.2
+ */
+public final class GeneratedSourceWriter {
+
+    private int writtenCount;
+    private int skippedCount;
+
+    /**
+     * Writes the given content to the given file unless the file already has the same content. The parent
+     * directories are created when they do not exist.
+     *
+     * @param filePath path of the file
+     * @param content  content of the file
+     * @return whether the file was written
+     * @throws IOException when the file cannot be read or written
+     */
+    public boolean write(Path filePath, String content) throws IOException {
+        byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        if (hasContent(filePath, contentBytes)) {
+            skippedCount++;
+            return false;
+        }
+        Path parentDirectory = filePath.toAbsolutePath().getParent();
+        if (Objects.nonNull(parentDirectory)) {
+            Files.createDirectories(parentDirectory);
+        }
+        CodegenUtils.writeFileAtomically(filePath, contentBytes);
+        writtenCount++;
+        return true;
+    }
+
+    public int getWrittenCount() {
+        return writtenCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    private static boolean hasContent(Path filePath, byte[] contentBytes) throws IOException {
+        // The size check avoids reading the files which have surely changed
+        if (!Files.isRegularFile(filePath) || Files.size(filePath) != contentBytes.length) {
+            return false;
+        }
+        return Arrays.equals(Files.readAllBytes(filePath), contentBytes);
+    }
+}
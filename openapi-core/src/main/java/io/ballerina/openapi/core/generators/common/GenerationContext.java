@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.openapi.core.generators.type.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds the mutable state of a single code generation run (type handler, type generator metadata and the
+ * record name counters). A context is attached to the current thread only while a generator is using it, so
+ * separate generation runs can execute concurrently on different threads of the same JVM. Generators are given their
+ * context explicitly and never pick up a context left on the thread by an earlier run.
+ *
+ * @since 2.3.2
+ */
+public final class GenerationContext {
+
+    private static final ThreadLocal<GenerationContext> CURRENT = new ThreadLocal<>();
+
+    private GeneratorMetaData generatorMetaData;
+    private final TypeHandler typeHandler;
+    private final Map<String, Integer> recordCountMap = new HashMap<>();
+
+    private GenerationContext(OpenAPI openAPI, boolean nullable) {
+        this.generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+        this.typeHandler = new TypeHandler(this);
+    }
+
+    /**
+     * Creates a new generation context for the given OpenAPI definition. The created context is not bound to
+     * any thread.
+     *
+     * @param openAPI  normalized OpenAPI definition
+     * @param nullable nullable option of the generation
+     * @return new generation context
+     */
+    public static GenerationContext create(OpenAPI openAPI, boolean nullable) {
+        return new GenerationContext(openAPI, nullable);
+    }
+
+    /**
+     * Returns the generation context bound to the current thread.
+     */
+    public static Optional<GenerationContext> getCurrent() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns the generation context bound to the current thread, for the generation steps which are only run within
+     * the scope of a generator.
+     *
+     * @throws IllegalStateException when no generation context is attached to the current thread
+     */
+    public static GenerationContext requireCurrent() {
+        GenerationContext generationContext = CURRENT.get();
+        if (generationContext == null) {
+            throw new IllegalStateException("no OpenAPI generation context is attached to the current thread, " +
+                    "create one with GenerationContext.create and attach it before generating the sources");
+        }
+        return generationContext;
+    }
+
+    /**
+     * Binds this context to the current thread until the returned scope is closed. Scopes can be nested, closing
+     * a scope restores the previously bound context.
+     */
+    public Scope attach() {
+        GenerationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+
+    public GeneratorMetaData getGeneratorMetaData() {
+        return generatorMetaData;
+    }
+
+    public void setGeneratorMetaData(GeneratorMetaData generatorMetaData) {
+        this.generatorMetaData = generatorMetaData;
+    }
+
+    public TypeHandler getTypeHandler() {
+        return typeHandler;
+    }
+
+    Map<String, Integer> getRecordCountMap() {
+        return recordCountMap;
+    }
+
+    /**
+     * Represents the binding of a {@link GenerationContext} to the current thread.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final GenerationContext previous;
+
+        private Scope(GenerationContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -196,18 +196,11 @@ public class GeneratorUtils {
     public static final char CHAR = '"';
     public static final String JSONDATA_IMPORT = "import ballerina/data.jsondata;";
     public static final String HTTP_IMPORT = "import ballerina/http;";
-    private static HashMap<String, Integer> recordCountMap;
 
     private static final List<String> primitiveTypeList =
             new ArrayList<>(Arrays.asList(GeneratorConstants.INTEGER, GeneratorConstants.NUMBER,
                     GeneratorConstants.STRING, GeneratorConstants.BOOLEAN));
 
-    // This is needs to be initialized at every CLI run. Otherwise, the record type details are persisted
-    // for a second invocation as well. Todo: Need to update this with a different appraoch.
-    public static void initializeRecordCountMap() {
-        recordCountMap = new HashMap<>();
-    }
-
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
 
         Token importKeyword = AbstractNodeFactory.createIdentifierToken("import", SINGLE_WS_MINUTIAE,
@@ -1244,6 +1237,8 @@ public class GeneratorUtils {
                 GeneratorUtils.getValidName(path, true);
         String typeSuffix = isRequest ? GeneratorConstants.REQUEST_RECORD_NAME : RESPONSE_RECORD_NAME;
         String recordName = pathRecord + typeSuffix;
+        // Record counters are scoped to the generation run, so concurrent runs do not share the numbering.
+        Map<String, Integer> recordCountMap = GenerationContext.requireCurrent().getRecordCountMap();
         if (recordCountMap.containsKey(recordName)) {
             recordCountMap.put(recordName, recordCountMap.get(recordName) + 1);
             return recordName + "_" + recordCountMap.get(recordName);
@@ -17,7 +17,6 @@
  */
 package io.ballerina.openapi.core.generators.common;
 
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -44,7 +43,7 @@ public class InlineModelResolver {
     private OpenAPI openAPI;
 
     Map<String, Schema> addedModels = new HashMap<>();
-    Map<String, String> generatedSignature = new HashMap<>();
+    Map<SchemaFingerprint, List<GeneratedSchema>> generatedSignature = new HashMap<>();
 
     private final boolean flattenComposedSchemas;
     private boolean skipMatches;
@@ -441,15 +440,23 @@ public class InlineModelResolver {
         if (skipMatches) {
             return null;
         }
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
+        List<GeneratedSchema> candidates = generatedSignature.get(SchemaFingerprint.of(model));
+        if (candidates == null) {
+            return null;
+        }
+        // The latest generated schema wins when the same structure is added more than once
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            GeneratedSchema candidate = candidates.get(i);
+            if (SchemaFingerprint.isEquivalent(candidate.schema(), model)) {
+                return candidate.name();
+            }
         }
         return null;
     }
 
     public void addGenerated(String name, Schema model) {
-        generatedSignature.put(Json.pretty(model), name);
+        generatedSignature.computeIfAbsent(SchemaFingerprint.of(model), fingerprint -> new ArrayList<>())
+                .add(new GeneratedSchema(name, model));
     }
 
     public String uniqueName(String key) {
@@ -759,6 +766,15 @@ public class InlineModelResolver {
                 || schema instanceof ComposedSchema);
     }
 
+    /**
+     * Record for storing a generated schema against its name.
+     *
+     * @param name   name of the generated schema
+     * @param schema generated schema
+     */
+    private record GeneratedSchema(String name, Schema schema) {
+    }
+
     public boolean isSkipMatches() {
         return skipMatches;
     }
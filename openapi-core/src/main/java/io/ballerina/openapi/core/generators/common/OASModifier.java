@@ -20,8 +20,6 @@ package io.ballerina.openapi.core.generators.common;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceException;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -29,7 +27,6 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
-import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
@@ -38,7 +35,6 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
-import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
 import java.io.PrintStream;
@@ -71,9 +67,6 @@ import static io.ballerina.openapi.core.generators.common.GeneratorUtils.extract
  */
 public class OASModifier {
     private static final String REGEX_FOR_CURLY_BRACED_CONTENT = "\\{([^}]*)}";
-    private static final String COMPONENT_REF_WITH_NAME_PATTERN = "\"$ref\":\"#/components/schemas/%s\"";
-    private static final String COMPONENT_REF_REGEX_PATTERN = "(\\\"\\$ref\\\"\\s*:\\s*\\\"#/components/schemas/%s" +
-            "\\\")|('\\$ref'\\s*:\\s*'#/components/schemas/%s')";
     private static final PrintStream outErrorStream = System.err;
     private static final String BALLERINA_NAME_EXT = "x-ballerina-name";
     public static final String ENDS_WITH_FULLSTOP = "\\.$";
@@ -348,23 +341,11 @@ public class OASModifier {
         components.setSchemas(modifiedSchemas);
         openapi.setComponents(components);
 
-        String openApiJson = Json.pretty(openapi);
-        for (Map.Entry<String, String> entry : nameMap.entrySet()) {
-            String schemaName = entry.getKey();
-            String modifiedName = entry.getValue();
-            if (schemaName.equals(modifiedName)) {
-                continue;
-            }
-            String patternString = COMPONENT_REF_REGEX_PATTERN.formatted(schemaName, schemaName);
-            Pattern pattern = Pattern.compile(patternString);
-            Matcher matcher = pattern.matcher(openApiJson);
-
-            String replacement = COMPONENT_REF_WITH_NAME_PATTERN.formatted(modifiedName).replace("$", "\\$");
-            openApiJson = matcher.replaceAll(replacement);
-        }
-
-        ParseOptions parseOptions = new ParseOptions();
-        return new OpenAPIParser().readContents(openApiJson, null, parseOptions);
+        // Update the references in a single pass over the model instead of re-parsing the serialized definition
+        new SchemaReferenceRewriter(nameMap).rewrite(openapi);
+        SwaggerParseResult result = new SwaggerParseResult();
+        result.setOpenAPI(openapi);
+        return result;
     }
 
     private static PathDetails updateParameterNameDetails(OpenAPI openAPI, Map.Entry<String, PathItem> path) {
@@ -567,82 +548,6 @@ public class OASModifier {
     private record PathDetails(PathItem pathItem, String pathValue) {
     }
 
-    private static void updateObjectPropertyRef(Map<String, Schema> properties, String schemaName,
-                                                String modifiedName) {
-        if (Objects.nonNull(properties)) {
-            for (Map.Entry<String, Schema> property : properties.entrySet()) {
-                Schema fieldValue = property.getValue();
-                updateSchemaWithReference(schemaName, modifiedName, fieldValue);
-                properties.put(property.getKey(), fieldValue);
-            }
-        }
-    }
-
-    /**
-     * Common util for handle all the schema type by updating the reference details.
-     *
-     * @param schemaName   - original schema name
-     * @param modifiedName - modified schema
-     * @param typeSchema   - type schema
-     */
-    private static void updateSchemaWithReference(String schemaName, String modifiedName, Schema typeSchema) {
-        String ref = typeSchema.get$ref();
-        if (Objects.nonNull(ref)) {
-            updateRef(schemaName, modifiedName, typeSchema);
-        } else if (typeSchema instanceof ObjectSchema objectSchema) {
-            Map<String, Schema> objectSchemaProperties = objectSchema.getProperties();
-            updateObjectPropertyRef(objectSchemaProperties, schemaName, modifiedName);
-        } else if (typeSchema instanceof ArraySchema arraySchema) {
-            Schema<?> items = arraySchema.getItems();
-            updateSchemaWithReference(schemaName, modifiedName, items);
-        } else if (typeSchema instanceof MapSchema mapSchema) {
-            updateObjectPropertyRef(mapSchema.getProperties(), schemaName, modifiedName);
-        } else if (Objects.nonNull(typeSchema.getProperties())) {
-            updateObjectPropertyRef(typeSchema.getProperties(), schemaName, modifiedName);
-        } else if (typeSchema instanceof ComposedSchema composedSchema) {
-            if (Objects.nonNull(composedSchema.getAllOf())) {
-                List<Schema> allOf = composedSchema.getAllOf();
-                List<Schema> modifiedAllOf = new ArrayList<>();
-                for (Schema schema : allOf) {
-                    updateSchemaWithReference(schemaName, modifiedName, schema);
-                    modifiedAllOf.add(schema);
-                }
-                composedSchema.setAllOf(modifiedAllOf);
-            }
-            if (Objects.nonNull(composedSchema.getOneOf())) {
-                List<Schema> oneOf = composedSchema.getOneOf();
-                List<Schema> modifiedOneOf = new ArrayList<>();
-                for (Schema schema : oneOf) {
-                    updateSchemaWithReference(schemaName, modifiedName, schema);
-                    modifiedOneOf.add(schema);
-                }
-                composedSchema.setOneOf(modifiedOneOf);
-            }
-            if (Objects.nonNull(composedSchema.getAnyOf())) {
-                List<Schema> anyOf = composedSchema.getAnyOf();
-                List<Schema> modifiedAnyOf = new ArrayList<>();
-                for (Schema schema : anyOf) {
-                    updateSchemaWithReference(schemaName, modifiedName, schema);
-                    modifiedAnyOf.add(schema);
-                }
-                composedSchema.setAnyOf(modifiedAnyOf);
-            }
-        } 
-        if (Objects.nonNull(typeSchema.getAdditionalProperties()) && 
-                typeSchema.getAdditionalProperties() instanceof Schema<?> addtionalSchema) {
-            updateSchemaWithReference(schemaName, modifiedName, addtionalSchema);
-        } 
-    }
-
-    private static void updateRef(String schemaName, String modifiedName, Schema value) {
-        String ref = value.get$ref().replaceAll("\\s+", EMPTY);
-        String patternString = SLASH + schemaName.replaceAll("\\s+", EMPTY) + "(?!\\S)";
-        Pattern pattern = Pattern.compile(patternString);
-        Matcher matcher = pattern.matcher(ref);
-        ref = matcher.replaceAll(SLASH + modifiedName);
-        value.set$ref(ref);
-    }
-
     public static String getValidNameForType(String identifier) {
         if (identifier.isBlank()) {
             return "\\" + identifier;
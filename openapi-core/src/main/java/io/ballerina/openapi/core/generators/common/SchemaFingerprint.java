@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A 128-bit structural fingerprint of a {@code Schema}. The fingerprint is computed recursively over the schema
+ * attributes and the nested schemas, including the OpenAPI 3.1 keywords, so two schemas with the same structure have
+ * the same fingerprint regardless of their model class. Since different schemas can share a fingerprint,
+ * {@link #isEquivalent(Schema, Schema)} should be used to confirm a match. The order of the properties is part of the
+ * structure, as it decides the order of the generated record fields. A schema which contains itself is fingerprinted
+ * and compared without following the cycle again.
+ *
+ * @since 2.3.2
+ */
+@SuppressWarnings("rawtypes")
+final class SchemaFingerprint {
+
+    private final long high;
+    private final long low;
+
+    private SchemaFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    static SchemaFingerprint of(Schema<?> schema) {
+        Hasher hasher = new Hasher();
+        hasher.addSchema(schema);
+        return new SchemaFingerprint(hasher.high, hasher.low);
+    }
+
+    /**
+     * Checks whether the given schemas have the same structure. This compares the same attributes which are used to
+     * compute the fingerprint.
+     */
+    static boolean isEquivalent(Schema<?> schema, Schema<?> other) {
+        return new Equivalence().isEquivalent(schema, other);
+    }
+
+    /**
+     * Returns the non-schema attributes of the given schema which are part of the serialized schema.
+     */
+    private static Object[] attributes(Schema<?> schema) {
+        return new Object[]{schema.getType(), schema.getTypes(), schema.getFormat(), schema.get$ref(),
+                schema.getTitle(), schema.getDescription(), schema.getDefault(), schema.getEnum(), schema.getConst(),
+                schema.getMultipleOf(), schema.getMaximum(), schema.getExclusiveMaximum(), schema.getMinimum(),
+                schema.getExclusiveMinimum(), schema.getExclusiveMaximumValue(), schema.getExclusiveMinimumValue(),
+                schema.getMaxLength(), schema.getMinLength(), schema.getPattern(), schema.getMaxItems(),
+                schema.getMinItems(), schema.getUniqueItems(), schema.getMaxContains(), schema.getMinContains(),
+                schema.getMaxProperties(), schema.getMinProperties(), schema.getRequired(),
+                schema.getDependentRequired(), schema.getNullable(), schema.getReadOnly(), schema.getWriteOnly(),
+                schema.getExample(), schema.getExamples(), schema.getDeprecated(), schema.getXml(),
+                schema.getExternalDocs(), schema.getDiscriminator(), schema.getContentEncoding(),
+                schema.getContentMediaType(), schema.get$id(), schema.get$schema(), schema.get$anchor(),
+                schema.get$comment(), schema.getExtensions()};
+    }
+
+    /**
+     * Returns the schemas nested in the given schema other than the ones in lists and maps. The positions are fixed,
+     * so that a schema moved from one keyword to another changes the fingerprint.
+     */
+    private static Schema[] nestedSchemas(Schema<?> schema) {
+        return new Schema[]{schema.getItems(), schema.getNot(), schema.getIf(), schema.getThen(), schema.getElse(),
+                schema.getContains(), schema.getPropertyNames(), schema.getUnevaluatedProperties(),
+                schema.getUnevaluatedItems(), schema.getAdditionalItems(), schema.getContentSchema()};
+    }
+
+    private static List[] nestedSchemaLists(Schema<?> schema) {
+        return new List[]{schema.getAllOf(), schema.getAnyOf(), schema.getOneOf(), schema.getPrefixItems()};
+    }
+
+    private static Map[] nestedSchemaMaps(Schema<?> schema) {
+        return new Map[]{schema.getProperties(), schema.getPatternProperties(), schema.getDependentSchemas()};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SchemaFingerprint that)) {
+            return false;
+        }
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    /**
+     * Compares two schemas structurally. A pair of schemas which is being compared already is taken as equivalent
+     * when it is reached again through a cycle, so that the comparison of the rest decides the result.
+     */
+    private static final class Equivalence {
+
+        private final Map<Schema, Set<Schema>> comparing = new IdentityHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        private boolean isEquivalent(Schema<?> schema, Schema<?> other) {
+            if (schema == other) {
+                return true;
+            }
+            if (Objects.isNull(schema) || Objects.isNull(other)) {
+                return false;
+            }
+            Set<Schema> others = comparing.computeIfAbsent(schema,
+                    key -> Collections.newSetFromMap(new IdentityHashMap<>()));
+            if (!others.add(other)) {
+                return true;
+            }
+            try {
+                if (!Arrays.equals(attributes(schema), attributes(other)) ||
+                        !isEquivalentAdditionalProperties(schema.getAdditionalProperties(),
+                                other.getAdditionalProperties())) {
+                    return false;
+                }
+                Schema[] nestedSchemas = nestedSchemas(schema);
+                Schema[] otherNestedSchemas = nestedSchemas(other);
+                for (int i = 0; i < nestedSchemas.length; i++) {
+                    if (!isEquivalent(nestedSchemas[i], otherNestedSchemas[i])) {
+                        return false;
+                    }
+                }
+                List[] nestedSchemaLists = nestedSchemaLists(schema);
+                List[] otherNestedSchemaLists = nestedSchemaLists(other);
+                for (int i = 0; i < nestedSchemaLists.length; i++) {
+                    if (!isEquivalent((List<Schema>) nestedSchemaLists[i], (List<Schema>) otherNestedSchemaLists[i])) {
+                        return false;
+                    }
+                }
+                Map[] nestedSchemaMaps = nestedSchemaMaps(schema);
+                Map[] otherNestedSchemaMaps = nestedSchemaMaps(other);
+                for (int i = 0; i < nestedSchemaMaps.length; i++) {
+                    if (!isEquivalent((Map<String, Schema>) nestedSchemaMaps[i],
+                            (Map<String, Schema>) otherNestedSchemaMaps[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                others.remove(other);
+            }
+        }
+
+        private boolean isEquivalent(Map<String, Schema> schemas, Map<String, Schema> others) {
+            if (Objects.isNull(schemas) || Objects.isNull(others)) {
+                return schemas == others;
+            }
+            if (schemas.size() != others.size()) {
+                return false;
+            }
+            Iterator<Map.Entry<String, Schema>> otherEntries = others.entrySet().iterator();
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                Map.Entry<String, Schema> otherEntry = otherEntries.next();
+                if (!entry.getKey().equals(otherEntry.getKey()) ||
+                        !isEquivalent(entry.getValue(), otherEntry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isEquivalent(List<Schema> schemas, List<Schema> others) {
+            if (Objects.isNull(schemas) || Objects.isNull(others)) {
+                return schemas == others;
+            }
+            if (schemas.size() != others.size()) {
+                return false;
+            }
+            for (int i = 0; i < schemas.size(); i++) {
+                if (!isEquivalent(schemas.get(i), others.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isEquivalentAdditionalProperties(Object additionalProperties, Object other) {
+            if (additionalProperties instanceof Schema schema && other instanceof Schema otherSchema) {
+                return isEquivalent(schema, otherSchema);
+            }
+            return Objects.equals(additionalProperties, other);
+        }
+    }
+
+    /**
+     * Accumulates the fingerprint in two independently mixed 64-bit lanes.
+     */
+    private static final class Hasher {
+
+        private long high = 0x9E3779B97F4A7C15L;
+        private long low = 0xC2B2AE3D27D4EB4FL;
+        // Schemas being fingerprinted, by their depth
+        private final Map<Schema, Integer> visiting = new IdentityHashMap<>();
+
+        private void add(long value) {
+            high = mix(high ^ value);
+            low = mix(low + value * 0xFF51AFD7ED558CCDL);
+        }
+
+        private void addString(String value) {
+            if (Objects.isNull(value)) {
+                add(0);
+                return;
+            }
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+            }
+            add(hash);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void addSchema(Schema<?> schema) {
+            if (Objects.isNull(schema)) {
+                add(0);
+                return;
+            }
+            Integer depth = visiting.get(schema);
+            if (Objects.nonNull(depth)) {
+                // A cycle adds the distance to the schema it returns to, instead of the schema again
+                add(0x5DEECE66DL ^ (visiting.size() - depth));
+                return;
+            }
+            visiting.put(schema, visiting.size());
+            try {
+                for (Object attribute : attributes(schema)) {
+                    if (attribute instanceof String value) {
+                        addString(value);
+                    } else {
+                        add(Objects.hashCode(attribute));
+                    }
+                }
+                for (Schema nestedSchema : nestedSchemas(schema)) {
+                    addSchema(nestedSchema);
+                }
+                for (List nestedSchemaList : nestedSchemaLists(schema)) {
+                    addSchemas((List<Schema>) nestedSchemaList);
+                }
+                for (Map nestedSchemaMap : nestedSchemaMaps(schema)) {
+                    addSchemas((Map<String, Schema>) nestedSchemaMap);
+                }
+                Object additionalProperties = schema.getAdditionalProperties();
+                if (additionalProperties instanceof Schema additionalPropertiesSchema) {
+                    addSchema(additionalPropertiesSchema);
+                } else {
+                    add(Objects.hashCode(additionalProperties));
+                }
+            } finally {
+                visiting.remove(schema);
+            }
+        }
+
+        private void addSchemas(List<Schema> schemas) {
+            if (Objects.isNull(schemas)) {
+                add(0);
+                return;
+            }
+            add(schemas.size());
+            schemas.forEach(this::addSchema);
+        }
+
+        private void addSchemas(Map<String, Schema> schemas) {
+            if (Objects.isNull(schemas)) {
+                add(0);
+                return;
+            }
+            add(schemas.size());
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                addString(entry.getKey());
+                addSchema(entry.getValue());
+            }
+        }
+
+        private static long mix(long value) {
+            value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+            value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return value ^ (value >>> 33);
+        }
+    }
+}
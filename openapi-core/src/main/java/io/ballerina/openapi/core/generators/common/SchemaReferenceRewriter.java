@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Rewrites the {@code #/components/schemas/<name>} references of an {@code OpenAPI} model in place, using a map of
+ * the original schema names to the modified schema names. The whole model is visited once, so the cost is linear in
+ * the size of the definition regardless of the number of renamed schemas.
+ *
+ * @since 2.3.2
+ */
+final class SchemaReferenceRewriter {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final Map<String, String> references = new HashMap<>();
+    // Shared model instances and recursive schemas are visited only once
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    SchemaReferenceRewriter(Map<String, String> nameMap) {
+        for (Map.Entry<String, String> entry : nameMap.entrySet()) {
+            if (!entry.getKey().equals(entry.getValue())) {
+                references.put(SCHEMA_REF_PREFIX + entry.getKey(), SCHEMA_REF_PREFIX + entry.getValue());
+            }
+        }
+    }
+
+    void rewrite(OpenAPI openAPI) {
+        if (references.isEmpty()) {
+            return;
+        }
+        if (Objects.nonNull(openAPI.getPaths())) {
+            openAPI.getPaths().values().forEach(this::visitPathItem);
+        }
+        if (Objects.nonNull(openAPI.getWebhooks())) {
+            openAPI.getWebhooks().values().forEach(this::visitPathItem);
+        }
+        Components components = openAPI.getComponents();
+        if (Objects.isNull(components)) {
+            return;
+        }
+        visitValues(components.getSchemas(), this::visitSchema);
+        visitValues(components.getResponses(), this::visitResponse);
+        visitValues(components.getParameters(), this::visitParameter);
+        visitValues(components.getRequestBodies(), this::visitRequestBody);
+        visitValues(components.getHeaders(), this::visitHeader);
+        visitValues(components.getCallbacks(), this::visitCallback);
+        visitValues(components.getPathItems(), this::visitPathItem);
+    }
+
+    private void visitPathItem(PathItem pathItem) {
+        if (Objects.isNull(pathItem) || !visited.add(pathItem)) {
+            return;
+        }
+        visitAll(pathItem.getParameters(), this::visitParameter);
+        pathItem.readOperations().forEach(this::visitOperation);
+    }
+
+    private void visitOperation(Operation operation) {
+        visitAll(operation.getParameters(), this::visitParameter);
+        visitRequestBody(operation.getRequestBody());
+        visitValues(operation.getResponses(), this::visitResponse);
+        visitValues(operation.getCallbacks(), this::visitCallback);
+    }
+
+    private void visitCallback(Callback callback) {
+        if (Objects.nonNull(callback) && visited.add(callback)) {
+            callback.values().forEach(this::visitPathItem);
+        }
+    }
+
+    private void visitParameter(Parameter parameter) {
+        if (Objects.nonNull(parameter) && visited.add(parameter)) {
+            visitSchema(parameter.getSchema());
+            visitContent(parameter.getContent());
+        }
+    }
+
+    private void visitRequestBody(RequestBody requestBody) {
+        if (Objects.nonNull(requestBody) && visited.add(requestBody)) {
+            visitContent(requestBody.getContent());
+        }
+    }
+
+    private void visitResponse(ApiResponse response) {
+        if (Objects.nonNull(response) && visited.add(response)) {
+            visitContent(response.getContent());
+            visitValues(response.getHeaders(), this::visitHeader);
+        }
+    }
+
+    private void visitHeader(Header header) {
+        if (Objects.nonNull(header) && visited.add(header)) {
+            visitSchema(header.getSchema());
+            visitContent(header.getContent());
+        }
+    }
+
+    private void visitContent(Content content) {
+        visitValues(content, this::visitMediaType);
+    }
+
+    private void visitMediaType(MediaType mediaType) {
+        if (Objects.isNull(mediaType) || !visited.add(mediaType)) {
+            return;
+        }
+        visitSchema(mediaType.getSchema());
+        if (Objects.nonNull(mediaType.getEncoding())) {
+            for (Encoding encoding : mediaType.getEncoding().values()) {
+                visitValues(encoding.getHeaders(), this::visitHeader);
+            }
+        }
+    }
+
+    private void visitSchema(Schema<?> schema) {
+        if (Objects.isNull(schema) || !visited.add(schema)) {
+            return;
+        }
+        String ref = schema.get$ref();
+        if (Objects.nonNull(ref)) {
+            String modifiedRef = references.get(ref);
+            if (Objects.nonNull(modifiedRef)) {
+                schema.set$ref(modifiedRef);
+            }
+        }
+        visitDiscriminator(schema.getDiscriminator());
+        visitValues(schema.getProperties(), this::visitSchema);
+        visitValues(schema.getPatternProperties(), this::visitSchema);
+        visitValues(schema.getDependentSchemas(), this::visitSchema);
+        visitAll(schema.getAllOf(), this::visitSchema);
+        visitAll(schema.getAnyOf(), this::visitSchema);
+        visitAll(schema.getOneOf(), this::visitSchema);
+        visitAll(schema.getPrefixItems(), this::visitSchema);
+        visitSchema(schema.getItems());
+        visitSchema(schema.getNot());
+        visitSchema(schema.getContains());
+        visitSchema(schema.getIf());
+        visitSchema(schema.getThen());
+        visitSchema(schema.getElse());
+        visitSchema(schema.getPropertyNames());
+        visitSchema(schema.getUnevaluatedProperties());
+        if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+            visitSchema(additionalProperties);
+        }
+    }
+
+    private void visitDiscriminator(Discriminator discriminator) {
+        if (Objects.isNull(discriminator) || Objects.isNull(discriminator.getMapping())) {
+            return;
+        }
+        discriminator.getMapping().replaceAll((value, ref) -> references.getOrDefault(ref, ref));
+    }
+
+    private static <T> void visitValues(Map<String, ? extends T> values, Consumer<T> visitor) {
+        if (Objects.nonNull(values)) {
+            visitAll(values.values(), visitor);
+        }
+    }
+
+    private static <T> void visitAll(Collection<? extends T> values, Consumer<T> visitor) {
+        if (Objects.nonNull(values)) {
+            values.forEach(visitor);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.common;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Formats the generated syntax trees concurrently, with at most the given parallelism.
+ * <p>
+ * The generated trees are immutable and independent of each other, hence they are formatted at the same time and the
+ * sources are returned in the order of the trees. A module with more members than the chunk size (ex: the types of a
+ * large definition) is further split into chunks of members which are formatted on their own. Each chunk is formatted
+ * along with the member before and the member after it, and only the text of its own members is taken, so every
+ * member is formatted in the same surroundings as when the whole module is formatted. The sources are therefore the
+ * same as the ones formatted one after another.
+ * <p>
+ * The formatting is shared by the calling thread and the threads of a single pool, which is created when it is first
+ * needed and is bounded by the available processors. Hence, the formatters used by concurrent generations do not
+ * add up to more formatting threads than processors.
+ *
+ * @since 2.3.2
+ */
+public final class SourceFormatter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final int parallelism;
+    private final int chunkSize;
+
+    /**
+     * Creates a formatter which uses the available processors and the default chunk size.
+     */
+    public SourceFormatter() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a formatter with the given limits.
+     *
+     * @param parallelism maximum number of trees or chunks formatted concurrently by a call, including the calling
+     *                    thread. The trees are formatted one after another, without splitting them, when it is not
+     *                    greater than one
+     * @param chunkSize   maximum number of module members formatted together. Modules are not split when it is not
+     *                    positive
+     */
+    public SourceFormatter(int parallelism, int chunkSize) {
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Formats the given syntax trees.
+     *
+     * @param syntaxTrees trees to format
+     * @return formatted sources, in the order of the given trees
+     * @throws FormatterException when a tree cannot be formatted
+     */
+    public List<String> format(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        List<String> sources = new ArrayList<>(syntaxTrees.size());
+        if (parallelism <= 1) {
+            for (SyntaxTree syntaxTree : syntaxTrees) {
+                sources.add(Formatter.format(syntaxTree).toSourceCode());
+            }
+            return sources;
+        }
+
+        List<Callable<String>> tasks = new ArrayList<>();
+        List<Integer> treeTaskCounts = new ArrayList<>(syntaxTrees.size());
+        for (SyntaxTree syntaxTree : syntaxTrees) {
+            List<Callable<String>> chunkTasks = getChunkTasks(syntaxTree);
+            tasks.addAll(chunkTasks);
+            treeTaskCounts.add(chunkTasks.size());
+        }
+        String[] results = runTasks(tasks);
+        // Chunks are joined in the order of the tasks, so the sources do not depend on the scheduling
+        int taskIndex = 0;
+        for (int treeTaskCount : treeTaskCounts) {
+            StringBuilder source = new StringBuilder();
+            for (int i = 0; i < treeTaskCount; i++) {
+                source.append(results[taskIndex++]);
+            }
+            sources.add(source.toString());
+        }
+        return sources;
+    }
+
+    /**
+     * Runs the given tasks with at most the parallelism of the formatter. The calling thread and the helpers submitted
+     * to the shared pool take the next task until all of them are taken, so the call completes even when the pool is
+     * busy with the tasks of other calls.
+     */
+    private String[] runTasks(List<Callable<String>> tasks) throws FormatterException {
+        String[] results = new String[tasks.size()];
+        AtomicInteger nextTask = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch pendingTasks = new CountDownLatch(tasks.size());
+        Runnable worker = () -> {
+            int taskIndex;
+            while (failure.get() == null && (taskIndex = nextTask.getAndIncrement()) < tasks.size()) {
+                try {
+                    results[taskIndex] = tasks.get(taskIndex).call();
+                    pendingTasks.countDown();
+                } catch (Exception | Error e) {
+                    failure.compareAndSet(null, e);
+                    // The tasks which are not taken yet are not run, hence the call is not kept waiting for them
+                    while (pendingTasks.getCount() > 0) {
+                        pendingTasks.countDown();
+                    }
+                }
+            }
+        };
+        int helperCount = Math.min(parallelism, tasks.size()) - 1;
+        List<Future<?>> helpers = new ArrayList<>(Math.max(helperCount, 0));
+        try {
+            for (int i = 0; i < helperCount; i++) {
+                helpers.add(SharedPool.EXECUTOR.submit(worker));
+            }
+            worker.run();
+            pendingTasks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Source formatting is interrupted");
+        } finally {
+            // Helpers which are not started yet have no task left to take
+            helpers.forEach(helper -> helper.cancel(false));
+        }
+        Throwable cause = failure.get();
+        if (cause == null) {
+            return results;
+        }
+        if (cause instanceof FormatterException formatterException) {
+            throw formatterException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * Returns the tasks which format the chunks of the given tree, whose results make up the formatted source when
+     * joined in order.
+     */
+    private List<Callable<String>> getChunkTasks(SyntaxTree syntaxTree) {
+        if (chunkSize <= 0 || !(syntaxTree.rootNode() instanceof ModulePartNode modulePartNode) ||
+                modulePartNode.members().size() <= chunkSize) {
+            return List.of(() -> Formatter.format(syntaxTree).toSourceCode());
+        }
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        List<Callable<String>> chunkTasks = new ArrayList<>();
+        for (int from = 0; from < members.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, members.size());
+            chunkTasks.add(() -> formatChunk(syntaxTree, modulePartNode, start, end));
+        }
+        return chunkTasks;
+    }
+
+    /**
+     * Formats the members from {@code start} (inclusive) to {@code end} (exclusive) of the given module. The first
+     * chunk also has the imports of the module and the last one has the end of the module.
+     */
+    private static String formatChunk(SyntaxTree syntaxTree, ModulePartNode modulePartNode, int start, int end)
+            throws FormatterException {
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        boolean hasPrevious = start > 0;
+        boolean hasNext = end < members.size();
+        // The neighbouring members are formatted only to get the spacing around the members of the chunk right
+        List<ModuleMemberDeclarationNode> chunkMembers = new ArrayList<>(end - start + 2);
+        for (int i = hasPrevious ? start - 1 : start; i < (hasNext ? end + 1 : end); i++) {
+            chunkMembers.add(members.get(i));
+        }
+        ModulePartNode chunkModulePart = NodeFactory.createModulePartNode(modulePartNode.imports(),
+                NodeFactory.createNodeList(chunkMembers), modulePartNode.eofToken());
+        SyntaxTree formattedTree = Formatter.format(syntaxTree.modifyWith(chunkModulePart));
+        NodeList<ModuleMemberDeclarationNode> formattedMembers =
+                ((ModulePartNode) formattedTree.rootNode()).members();
+        String source = formattedTree.toSourceCode();
+        int startOffset = hasPrevious ? formattedMembers.get(1).textRangeWithMinutiae().startOffset() : 0;
+        int endOffset = hasNext ? formattedMembers.get(formattedMembers.size() - 1).textRangeWithMinutiae()
+                .startOffset() : source.length();
+        return source.substring(startOffset, endOffset);
+    }
+
+    /**
+     * Holds the pool shared by all the formatters, which is created when the first formatter needs it. The threads
+     * are daemon threads, so the pool does not keep the JVM alive.
+     */
+    private static final class SharedPool {
+
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "openapi-source-formatter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -78,30 +78,39 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DEF
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.HTTP_IMPORT;
 
 public class TypeHandler {
-    private static TypeHandler typeHandlerInstance;
 
-    private static BallerinaTypesGenerator ballerinaTypesGenerator;
+    private final GenerationContext generationContext;
+    private final BallerinaTypesGenerator ballerinaTypesGenerator;
     private HashMap<String, TypeDefinitionNode> typeDefinitionNodes = new HashMap<>();
     private final Set<String> imports = new LinkedHashSet<>();
-    private static List<Diagnostic> constraintDiagnostics;
+    private final List<Diagnostic> constraintDiagnostics = new ArrayList<>();
 
+    TypeHandler(GenerationContext generationContext) {
+        this.generationContext = generationContext;
+        this.ballerinaTypesGenerator = new BallerinaTypesGenerator(generationContext);
+    }
 
-    private TypeHandler() {}
-
-    public static void createInstance(OpenAPI openAPI, boolean isNullable) {
-        typeHandlerInstance = new TypeHandler();
-        ballerinaTypesGenerator = new BallerinaTypesGenerator(openAPI, isNullable);
-        constraintDiagnostics = new ArrayList<>();
-        GeneratorUtils.initializeRecordCountMap();
+    /**
+     * Creates a new generation context and attaches it to the current thread until the returned scope is closed. Use
+     * {@link GenerationContext#create(OpenAPI, boolean)} to run generations concurrently.
+     *
+     * @return scope of the created context
+     */
+    public static GenerationContext.Scope createInstance(OpenAPI openAPI, boolean isNullable) {
+        return GenerationContext.create(openAPI, isNullable).attach();
     }
 
+    /**
+     * Returns the type handler of the generation context bound to the current thread.
+     */
     public static TypeHandler getInstance() {
-        return typeHandlerInstance;
+        return GenerationContext.getCurrent().map(GenerationContext::getTypeHandler).orElse(null);
     }
 
     public List<Diagnostic> getDiagnostics() {
-        constraintDiagnostics.addAll(ballerinaTypesGenerator.getDiagnostics());
-        return constraintDiagnostics;
+        List<Diagnostic> diagnostics = new ArrayList<>(constraintDiagnostics);
+        diagnostics.addAll(ballerinaTypesGenerator.getDiagnostics());
+        return diagnostics;
     }
 
     public void addTypeDefinitionNode(String key, TypeDefinitionNode typeDefinitionNode) {
@@ -113,22 +122,25 @@ public class TypeHandler {
     }
 
     public SyntaxTree generateTypeSyntaxTree() {
-        NodeList<ModuleMemberDeclarationNode> typeMembers = getTypeMembers();
-        NodeList<ImportDeclarationNode> imports = generateImportNodes();
-        Token eofToken = AbstractNodeFactory.createIdentifierToken("");
-        ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, typeMembers, eofToken);
-        TextDocument textDocument = TextDocuments.from("");
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        syntaxTree = syntaxTree.modifyWith(modulePartNode);
-        DocCommentGeneratorImp docCommentGenerator = new DocCommentGeneratorImp(GeneratorMetaData.getInstance()
-                .getOpenAPI(), syntaxTree, GenSrcFile.GenFileType.GEN_TYPE, false);
-        return docCommentGenerator.updateSyntaxTreeWithDocComments();
+        try (GenerationContext.Scope ignored = generationContext.attach()) {
+            NodeList<ModuleMemberDeclarationNode> typeMembers = getTypeMembers();
+            NodeList<ImportDeclarationNode> imports = generateImportNodes();
+            Token eofToken = AbstractNodeFactory.createIdentifierToken("");
+            ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, typeMembers, eofToken);
+            TextDocument textDocument = TextDocuments.from("");
+            SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+            syntaxTree = syntaxTree.modifyWith(modulePartNode);
+            DocCommentGeneratorImp docCommentGenerator = new DocCommentGeneratorImp(generationContext
+                    .getGeneratorMetaData().getOpenAPI(), syntaxTree, GenSrcFile.GenFileType.GEN_TYPE, false);
+            return docCommentGenerator.updateSyntaxTreeWithDocComments();
+        }
     }
 
     private NodeList<ModuleMemberDeclarationNode> getTypeMembers() {
-        if (!GeneratorMetaData.getInstance().isNullable()) {
-            ConstraintGeneratorImp constraintGenerator = new ConstraintGeneratorImp(GeneratorMetaData
-                    .getInstance().getOpenAPI(), typeDefinitionNodes);
+        GeneratorMetaData generatorMetaData = generationContext.getGeneratorMetaData();
+        if (!generatorMetaData.isNullable()) {
+            ConstraintGeneratorImp constraintGenerator = new ConstraintGeneratorImp(generatorMetaData.getOpenAPI(),
+                    typeDefinitionNodes);
             ConstraintResult constraintResult = constraintGenerator.updateTypeDefinitionsWithConstraints();
             typeDefinitionNodes = constraintResult.typeDefinitionNodeHashMap();
             boolean isConstraintAvailable = constraintResult.isConstraintAvailable();
@@ -54,9 +54,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -71,7 +69,6 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.QUE
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.escapeIdentifier;
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.getBallerinaMediaType;
-import static io.ballerina.openapi.core.generators.common.GeneratorUtils.replaceContentWithinBrackets;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.createAPIDescriptionDoc;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.createAPIParamDoc;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.createAPIParamDocFromString;
@@ -96,18 +93,22 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
         //collect all the operation details
-        HashMap<String, OperationDetails> operationDetailsMap = new HashMap<>();
+        Map<String, OperationDetails> remoteOperations = new HashMap<>();
+        Map<OperationKey, OperationDetails> resourceOperations = new HashMap<>();
         Paths paths = openAPI.getPaths();
-        extractOperations(operationDetailsMap, paths);
+        extractOperations(remoteOperations, resourceOperations, paths);
         //Generate type doc comments
         Node rootNode = syntaxTree.rootNode();
         ModulePartNode modulePartNode = (ModulePartNode) rootNode;
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>();
+        if (members.isEmpty()) {
+            return syntaxTree;
+        }
+        List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>(members.size());
         members.forEach(member -> {
             if (member.kind().equals(SyntaxKind.CLASS_DEFINITION)) {
                 ClassDefinitionNode classDef = (ClassDefinitionNode) member;
-                List<Node> updatedList = new LinkedList<>();
+                List<Node> updatedList = new ArrayList<>();
                 NodeList<Node> classMembers = classDef.members();
                 classMembers.forEach(classMember -> {
                     if (classMember.kind().equals(SyntaxKind.OBJECT_METHOD_DEFINITION) ||
@@ -115,6 +116,7 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
                         FunctionDefinitionNode funcDef = (FunctionDefinitionNode) classMember;
 
                         //remote : operationId
+                        OperationDetails operationDetails;
                         if (isResource) {
                             NodeList<Node> nodes = funcDef.relativeResourcePath();
                             StringBuilder path = new StringBuilder();
@@ -122,14 +124,12 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
                                 path.append(DocCommentsGeneratorUtil.unescapeIdentifier(node.toString()
                                         .replace("\"", "")));
                             }
-                            String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
-                                    funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
+                            operationDetails = resourceOperations.get(OperationKey.ofResource(path.toString(),
+                                    funcDef.functionName().text()));
                         } else {
-                            String key = funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
+                            operationDetails = remoteOperations.get(funcDef.functionName().text());
                         }
-                        classMember = funcDef;
+                        classMember = updateDocCommentsForFunctionNode(operationDetails, funcDef);
                     }
                     updatedList.add(classMember);
                 });
@@ -145,39 +145,36 @@ public class ClientDocCommentGenerator implements DocCommentsGenerator {
                         classDef.semicolonToken().orElse(null));
                 member = classDef;
             }
-
             updatedMembers.add(member);
-            NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
-            ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
-                    modulePartNode.eofToken());
-
-            syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
         });
+        // The module is rebuilt once with all the documented members
+        NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
+        ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
+                modulePartNode.eofToken());
+        syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
         return syntaxTree;
     }
 
-    private void extractOperations(HashMap<String, OperationDetails> operationDetailsMap, Paths paths) {
+    private void extractOperations(Map<String, OperationDetails> remoteOperations,
+                                   Map<OperationKey, OperationDetails> resourceOperations, Paths paths) {
         paths.forEach((path, pathItem) -> {
             for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.readOperationsMap().entrySet()) {
                 PathItem.HttpMethod method = entry.getKey();
                 Operation operation = entry.getValue();
                 if (!isResource) {
-                    operationDetailsMap.put(operation.getOperationId(),
+                    remoteOperations.put(operation.getOperationId(),
                             new OperationDetails(operation.getOperationId(), operation, path, method.name()));
                 } else {
-                    path = path.equals("/") ? "." : path;
-                    String key = replaceContentWithinBrackets(path.replaceFirst("/", ""),
-                            "XXX") + "_" + method.name().toLowerCase(Locale.ENGLISH);
-                    operationDetailsMap.put(key, new OperationDetails(operation.getOperationId(),
-                            operation, path, method.name()));
+                    String operationPath = path.equals("/") ? "." : path;
+                    resourceOperations.put(OperationKey.of(path, method.name()), new OperationDetails(
+                            operation.getOperationId(), operation, operationPath, method.name()));
                 }
             }
         });
     }
 
-    private  FunctionDefinitionNode updateDocCommentsForFunctionNode(
-            HashMap<String, OperationDetails> operationDetailsMap, FunctionDefinitionNode funcDef, String key) {
-        OperationDetails operationDetails = operationDetailsMap.get(key);
+    private  FunctionDefinitionNode updateDocCommentsForFunctionNode(OperationDetails operationDetails,
+                                                                     FunctionDefinitionNode funcDef) {
         if (operationDetails != null) {
             List<Node> docs = new ArrayList<>();
             List<AnnotationNode> annotations = new ArrayList<>();
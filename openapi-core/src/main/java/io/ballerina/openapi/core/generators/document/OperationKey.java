@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.core.generators.document;
+
+import java.util.Locale;
+
+/**
+ * Identifies a resource operation by its path template and HTTP method, so that an operation of the OpenAPI
+ * definition and the resource function generated for it map to the same key.
+ * <p>
+ * Path parameters, which are {@code {id}} in the definition and {@code [string id]} in the resource path, are
+ * replaced with {@code XXX}. Intermediate segments with characters other than letters, digits and underscores are
+ * replaced with {@code ZZZ}, as their escaped form in the resource path differs from the definition. This is the same
+ * normalization as {@code GeneratorUtils#replaceContentWithinBrackets}, done in a single scan of the path.
+ *
+ * @param path   normalized path template, without the leading slash
+ * @param method lower case HTTP method
+ * @since 2.3.2
+ */
+public record OperationKey(String path, String method) {
+
+    private static final String PARAMETER_PLACEHOLDER = "XXX";
+    private static final String SPECIAL_SEGMENT_PLACEHOLDER = "ZZZ";
+
+    /**
+     * Creates the key of an operation of the OpenAPI definition.
+     *
+     * @param path   path of the operation, as given in the definition
+     * @param method HTTP method of the operation
+     */
+    public static OperationKey of(String path, String method) {
+        String relativePath = path.equals("/") ? "." : path.replaceFirst("/", "");
+        return new OperationKey(normalize(relativePath), method.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Creates the key of a resource function.
+     *
+     * @param resourcePath relative resource path of the function, without quotes and escapes
+     * @param accessor     resource accessor of the function
+     */
+    public static OperationKey ofResource(String resourcePath, String accessor) {
+        return new OperationKey(normalize(resourcePath), accessor.toLowerCase(Locale.ENGLISH));
+    }
+
+    static String normalize(String path) {
+        String replaced = replaceParameters(path);
+        if (replaced.startsWith(".")) {
+            return replaced;
+        }
+        String[] segments = replaced.split("/", -1);
+        StringBuilder normalized = new StringBuilder(replaced.length());
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                normalized.append('/');
+            }
+            // Only the segments in between two slashes are replaced, hence neither the first nor the last one
+            boolean intermediate = i > 0 && i < segments.length - 1;
+            normalized.append(intermediate && hasSpecialCharacter(segments[i]) ? SPECIAL_SEGMENT_PLACEHOLDER :
+                    segments[i]);
+        }
+        return normalized.toString();
+    }
+
+    private static String replaceParameters(String path) {
+        StringBuilder replaced = new StringBuilder(path.length());
+        int index = 0;
+        while (index < path.length()) {
+            char current = path.charAt(index);
+            if (current == '{' || current == '[') {
+                int end = indexOfClosingBracket(path, index + 1);
+                if (end < 0) {
+                    // An unclosed bracket is kept as it is, along with the rest of the path
+                    replaced.append(path, index, path.length());
+                    break;
+                }
+                replaced.append(PARAMETER_PLACEHOLDER);
+                index = end + 1;
+            } else {
+                replaced.append(current);
+                index++;
+            }
+        }
+        return replaced.toString();
+    }
+
+    private static int indexOfClosingBracket(String path, int from) {
+        for (int i = from; i < path.length(); i++) {
+            char current = path.charAt(i);
+            if (current == '}' || current == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasSpecialCharacter(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char current = segment.charAt(i);
+            boolean allowed = (current >= 'a' && current <= 'z') || (current >= 'A' && current <= 'Z') ||
+                    (current >= '0' && current <= '9') || current == '_';
+            if (!allowed) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -51,7 +51,6 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -66,7 +65,6 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.escapeIdentifier;
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.generators.common.GeneratorUtils.getBallerinaMediaType;
-import static io.ballerina.openapi.core.generators.common.GeneratorUtils.replaceContentWithinBrackets;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.createAPIDescriptionDoc;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.createAPIParamDoc;
 import static io.ballerina.openapi.core.generators.document.DocCommentsGeneratorUtil.createAPIParamDocFromString;
@@ -88,14 +86,17 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
     @Override
     public SyntaxTree updateSyntaxTreeWithDocComments() {
         //collect all the operation details
-        HashMap<String, OperationDetails> operationDetailsMap = new HashMap<>();
+        Map<OperationKey, OperationDetails> operationDetailsMap = new HashMap<>();
         Paths paths = openAPI.getPaths();
         extractOperations(operationDetailsMap, paths);
         //Generate type doc comments
         Node rootNode = syntaxTree.rootNode();
         ModulePartNode modulePartNode = (ModulePartNode) rootNode;
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>();
+        if (members.isEmpty()) {
+            return syntaxTree;
+        }
+        List<ModuleMemberDeclarationNode> updatedMembers = new ArrayList<>(members.size());
         members.forEach(member -> {
             if (member.kind().equals(SyntaxKind.SERVICE_DECLARATION)) {
                 ServiceDeclarationNode classDef = (ServiceDeclarationNode) member;
@@ -115,9 +116,9 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
                             for (Node node: nodes) {
                                 path.append(node.toString().replace("\"", ""));
                             }
-                            String key = replaceContentWithinBrackets(path.toString(), "XXX") + "_" +
-                                    funcDef.functionName().text();
-                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap, funcDef, key);
+                            OperationKey key = OperationKey.ofResource(path.toString(),
+                                    funcDef.functionName().text());
+                            funcDef = updateDocCommentsForFunctionNode(operationDetailsMap.get(key), funcDef);
 
                         classMember = funcDef;
                     } else {
@@ -147,32 +148,29 @@ public class ServiceDocCommentGenerator implements DocCommentsGenerator {
             }
 
             updatedMembers.add(member);
-            NodeList<ModuleMemberDeclarationNode> clientMembers = AbstractNodeFactory.createNodeList(updatedMembers);
-            ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), clientMembers,
-                    modulePartNode.eofToken());
-
-            syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
         });
+        // The module is rebuilt once with all the documented members
+        NodeList<ModuleMemberDeclarationNode> serviceMembers = AbstractNodeFactory.createNodeList(updatedMembers);
+        ModulePartNode updatedmodulePartNode = modulePartNode.modify(modulePartNode.imports(), serviceMembers,
+                modulePartNode.eofToken());
+        syntaxTree = syntaxTree.modifyWith(updatedmodulePartNode);
         return syntaxTree;
     }
 
-    private void extractOperations(HashMap<String, OperationDetails> operationDetailsMap, Paths paths) {
+    private void extractOperations(Map<OperationKey, OperationDetails> operationDetailsMap, Paths paths) {
         paths.forEach((path, pathItem) -> {
+            String operationPath = path.equals("/") ? "." : path;
             for (Map.Entry<PathItem.HttpMethod, Operation> entry : pathItem.readOperationsMap().entrySet()) {
                 PathItem.HttpMethod method = entry.getKey();
                 Operation operation = entry.getValue();
-                path = path.equals("/") ? "." : path;
-                String key = replaceContentWithinBrackets(path.replaceFirst("/", ""),
-                        "XXX") + "_" + method.name().toLowerCase(Locale.ENGLISH);
-                operationDetailsMap.put(key, new OperationDetails(operation.getOperationId(),
-                        operation, path, method.name()));
+                operationDetailsMap.put(OperationKey.of(path, method.name()), new OperationDetails(
+                        operation.getOperationId(), operation, operationPath, method.name()));
             }
         });
     }
 
-    private  FunctionDefinitionNode updateDocCommentsForFunctionNode(
-            HashMap<String, OperationDetails> operationDetailsMap, FunctionDefinitionNode funcDef, String key) {
-        OperationDetails operationDetails = operationDetailsMap.get(key);
+    private  FunctionDefinitionNode updateDocCommentsForFunctionNode(OperationDetails operationDetails,
+                                                                     FunctionDefinitionNode funcDef) {
         if (operationDetails != null) {
             List<Node> docs = new ArrayList<>();
             List<AnnotationNode> annotations = new ArrayList<>();
@@ -20,12 +20,13 @@ package io.ballerina.openapi.core.generators.service;
 
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.SingleFileGenerator;
+import io.ballerina.openapi.core.generators.common.SourceFormatter;
 import io.ballerina.openapi.core.generators.common.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.common.model.GenSrcFile;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.util.ArrayList;
@@ -38,24 +39,52 @@ import static io.ballerina.openapi.core.generators.common.GeneratorConstants.DO_
 public class ServiceGenerationHandler {
 
     private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private final GenerationContext generationContext;
+
+    /**
+     * Creates a service generation handler for the generation context the caller has attached to the current thread
+     * when generating, e.g. with {@link io.ballerina.openapi.core.generators.common.TypeHandler#createInstance}.
+     */
+    public ServiceGenerationHandler() {
+        this.generationContext = null;
+    }
+
+    public ServiceGenerationHandler(GenerationContext generationContext) {
+        this.generationContext = generationContext;
+    }
 
     public List<GenSrcFile> generateServiceFiles(OASServiceMetadata oasServiceMetadata) throws
             FormatterException, BallerinaOpenApiException {
+        try (GenerationContext.Scope ignored = getGenerationContext().attach()) {
+            return generateServiceSourceFiles(oasServiceMetadata);
+        }
+    }
+
+    private List<GenSrcFile> generateServiceSourceFiles(OASServiceMetadata oasServiceMetadata) throws
+            FormatterException, BallerinaOpenApiException {
         List<GenSrcFile> sourceFiles = new ArrayList<>();
         ServiceDeclarationGenerator serviceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
 
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
         if (!oasServiceMetadata.isServiceContractRequired()) {
-            String mainContent = Formatter.format(serviceGenerator.generateSyntaxTree()).toSourceCode();
+            syntaxTrees.add(serviceGenerator.generateSyntaxTree());
+        }
+        Optional<ServiceTypeGenerator> serviceTypeGenerator = getServiceTypeGenerator(oasServiceMetadata,
+                serviceGenerator.getFunctionsList());
+        if (serviceTypeGenerator.isPresent()) {
+            syntaxTrees.add(serviceTypeGenerator.get().generateSyntaxTree());
+        }
+        List<String> contents = new SourceFormatter().format(syntaxTrees);
+
+        if (!oasServiceMetadata.isServiceContractRequired()) {
+            String mainContent = contents.get(0);
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, oasServiceMetadata.getSrcPackage(),
                     oasServiceMetadata.getSrcFile(),
                     (oasServiceMetadata.getLicenseHeader().isBlank() ? DEFAULT_FILE_HEADER :
                             oasServiceMetadata.getLicenseHeader()) + mainContent));
         }
-
-        Optional<ServiceTypeGenerator> serviceTypeGenerator = getServiceTypeGenerator(oasServiceMetadata,
-                serviceGenerator.getFunctionsList());
         if (serviceTypeGenerator.isPresent()) {
-            String serviceType = Formatter.format(serviceTypeGenerator.get().generateSyntaxTree()).toSourceCode();
+            String serviceType = contents.get(contents.size() - 1);
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SERVICE_TYPE, oasServiceMetadata.getSrcPackage(),
                     oasServiceMetadata.isServiceContractRequired() ? "service_contract.bal" : "service_type.bal",
                     (oasServiceMetadata.getLicenseHeader().isBlank() ? DO_NOT_MODIFY_FILE_HEADER :
@@ -67,6 +96,13 @@ public class ServiceGenerationHandler {
     }
 
     public SyntaxTree generateSingleSyntaxTree(OASServiceMetadata oasServiceMetadata) throws BallerinaOpenApiException {
+        try (GenerationContext.Scope ignored = getGenerationContext().attach()) {
+            return generateSingleServiceSyntaxTree(oasServiceMetadata);
+        }
+    }
+
+    private SyntaxTree generateSingleServiceSyntaxTree(OASServiceMetadata oasServiceMetadata)
+            throws BallerinaOpenApiException {
         ServiceDeclarationGenerator serviceGenerator = new ServiceDeclarationGenerator(oasServiceMetadata);
         SyntaxTree syntaxTree = serviceGenerator.generateSyntaxTree();
         if (oasServiceMetadata.isServiceContractRequired()) {
@@ -86,6 +122,10 @@ public class ServiceGenerationHandler {
         return diagnostics;
     }
 
+    private GenerationContext getGenerationContext() {
+        return generationContext != null ? generationContext : GenerationContext.requireCurrent();
+    }
+
     private Optional<ServiceTypeGenerator> getServiceTypeGenerator(OASServiceMetadata oasServiceMetadata,
                                                                    List<Node> functionsList) {
         if (oasServiceMetadata.isServiceTypeRequired()) {
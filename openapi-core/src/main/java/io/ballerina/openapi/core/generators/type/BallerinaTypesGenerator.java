@@ -24,6 +24,7 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.ballerina.openapi.core.generators.common.GeneratorUtils;
 import io.ballerina.openapi.core.generators.common.exception.InvalidReferenceException;
 import io.ballerina.openapi.core.generators.type.diagnostic.TypeGenerationDiagnosticMessages;
@@ -44,6 +45,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,6 +67,13 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 public class BallerinaTypesGenerator {
 
     private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private final GenerationContext generationContext;
+    // Component types generated so far in this generation, in the order they were generated. A component is added
+    // before its type is generated, so that the cyclic references to it resolve to its name. The type definitions
+    // of the components are handed over to the type handler with the result of the schema referring to them first,
+    // which keeps the first definition of a component regardless of the nullable flag used later. Hence, each
+    // component is generated only once no matter how many schemas refer to it.
+    private final LinkedHashMap<String, NameReferenceNode> pregeneratedTypeMap = new LinkedHashMap<>();
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -74,7 +83,16 @@ public class BallerinaTypesGenerator {
      * @param isNullable nullable value
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable) {
-        GeneratorMetaData.createInstance(openAPI, isNullable);
+        this(GenerationContext.create(openAPI, isNullable));
+    }
+
+    /**
+     * Creates a types generator which uses the metadata of the given generation context.
+     *
+     * @param generationContext generation context of the current run
+     */
+    public BallerinaTypesGenerator(GenerationContext generationContext) {
+        this.generationContext = generationContext;
     }
 
     public List<Diagnostic> getDiagnostics() {
@@ -84,18 +102,34 @@ public class BallerinaTypesGenerator {
     public TypeGeneratorResult generateTypeDescriptorNodeForOASSchema(Schema<?> schema, boolean ignoreNullableFlag) {
         HashMap<String, TypeDefinitionNode> subtypesMap = new HashMap<>();
         Optional<TypeDescriptorNode> typeDescriptorNode;
-        try {
+        int pregeneratedTypeCount = pregeneratedTypeMap.size();
+        try (GenerationContext.Scope ignored = generationContext.attach()) {
             typeDescriptorNode = generateTypeDescriptorNodeForOASSchema(schema, ignoreNullableFlag,
-                    subtypesMap, new HashMap<>());
+                    subtypesMap, pregeneratedTypeMap);
         } catch (InvalidReferenceException | OASTypeGenException e) {
             TypeGeneratorDiagnostic diagnostic = new TypeGeneratorDiagnostic(
                     TypeGenerationDiagnosticMessages.OAS_TYPE_103, e.getMessage());
             diagnostics.add(diagnostic);
+            forgetTypesGeneratedAfter(pregeneratedTypeCount);
             return new TypeGeneratorResult(Optional.empty(), subtypesMap);
         }
         return new TypeGeneratorResult(typeDescriptorNode, subtypesMap);
     }
 
+    /**
+     * Forgets the components added while generating a failed schema, as some of them may not have been generated
+     * completely. The schemas referring to them later generate them again.
+     */
+    private void forgetTypesGeneratedAfter(int pregeneratedTypeCount) {
+        Iterator<String> typeNames = pregeneratedTypeMap.keySet().iterator();
+        for (int i = 0; typeNames.hasNext(); i++) {
+            typeNames.next();
+            if (i >= pregeneratedTypeCount) {
+                typeNames.remove();
+            }
+        }
+    }
+
     /**
      * Generate typeDescriptor for given schema.
      */
@@ -111,6 +145,7 @@ public class BallerinaTypesGenerator {
             String schemaName = GeneratorUtils.extractReferenceType(schema.get$ref());
             String typeName = GeneratorUtils.escapeIdentifier(schemaName);
             if (!pregeneratedTypeMap.containsKey(typeName)) {
+                pregeneratedTypeMap.put(typeName, getSimpleNameReferenceNode(typeName));
                 schema = GeneratorMetaData.getInstance()
                         .getOpenAPI().getComponents().getSchemas().get(schemaName);
                 if (schema == null) {
@@ -130,7 +165,6 @@ public class BallerinaTypesGenerator {
                         typeDescriptorNode,
                         createToken(SEMICOLON_TOKEN));
                 this.diagnostics.addAll(typeGenerator.getDiagnostics());
-                pregeneratedTypeMap.put(typeName, getSimpleNameReferenceNode(typeName));
                 subTypesMap.put(typeName, typeDefinitionNode);
             }
             return Optional.ofNullable(getSimpleNameReferenceNode(typeName));
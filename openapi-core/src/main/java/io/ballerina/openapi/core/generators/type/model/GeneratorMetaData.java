@@ -18,8 +18,10 @@
 
 package io.ballerina.openapi.core.generators.type.model;
 
+import io.ballerina.openapi.core.generators.common.GenerationContext;
 import io.swagger.v3.oas.models.OpenAPI;
 
+
 /**
  * Stores metadata related to Ballerina types generation.
  *
@@ -29,20 +31,28 @@ public class GeneratorMetaData {
 
     private final OpenAPI openAPI;
     private final boolean nullable;
-    private static GeneratorMetaData generatorMetaData = null;
 
-    private GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
+    public GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
         this.openAPI = openAPI;
         this.nullable = nullable;
     }
 
+    /**
+     * Creates the metadata and stores it in the generation context bound to the current thread.
+     *
+     * @throws IllegalStateException when no generation context is attached to the current thread
+     */
     public static GeneratorMetaData createInstance(OpenAPI openAPI, boolean nullable) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+        GeneratorMetaData generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+        GenerationContext.requireCurrent().setGeneratorMetaData(generatorMetaData);
         return generatorMetaData;
     }
 
+    /**
+     * Returns the metadata of the generation context bound to the current thread.
+     */
     public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+        return GenerationContext.getCurrent().map(GenerationContext::getGeneratorMetaData).orElse(null);
     }
 
     public OpenAPI getOpenAPI() {
@@ -25,6 +25,7 @@ module io.ballerina.openapi.core {
     requires io.ballerina.tools.api;
     requires io.ballerina.runtime;
     requires io.ballerina.formatter.core;
+    requires io.ballerina.openapi.service;
     requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
     requires java.ws.rs;
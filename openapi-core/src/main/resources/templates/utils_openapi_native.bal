@@ -0,0 +1,78 @@
+import ballerina/http;
+import ballerina/jballerina.java;
+
+# Generate client request when the media type is given as application/x-www-form-urlencoded.
+#
+# + encodingMap - Includes the information about the encoding mechanism
+# + anyRecord - Record to be serialized
+# + return - Serialized request body or query parameter as a string
+isolated function createFormURLEncodedRequestBody(record {|anydata...; |} anyRecord, map<Encoding> encodingMap = {}) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer"
+} external;
+
+# Serialize the record according to the deepObject style.
+#
+# + parent - Parent record name
+# + anyRecord - Record to be serialized
+# + return - Serialized record as a string
+isolated function getDeepObjectStyleRequest(string parent, record {} anyRecord) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer"
+} external;
+
+# Serialize the record according to the form style.
+#
+# + parent - Parent record name
+# + anyRecord - Record to be serialized
+# + explode - Specifies whether arrays and objects should generate separate parameters
+# + return - Serialized record as a string
+isolated function getFormStyleRequest(string parent, record {} anyRecord, boolean explode = true) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer"
+} external;
+
+# Serialize arrays.
+#
+# + arrayName - Name of the field with arrays
+# + anyArray - Array to be serialized
+# + style - Defines how multiple values are delimited
+# + explode - Specifies whether arrays and objects should generate separate parameters
+# + return - Serialized array as a string
+isolated function getSerializedArray(string arrayName, anydata[] anyArray, string style = "form", boolean explode = true) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer"
+} external;
+
+# Serialize the array of records according to the form style.
+#
+# + parent - Parent record name
+# + value - Array of records to be serialized
+# + style - Defines how multiple values are delimited
+# + explode - Specifies whether arrays and objects should generate separate parameters
+# + return - Serialized record as a string
+isolated function getSerializedRecordArray(string parent, record {}[] value, string style = FORM, boolean explode = true) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer"
+} external;
+
+# Get Encoded URI for a given value.
+#
+# + value - Value to be encoded
+# + return - Encoded string
+isolated function getEncodedUri(anydata value) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer"
+} external;
+
+# Generate query path with query parameter.
+#
+# + queryParam - Query parameter map
+# + encodingMap - Details on serialization mechanism
+# + return - Returns generated Path or error at failure of client initialization
+isolated function getPathForQueryParam(map<anydata> queryParam, map<Encoding> encodingMap = {}) returns string|error {
+    return getSerializedQueryPath(http:getQueryMap(queryParam), encodingMap);
+}
+
+# Serialize the query parameter map into the query part of the path.
+#
+# + queriesMap - Query parameter map
+# + encodingMap - Details on serialization mechanism
+# + return - Serialized query path as a string
+isolated function getSerializedQueryPath(map<anydata> queriesMap, map<Encoding> encodingMap) returns string = @java:Method {
+    'class: "io.ballerina.openapi.client.QuerySerializer"
+} external;
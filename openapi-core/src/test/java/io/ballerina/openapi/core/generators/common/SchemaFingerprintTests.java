@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.core.generators.common;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * This test class covers the structural fingerprints used to deduplicate the inline schemas.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SchemaFingerprintTests {
+
+    @Test(description = "Schemas with the same structure have the same fingerprint")
+    public void testEqualSchemas() {
+        Schema<?> schema = createPetSchema();
+        Schema<?> other = createPetSchema();
+        Assert.assertEquals(SchemaFingerprint.of(other), SchemaFingerprint.of(schema));
+        Assert.assertTrue(SchemaFingerprint.isEquivalent(schema, other));
+    }
+
+    @Test(description = "Schemas which differ only in the order of their properties are kept apart, as the order " +
+            "decides the order of the record fields")
+    public void testPropertyOrder() {
+        Schema<?> schema = new ObjectSchema().addProperty("id", new IntegerSchema())
+                .addProperty("name", new StringSchema());
+        Schema<?> other = new ObjectSchema().addProperty("name", new StringSchema())
+                .addProperty("id", new IntegerSchema());
+        Assert.assertNotEquals(SchemaFingerprint.of(other), SchemaFingerprint.of(schema));
+        Assert.assertFalse(SchemaFingerprint.isEquivalent(schema, other));
+        Assert.assertFalse(SchemaFingerprint.isEquivalent(other, schema));
+    }
+
+    @DataProvider(name = "schemaChanges")
+    public Object[][] schemaChanges() {
+        return new Object[][]{
+                {"type", (Consumer<Schema>) schema -> schema.setType("array")},
+                {"property", (Consumer<Schema>) schema -> schema.addProperty("age", new IntegerSchema())},
+                {"const", (Consumer<Schema>) schema -> schema.setConst("dog")},
+                {"prefixItems", (Consumer<Schema>) schema -> schema.setPrefixItems(List.of(new StringSchema()))},
+                {"if", (Consumer<Schema>) schema -> schema.setIf(new StringSchema())},
+                {"then", (Consumer<Schema>) schema -> schema.setThen(new StringSchema())},
+                {"else", (Consumer<Schema>) schema -> schema.setElse(new StringSchema())},
+                {"contentEncoding", (Consumer<Schema>) schema -> schema.setContentEncoding("base64")},
+                {"contentMediaType", (Consumer<Schema>) schema -> schema.setContentMediaType("image/png")},
+                {"examples", (Consumer<Schema>) schema -> schema.setExamples(List.of("dog"))},
+                {"$anchor", (Consumer<Schema>) schema -> schema.set$anchor("pet")},
+                {"unevaluatedProperties", (Consumer<Schema>) schema ->
+                        schema.setUnevaluatedProperties(new StringSchema())},
+                {"patternProperties", (Consumer<Schema>) schema ->
+                        schema.setPatternProperties(Map.of("^x-", new StringSchema()))}
+        };
+    }
+
+    @Test(description = "Schemas which differ in a single keyword are neither equivalent nor share the fingerprint",
+            dataProvider = "schemaChanges")
+    public void testUnequalSchemas(String keyword, Consumer<Schema> change) {
+        Schema<?> schema = createPetSchema();
+        Schema other = createPetSchema();
+        change.accept(other);
+        Assert.assertNotEquals(SchemaFingerprint.of(other), SchemaFingerprint.of(schema), keyword);
+        Assert.assertFalse(SchemaFingerprint.isEquivalent(schema, other), keyword);
+        Assert.assertFalse(SchemaFingerprint.isEquivalent(other, schema), keyword);
+    }
+
+    @Test(description = "Same schema under different 3.1 keywords is not equivalent")
+    public void testMovedNestedSchema() {
+        Schema<?> schema = createPetSchema().then(new StringSchema());
+        Schema<?> other = createPetSchema()._else(new StringSchema());
+        Assert.assertNotEquals(SchemaFingerprint.of(other), SchemaFingerprint.of(schema));
+        Assert.assertFalse(SchemaFingerprint.isEquivalent(schema, other));
+    }
+
+    @Test(description = "Schemas which contain themselves are fingerprinted and compared without overflowing")
+    public void testRecursiveSchemas() {
+        Schema<?> schema = createTreeSchema();
+        Schema<?> other = createTreeSchema();
+        Assert.assertEquals(SchemaFingerprint.of(other), SchemaFingerprint.of(schema));
+        Assert.assertTrue(SchemaFingerprint.isEquivalent(schema, other));
+
+        Schema<?> changed = createTreeSchema();
+        changed.getProperties().get("value").setType("integer");
+        Assert.assertNotEquals(SchemaFingerprint.of(changed), SchemaFingerprint.of(schema));
+        Assert.assertFalse(SchemaFingerprint.isEquivalent(schema, changed));
+    }
+
+    private static Schema<?> createPetSchema() {
+        return new ObjectSchema()
+                .addProperty("id", new IntegerSchema().format("int64"))
+                .addProperty("name", new StringSchema().maxLength(64))
+                .addProperty("tags", new ArraySchema().items(new StringSchema()))
+                .required(List.of("id", "name"));
+    }
+
+    /**
+     * Creates a tree node whose children are the node schema itself.
+     */
+    private static Schema<?> createTreeSchema() {
+        ObjectSchema node = new ObjectSchema();
+        node.addProperty("value", new StringSchema());
+        node.addProperty("children", new ArraySchema().items(node));
+        return node;
+    }
+}
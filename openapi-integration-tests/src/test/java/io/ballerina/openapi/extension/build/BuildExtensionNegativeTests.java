@@ -23,12 +23,17 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.TestUtil.DISTRIBUTIONS_DIR;
 import static io.ballerina.openapi.TestUtil.RESOURCE;
@@ -63,4 +68,23 @@ public class BuildExtensionNegativeTests extends OpenAPITest {
         process.waitFor();
         assertOnErrorStream(process, out);
     }
+
+    @Test(description = "Skipped generation notice is printed once per compilation of a package with errors in " +
+            "several service files")
+    public void packageHasCompilationErrorsInServiceFiles() throws IOException, InterruptedException {
+        List<String> buildArgs = new LinkedList<>();
+        buildArgs.add(0, "build");
+        buildArgs.add("--export-openapi");
+        Process process = getProcess(buildArgs, TEST_RESOURCE.resolve("package_with_compilation_issues"));
+        String output;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            output = reader.lines().collect(Collectors.joining("\n"));
+        }
+        process.waitFor();
+        String notice = "openapi contract generation is skipped because of the following compilation error(s) in " +
+                "the ballerina package:";
+        Assert.assertEquals(output.split(Pattern.quote(notice), -1).length - 1, 1, output);
+        Assert.assertFalse(Files.exists(TEST_RESOURCE.resolve("package_with_compilation_issues/target/openapi")));
+    }
 }
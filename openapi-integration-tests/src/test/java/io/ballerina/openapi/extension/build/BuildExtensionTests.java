@@ -138,6 +138,22 @@ public class  BuildExtensionTests {
                 "module_openapi.yaml")));
     }
 
+    @Test(description = "Services with the same base path in different files")
+    public void sameBasePathInDifferentFiles() throws IOException, InterruptedException {
+        List<String> buildArgs = new LinkedList<>();
+        buildArgs.add("--export-openapi");
+        boolean successful = executeBuild(DISTRIBUTION_FILE_NAME,
+                TEST_RESOURCE.resolve("project_11"), buildArgs);
+        Assert.assertTrue(successful);
+        Path openapiDir = RESOURCE.resolve("build/project_11/target/openapi");
+        Assert.assertTrue(Files.exists(openapiDir.resolve("greeting_openapi.yaml")));
+        Assert.assertTrue(Files.exists(openapiDir.resolve("greeting_openapi.1.yaml")));
+        String contracts = Files.readString(openapiDir.resolve("greeting_openapi.yaml")) +
+                Files.readString(openapiDir.resolve("greeting_openapi.1.yaml"));
+        Assert.assertTrue(contracts.contains("/greeting:"));
+        Assert.assertTrue(contracts.contains("/farewell:"));
+    }
+
 
     private void executeCommand(String resourcePath) throws IOException, InterruptedException {
         List<String> buildArgs = new LinkedList<>();
@@ -0,0 +1,8 @@
+import ballerina/http;
+
+service /farewell on new http:Listener(9091) {
+    resource function get bye() returns string {
+        boolean done = 1;
+        return "Bye";
+    }
+}
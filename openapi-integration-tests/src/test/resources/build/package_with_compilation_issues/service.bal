@@ -0,0 +1,8 @@
+import ballerina/http;
+
+service /greeting on new http:Listener(9090) {
+    resource function get hello() returns string {
+        int count = "hello";
+        return "Hello";
+    }
+}
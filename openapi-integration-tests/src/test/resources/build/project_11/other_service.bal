@@ -0,0 +1,7 @@
+import ballerina/http;
+
+service /greeting on new http:Listener(9091) {
+    resource function get farewell() returns string {
+        return "Goodbye, World!";
+    }
+}
@@ -19,21 +19,25 @@
 
 package io.ballerina.openapi.extension;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
 import io.ballerina.openapi.service.mapper.diagnostic.OpenAPIMapperDiagnostic;
+import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
 import io.ballerina.openapi.service.mapper.model.OASResult;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -51,8 +55,13 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -70,6 +79,13 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
     private static final String SEVERITY = "severity";
     private static final String LOCATION = "location";
     private static final String FILE = "file";
+    // Generations wait for a short while, so that a burst of edits results in a single generation
+    private static final long GENERATION_DEBOUNCE_MILLIS = 150;
+    private static final int GENERATOR_THREADS = Math.max(1, Math.min(2,
+            Runtime.getRuntime().availableProcessors() / 2));
+    private final OpenAPISpecCache specCache = new OpenAPISpecCache();
+    private final OpenAPIGenerationExecutor generationExecutor = new OpenAPIGenerationExecutor(GENERATOR_THREADS,
+            GENERATION_DEBOUNCE_MILLIS);
     private WorkspaceManager workspaceManager;
 
     @Override
@@ -90,9 +106,10 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
     @JsonRequest
     @Deprecated
     public CompletableFuture<OpenAPIConverterResponse> generateOpenAPIFile(OpenAPIConverterRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        String fileUri = request.getDocumentFilePath();
+        List<Object> generationKey = List.of("generateOpenAPIFile", fileUri, request.isEnableBalExtension());
+        return generationExecutor.submit(generationKey, isCancelled -> {
             OpenAPIConverterResponse response = new OpenAPIConverterResponse();
-            String fileUri = request.getDocumentFilePath();
             Optional<SyntaxTree> syntaxTree = getPathFromURI(fileUri).flatMap(workspaceManager::syntaxTree);
             Optional<SemanticModel> semanticModel = getPathFromURI(fileUri).flatMap(workspaceManager::semanticModel);
             Optional<Project> ballerinaPackage = getPathFromURI(fileUri).flatMap(workspaceManager::project);
@@ -104,7 +121,7 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
                 response.setError(null);
                 List<OASResult> yamlContent = ServiceToOpenAPIMapper.generateOAS3Definition(
                         ballerinaPackage.get(), syntaxTree.get(), semanticModel.get(), null, false,
-                        Path.of(request.getDocumentFilePath()), request.isEnableBalExtension());
+                        Path.of(request.getDocumentFilePath()), request.isEnableBalExtension(), null, isCancelled);
                 //Response should handle
                 if (!yamlContent.isEmpty() && (yamlContent.get(0).getOpenAPI().isPresent())) {
                     Optional<String> yaml = yamlContent.get(0).getYaml();
@@ -123,9 +140,12 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<OpenAPIConverterResponse> generateOpenAPI(OpenAPIConverterRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        Path filePath = Path.of(request.getDocumentFilePath());
+        // Requests of the same project are coalesced, as the response covers all the services of the project
+        List<Object> generationKey = List.of("generateOpenAPI", workspaceManager.projectRoot(filePath),
+                request.isEnableBalExtension());
+        return generationExecutor.submit(generationKey, isCancelled -> {
             OpenAPIConverterResponse response = new OpenAPIConverterResponse();
-            Path filePath = Path.of(request.getDocumentFilePath());
             Optional<SemanticModel> semanticModel = workspaceManager.semanticModel(filePath);
             Optional<Project> project = workspaceManager.project(filePath);
             if (semanticModel.isEmpty()) {
@@ -136,39 +156,96 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
                 response.setError("Error while getting the project.");
                 return response;
             }
-            project = Optional.of(project.get().duplicate());
-            DiagnosticResult diagnosticsFromCodeGenAndModify = project.get()
-                    .currentPackage()
-                    .runCodeGenAndModifyPlugins();
-            boolean hasErrorsFromCodeGenAndModify = diagnosticsFromCodeGenAndModify.diagnostics().stream()
-                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-            Collection<Diagnostic> compilationDiagnostics = project.get().currentPackage()
-                    .getCompilation().diagnosticResult().diagnostics();
-            boolean hasCompilationErrors = compilationDiagnostics.stream()
-                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-            if (hasCompilationErrors || hasErrorsFromCodeGenAndModify) {
-                // if there are any compilation errors, do not proceed
-                response.setError("Given Ballerina file contains compilation error(s).");
-                return response;
-            }
-            Module defaultModule = project.get().currentPackage().getDefaultModule();
-            SemanticModel updatedSemanticModel =
-                    project.get().currentPackage().getCompilation().getSemanticModel(defaultModule.moduleId());
-            JsonArray specs = new JsonArray();
-            for (DocumentId currentDocumentID : defaultModule.documentIds()) {
-                Document document = defaultModule.document(currentDocumentID);
-                Optional<Path> path = defaultModule.project().documentPath(currentDocumentID);
-                Path inputPath = path.orElse(null);
-                SyntaxTree syntaxTree = document.syntaxTree();
-                List<OASResult> oasResults = ServiceToOpenAPIMapper.generateOAS3Definition(project.get(),
-                        syntaxTree, updatedSemanticModel, null, false, inputPath, request.isEnableBalExtension());
-                generateServiceJson(response, document.syntaxTree().filePath(), oasResults, specs);
+            OpenAPISpecCache.ProjectSpecs projectSpecs = specCache.getProjectSpecs(project.get());
+            synchronized (projectSpecs) {
+                Package currentPackage = project.get().currentPackage();
+                OpenAPISpecCache.CompiledPackage compiledPackage = projectSpecs.getCompiledPackage(currentPackage);
+                if (compiledPackage == null) {
+                    if (isCancelled.getAsBoolean()) {
+                        throw new CancellationException("OpenAPI generation is cancelled");
+                    }
+                    compiledPackage = compilePackage(project.get());
+                    if (compiledPackage == null) {
+                        // if there are any compilation errors, do not proceed
+                        projectSpecs.clear();
+                        response.setError("Given Ballerina file contains compilation error(s).");
+                        return response;
+                    }
+                    projectSpecs.setCompiledPackage(currentPackage, compiledPackage);
+                }
+                Module defaultModule = compiledPackage.project().currentPackage().getDefaultModule();
+                JsonArray specs = new JsonArray();
+                Set<String> documentNames = new HashSet<>();
+                for (DocumentId currentDocumentID : defaultModule.documentIds()) {
+                    Document document = defaultModule.document(currentDocumentID);
+                    documentNames.add(document.name());
+                    Optional<Path> path = defaultModule.project().documentPath(currentDocumentID);
+                    Path inputPath = path.orElse(null);
+                    String serviceFingerprint = OpenAPISpecCache.serviceFingerprint(document, inputPath);
+                    List<OASResult> oasResults = serviceFingerprint == null ? null : projectSpecs.getSpecs(
+                            document.name(), compiledPackage.fingerprint(), serviceFingerprint,
+                            request.isEnableBalExtension());
+                    if (oasResults == null) {
+                        oasResults = ServiceToOpenAPIMapper.generateOAS3Definition(compiledPackage.project(),
+                                document.syntaxTree(), compiledPackage.semanticModel(), null, false, inputPath,
+                                request.isEnableBalExtension(), compiledPackage.moduleMemberVisitor(),
+                                isCancelled);
+                        if (serviceFingerprint != null) {
+                            projectSpecs.putSpecs(document.name(), compiledPackage.fingerprint(),
+                                    serviceFingerprint, request.isEnableBalExtension(), oasResults);
+                        }
+                    }
+                    generateServiceJson(response, document.syntaxTree().filePath(), oasResults, specs);
+                }
+                projectSpecs.retainDocuments(documentNames);
+                response.setContent(specs);
             }
-            response.setContent(specs);
             return response;
         });
     }
 
+    /**
+     * This API is used to return the queue depth and generation time metrics of the OpenAPI generations.
+     */
+    @JsonRequest
+    public CompletableFuture<OpenAPIGenerationMetrics> generationMetrics() {
+        return CompletableFuture.completedFuture(generationExecutor.getMetrics());
+    }
+
+    /**
+     * Compiles the given workspace project for the OpenAPI generation. The project is duplicated and the code
+     * generator and modifier plugins are run on the duplicate only when the package engages compiler plugins, as
+     * otherwise the workspace project is the same as the modified one.
+     *
+     * @param workspaceProject workspace project
+     * @return compiled package, or null if the package has compilation errors
+     */
+    private static OpenAPISpecCache.CompiledPackage compilePackage(Project workspaceProject) {
+        Project project = workspaceProject;
+        boolean hasErrorsFromCodeGenAndModify = false;
+        if (OpenAPISpecCache.hasCompilerPlugins(project.currentPackage())) {
+            project = workspaceProject.duplicate();
+            DiagnosticResult diagnosticsFromCodeGenAndModify = project.currentPackage().runCodeGenAndModifyPlugins();
+            hasErrorsFromCodeGenAndModify = diagnosticsFromCodeGenAndModify.diagnostics().stream()
+                    .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        }
+        Collection<Diagnostic> compilationDiagnostics = project.currentPackage()
+                .getCompilation().diagnosticResult().diagnostics();
+        boolean hasCompilationErrors = compilationDiagnostics.stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        if (hasCompilationErrors || hasErrorsFromCodeGenAndModify) {
+            return null;
+        }
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(defaultModule.moduleId());
+        // Module members are extracted once and shared by the services of all the documents
+        ModuleMemberVisitor moduleMemberVisitor = ServiceToOpenAPIMapper.extractNodesFromProject(project,
+                semanticModel);
+        return new OpenAPISpecCache.CompiledPackage(project, semanticModel, moduleMemberVisitor,
+                OpenAPISpecCache.packageFingerprint(project.currentPackage()));
+    }
+
     /**
      * Generate openAPI json for a service.
      *
@@ -184,11 +261,12 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
                 response.setError("Error occurred while generating yaml.");
                 continue;
             }
-            if (oasResult.getJson().isEmpty()) {
+            Optional<JsonNode> jsonNode = oasResult.getJsonNode();
+            if (jsonNode.isEmpty()) {
                 continue;
             }
             JsonObject spec = new JsonObject();
-            JsonElement json = JsonParser.parseString(oasResult.getJson().get()).getAsJsonObject();
+            JsonElement json = toJsonElement(jsonNode.get());
             JsonArray diagnosticsJson = getDiagnosticsJson(oasResult);
 
             spec.addProperty(SERVICE_NAME, oasResult.getOpenAPI().get().getInfo().getTitle());
@@ -199,6 +277,39 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
         }
     }
 
+    /**
+     * Converts the Jackson tree of the generated definition to a Gson tree, without serializing it to a string and
+     * parsing it again.
+     */
+    private static JsonElement toJsonElement(JsonNode node) {
+        if (node.isObject()) {
+            JsonObject object = new JsonObject();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                object.add(field.getKey(), toJsonElement(field.getValue()));
+            }
+            return object;
+        }
+        if (node.isArray()) {
+            JsonArray array = new JsonArray(node.size());
+            for (JsonNode item : node) {
+                array.add(toJsonElement(item));
+            }
+            return array;
+        }
+        if (node.isNumber()) {
+            return new JsonPrimitive(node.numberValue());
+        }
+        if (node.isBoolean()) {
+            return new JsonPrimitive(node.booleanValue());
+        }
+        if (node.isNull() || node.isMissingNode()) {
+            return JsonNull.INSTANCE;
+        }
+        return new JsonPrimitive(node.asText());
+    }
+
     /**
      * Generate and returns the diagnostics data in OAS Result.
      *
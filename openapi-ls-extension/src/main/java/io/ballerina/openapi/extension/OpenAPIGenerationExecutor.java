@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs the OpenAPI generations of the LS extension on a small dedicated pool, so that they do not compete with the
+ * threads of the language server.
+ * <p>
+ * Generations are debounced and coalesced per key. A generation submitted while an earlier one for the same key is
+ * still waiting or running supersedes it: the earlier one is cancelled, and its requests are answered with the result
+ * of the latest generation. A generation is also cancelled once all the requests waiting for it are cancelled by the
+ * client, which cancels the futures returned by {@link #submit(Object, Function)}. Running generations observe the
+ * cancellation through the {@link BooleanSupplier} passed to the task, which is expected to throw a
+ * {@link CancellationException} once it returns {@code true}.
+ *
+ * @since 2.3.2
+ */
+final class OpenAPIGenerationExecutor {
+    private final Scheduler scheduler;
+    private final long debounceMillis;
+    private final LongSupplier nanoClock;
+    private final Map<Object, Generation<?>> latestGenerations = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalGenerationNanos = new AtomicLong();
+    private final AtomicLong maxGenerationNanos = new AtomicLong();
+    private final AtomicLong lastGenerationNanos = new AtomicLong();
+
+    /**
+     * Creates an executor with the given number of generator threads.
+     *
+     * @param threads        maximum number of generations running at the same time
+     * @param debounceMillis time a generation waits for a superseding one before it starts
+     */
+    OpenAPIGenerationExecutor(int threads, long debounceMillis) {
+        this(createScheduler(threads), debounceMillis, System::nanoTime);
+    }
+
+    /**
+     * Creates an executor running the generations on the given scheduler.
+     *
+     * @param scheduler      scheduler running the generations once their debounce delay is over
+     * @param debounceMillis time a generation waits for a superseding one before it starts
+     * @param nanoClock      clock measuring the generation times, in nanoseconds
+     */
+    OpenAPIGenerationExecutor(Scheduler scheduler, long debounceMillis, LongSupplier nanoClock) {
+        this.scheduler = scheduler;
+        this.debounceMillis = debounceMillis;
+        this.nanoClock = nanoClock;
+    }
+
+    private static Scheduler createScheduler(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "openapi-ls-generator-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, threadFactory);
+        executor.setRemoveOnCancelPolicy(true);
+        return (task, delayMillis) -> executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the given generation, superseding the generation pending for the same key, if any.
+     *
+     * @param key  key of the generation, where generations of the same key produce interchangeable results
+     * @param task generation, which is given the check telling whether it has been cancelled
+     * @return future completed with the result of this generation, or of the one superseding it. Cancelling it
+     * cancels the generation, unless other requests still wait for the generation
+     */
+    <T> CompletableFuture<T> submit(Object key, Function<BooleanSupplier, T> task) {
+        Generation<T> generation = new Generation<>();
+        CompletableFuture<T> response = new CompletableFuture<>();
+        generation.addResponses(List.of(response));
+        submitted.incrementAndGet();
+        Generation<?> previous = latestGenerations.put(key, generation);
+        if (previous != null) {
+            superseded.incrementAndGet();
+            supersede(previous, generation);
+        }
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+        generation.setScheduled(scheduler.schedule(() -> run(key, generation, task), debounceMillis));
+        response.whenComplete((result, error) -> {
+            if (response.isCancelled()) {
+                cancelResponse(key, response);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Returns a snapshot of the queue and generation time metrics.
+     */
+    OpenAPIGenerationMetrics getMetrics() {
+        long completedCount = completed.get();
+        return new OpenAPIGenerationMetrics(queueDepth.get(), maxQueueDepth.get(), running.get(),
+                submitted.get(), superseded.get(), completedCount, failed.get(),
+                TimeUnit.NANOSECONDS.toMillis(lastGenerationNanos.get()),
+                completedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalGenerationNanos.get() / completedCount),
+                TimeUnit.NANOSECONDS.toMillis(maxGenerationNanos.get()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void supersede(Generation<T> previous, Generation<?> latest) {
+        cancel(previous);
+        // Generations of the same key are submitted by the same endpoint, hence produce results of the same type
+        ((Generation<T>) latest).addResponses(previous.takeResponses());
+    }
+
+    /**
+     * Drops the given cancelled request from the latest generation of the key, which the requests of the key are
+     * moved to, and cancels the generation if no other request waits for it.
+     */
+    private void cancelResponse(Object key, CompletableFuture<?> response) {
+        Generation<?> generation = latestGenerations.get(key);
+        if (generation != null && generation.removeResponse(response)) {
+            latestGenerations.remove(key, generation);
+            cancel(generation);
+        }
+    }
+
+    private void cancel(Generation<?> generation) {
+        if (generation.cancel()) {
+            queueDepth.decrementAndGet();
+        }
+    }
+
+    private <T> void run(Object key, Generation<T> generation, Function<BooleanSupplier, T> task) {
+        queueDepth.decrementAndGet();
+        if (!generation.start()) {
+            return;
+        }
+        running.incrementAndGet();
+        long startTime = nanoClock.getAsLong();
+        try {
+            T result = task.apply(generation);
+            recordGenerationTime(nanoClock.getAsLong() - startTime);
+            if (!generation.getAsBoolean()) {
+                latestGenerations.remove(key, generation);
+                generation.complete(result);
+            }
+        } catch (CancellationException e) {
+            // The requests are answered by the generation superseding this one, or are cancelled themselves
+            if (!generation.getAsBoolean()) {
+                latestGenerations.remove(key, generation);
+                generation.completeExceptionally(e);
+            }
+        } catch (RuntimeException | Error e) {
+            failed.incrementAndGet();
+            latestGenerations.remove(key, generation);
+            generation.completeExceptionally(e);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    private void recordGenerationTime(long generationNanos) {
+        completed.incrementAndGet();
+        lastGenerationNanos.set(generationNanos);
+        totalGenerationNanos.addAndGet(generationNanos);
+        maxGenerationNanos.accumulateAndGet(generationNanos, Math::max);
+    }
+
+    /**
+     * Runs a task after the given delay. The returned future is used to remove the task before it starts.
+     */
+    @FunctionalInterface
+    interface Scheduler {
+        Future<?> schedule(Runnable task, long delayMillis);
+    }
+
+    /**
+     * A single submitted generation, which doubles as the cancellation check given to its task.
+     */
+    private static final class Generation<T> implements BooleanSupplier {
+        private final List<CompletableFuture<T>> responses = new ArrayList<>();
+        private Future<?> scheduled;
+        private boolean started;
+        private boolean done;
+        private volatile boolean cancelled;
+
+        @Override
+        public boolean getAsBoolean() {
+            return cancelled;
+        }
+
+        synchronized void setScheduled(Future<?> scheduled) {
+            this.scheduled = scheduled;
+        }
+
+        /**
+         * Marks the generation as started, unless it has already been cancelled.
+         */
+        synchronized boolean start() {
+            started = !cancelled;
+            return started;
+        }
+
+        /**
+         * Cancels the generation, and returns whether it was removed from the queue before it got to run.
+         */
+        synchronized boolean cancel() {
+            boolean wasCancelled = cancelled;
+            cancelled = true;
+            return !wasCancelled && !started && scheduled != null && scheduled.cancel(false);
+        }
+
+        synchronized void addResponses(List<CompletableFuture<T>> addedResponses) {
+            responses.addAll(addedResponses);
+        }
+
+        /**
+         * Takes the requests waiting for this generation, which are answered by another generation from now on.
+         */
+        synchronized List<CompletableFuture<T>> takeResponses() {
+            List<CompletableFuture<T>> takenResponses = new ArrayList<>(responses);
+            responses.clear();
+            return takenResponses;
+        }
+
+        /**
+         * Removes the given request, and returns whether it was the last request waiting for this generation.
+         */
+        synchronized boolean removeResponse(CompletableFuture<?> response) {
+            return !done && responses.remove(response) && responses.isEmpty();
+        }
+
+        void complete(T result) {
+            for (CompletableFuture<T> response : finish()) {
+                response.complete(result);
+            }
+        }
+
+        void completeExceptionally(Throwable error) {
+            for (CompletableFuture<T> response : finish()) {
+                response.completeExceptionally(error);
+            }
+        }
+
+        private synchronized List<CompletableFuture<T>> finish() {
+            done = true;
+            return takeResponses();
+        }
+    }
+}
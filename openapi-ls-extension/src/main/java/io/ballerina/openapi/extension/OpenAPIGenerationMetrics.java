@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+/**
+ * Snapshot of the queue and generation time metrics of the OpenAPI generations run by the LS extension.
+ *
+ * @since 2.3.2
+ */
+public class OpenAPIGenerationMetrics {
+    private final int queueDepth;
+    private final int maxQueueDepth;
+    private final int runningGenerations;
+    private final long submittedGenerations;
+    private final long supersededGenerations;
+    private final long completedGenerations;
+    private final long failedGenerations;
+    private final long lastGenerationMillis;
+    private final long averageGenerationMillis;
+    private final long maxGenerationMillis;
+
+    public OpenAPIGenerationMetrics(int queueDepth, int maxQueueDepth, int runningGenerations,
+                                    long submittedGenerations, long supersededGenerations, long completedGenerations,
+                                    long failedGenerations, long lastGenerationMillis, long averageGenerationMillis,
+                                    long maxGenerationMillis) {
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.runningGenerations = runningGenerations;
+        this.submittedGenerations = submittedGenerations;
+        this.supersededGenerations = supersededGenerations;
+        this.completedGenerations = completedGenerations;
+        this.failedGenerations = failedGenerations;
+        this.lastGenerationMillis = lastGenerationMillis;
+        this.averageGenerationMillis = averageGenerationMillis;
+        this.maxGenerationMillis = maxGenerationMillis;
+    }
+
+    /**
+     * Returns the number of generations waiting for their debounce delay or for a free generator thread.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public int getRunningGenerations() {
+        return runningGenerations;
+    }
+
+    public long getSubmittedGenerations() {
+        return submittedGenerations;
+    }
+
+    /**
+     * Returns the number of generations cancelled by a later request for the same project.
+     */
+    public long getSupersededGenerations() {
+        return supersededGenerations;
+    }
+
+    public long getCompletedGenerations() {
+        return completedGenerations;
+    }
+
+    public long getFailedGenerations() {
+        return failedGenerations;
+    }
+
+    public long getLastGenerationMillis() {
+        return lastGenerationMillis;
+    }
+
+    public long getAverageGenerationMillis() {
+        return averageGenerationMillis;
+    }
+
+    public long getMaxGenerationMillis() {
+        return maxGenerationMillis;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.openapi.service.mapper.utils.ContentDigest;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ResolvedPackageDependency;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.openapi.service.mapper.Constants.CONTRACT;
+import static io.ballerina.openapi.service.mapper.Constants.FILE_PATH;
+import static io.ballerina.openapi.service.mapper.Constants.VALUE;
+
+/**
+ * Caches the OpenAPI specifications generated by the LS extension, per project and per document.
+ * <p>
+ * The compiled form of a package is reused for as long as the workspace hands out the same package snapshot. The
+ * specifications of a document are reused for as long as the service declarations of the document and the module
+ * level declarations of the package, which the services may refer to, stay the same. Hence, editing a resource only
+ * regenerates the services of the edited document, while editing a type regenerates all of them. The files the
+ * services refer to through their annotations, which are the contracts of {@code @openapi:ServiceInfo} and the example
+ * files of {@code @openapi:ResourceInfo}, are part of the fingerprint of the services by their size and modified time.
+ * <p>
+ * The language server does not tell the extension when a project is closed, hence only the most recently used
+ * projects are kept, so that the compiled packages of the projects opened earlier in the session can be collected.
+ *
+ * @since 2.3.2
+ */
+final class OpenAPISpecCache {
+    private static final int DEFAULT_MAX_PROJECTS = 8;
+
+    private final Map<Path, ProjectSpecs> projects;
+
+    OpenAPISpecCache() {
+        this(DEFAULT_MAX_PROJECTS);
+    }
+
+    OpenAPISpecCache(int maxProjects) {
+        if (maxProjects < 1) {
+            throw new IllegalArgumentException("spec cache must keep at least one project");
+        }
+        this.projects = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, ProjectSpecs> eldest) {
+                return size() > maxProjects;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached state of the given project. Callers must synchronize on the returned state while using it.
+     * The state of the least recently used project is dropped when too many projects are cached.
+     */
+    synchronized ProjectSpecs getProjectSpecs(Project project) {
+        return projects.computeIfAbsent(project.sourceRoot().toAbsolutePath().normalize(), root -> new ProjectSpecs());
+    }
+
+    synchronized int size() {
+        return projects.size();
+    }
+
+    /**
+     * Returns whether the given package, or any of its dependencies, engages compiler plugins which may generate or
+     * modify the source before the specifications are generated.
+     */
+    static boolean hasCompilerPlugins(Package currentPackage) {
+        if (currentPackage.compilerPluginToml().isPresent()) {
+            return true;
+        }
+        for (ResolvedPackageDependency dependency : currentPackage.getResolution().allDependencies()) {
+            if (dependency.packageInstance().compilerPluginToml().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the fingerprint of the service declarations in the given document, along with the files they refer to.
+     *
+     * @param document     document of the services
+     * @param documentPath path of the document, against which the relative file paths are resolved
+     * @return fingerprint of the services, or null if the services refer to files whose paths cannot be resolved
+     * without compiling the document, in which case the specifications of the document must not be cached
+     */
+    static String serviceFingerprint(Document document, Path documentPath) {
+        ContentDigest digest = new ContentDigest();
+        ReferredFileVisitor referredFileVisitor = new ReferredFileVisitor();
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                digest.addValue(member.toSourceCode());
+                member.accept(referredFileVisitor);
+            }
+        }
+        if (referredFileVisitor.hasUnresolvedPaths) {
+            return null;
+        }
+        if (!referredFileVisitor.filePaths.isEmpty()) {
+            if (documentPath == null || documentPath.toAbsolutePath().getParent() == null) {
+                return null;
+            }
+            Path documentDirectory = documentPath.toAbsolutePath().getParent();
+            for (String filePath : referredFileVisitor.filePaths) {
+                digest.addValue(filePath).addValue(getFileState(documentDirectory, filePath));
+            }
+        }
+        return digest.toHex();
+    }
+
+    /**
+     * Returns the size and the modified time of the given file, which changes whenever the file is edited.
+     */
+    private static String getFileState(Path documentDirectory, String filePath) {
+        try {
+            Path path = documentDirectory.resolve(filePath);
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (InvalidPathException | IOException e) {
+            // A missing file is part of the fingerprint as well, as creating it changes the specification
+            return "missing";
+        }
+    }
+
+    /**
+     * Returns the fingerprint of everything the services of the given package may refer to, which are the imports,
+     * the module level declarations other than services and the resolved dependency versions.
+     */
+    static String packageFingerprint(Package currentPackage) {
+        ContentDigest digest = new ContentDigest();
+        for (Module module : currentPackage.modules()) {
+            digest.addValue(module.moduleName().toString());
+            for (DocumentId documentId : module.documentIds()) {
+                Document document = module.document(documentId);
+                digest.addValue(document.name());
+                ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+                for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+                    digest.addValue(importNode.toSourceCode());
+                }
+                for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                    if (member.kind() != SyntaxKind.SERVICE_DECLARATION) {
+                        digest.addValue(member.toSourceCode());
+                    }
+                }
+            }
+        }
+        for (ResolvedPackageDependency dependency : currentPackage.getResolution().allDependencies()) {
+            PackageDescriptor descriptor = dependency.packageInstance().descriptor();
+            digest.addValue(descriptor.org().value() + "/" + descriptor.name().value() + ":"
+                    + descriptor.version().toString());
+        }
+        return digest.toHex();
+    }
+
+    /**
+     * Collects the string values of the fields of the service annotations which refer to files. A field referring to
+     * a file by anything other than a string literal cannot be resolved from the syntax tree.
+     */
+    private static final class ReferredFileVisitor extends NodeVisitor {
+        private final List<String> filePaths = new ArrayList<>();
+        private boolean hasUnresolvedPaths;
+
+        @Override
+        public void visit(SpecificFieldNode specificFieldNode) {
+            String fieldName = specificFieldNode.fieldName().toSourceCode().replaceAll("\"", "").trim();
+            Optional<ExpressionNode> valueExpr = specificFieldNode.valueExpr();
+            if (valueExpr.isPresent() && (CONTRACT.equals(fieldName) || FILE_PATH.equals(fieldName))) {
+                if (valueExpr.get().kind() == SyntaxKind.STRING_LITERAL) {
+                    filePaths.add(getStringValue((BasicLiteralNode) valueExpr.get()));
+                } else {
+                    hasUnresolvedPaths = true;
+                }
+            } else if (valueExpr.isPresent() && VALUE.equals(fieldName)
+                    && valueExpr.get().kind() == SyntaxKind.STRING_LITERAL) {
+                // The value of an example may also be the path of the example file
+                filePaths.add(getStringValue((BasicLiteralNode) valueExpr.get()));
+            }
+            visitSyntaxNode(specificFieldNode);
+        }
+
+        private static String getStringValue(BasicLiteralNode literalNode) {
+            return literalNode.literalToken().text().replaceAll("\"", "").trim();
+        }
+    }
+
+    /**
+     * Compiled form of a package snapshot, which is shared by the documents of the package.
+     *
+     * @param project             project used to generate the specifications, which is a duplicate of the workspace
+     *                            project when compiler plugins had to be run
+     * @param semanticModel       semantic model of the default module
+     * @param moduleMemberVisitor module members of the project
+     * @param fingerprint         package fingerprint of the compiled package
+     */
+    record CompiledPackage(Project project, SemanticModel semanticModel, ModuleMemberVisitor moduleMemberVisitor,
+                           String fingerprint) {
+    }
+
+    private record DocumentSpecs(String packageFingerprint, String serviceFingerprint, boolean enableBalExtension,
+                                 List<OASResult> oasResults) {
+    }
+
+    /**
+     * Cached state of a single project.
+     */
+    static final class ProjectSpecs {
+        private Package sourcePackage;
+        private CompiledPackage compiledPackage;
+        private final Map<String, DocumentSpecs> documents = new HashMap<>();
+
+        /**
+         * Returns the compiled form of the given package snapshot, if it is the snapshot compiled last.
+         */
+        CompiledPackage getCompiledPackage(Package currentPackage) {
+            return sourcePackage == currentPackage ? compiledPackage : null;
+        }
+
+        void setCompiledPackage(Package currentPackage, CompiledPackage compiledPackage) {
+            this.sourcePackage = currentPackage;
+            this.compiledPackage = compiledPackage;
+        }
+
+        /**
+         * Returns the cached specifications of the given document, if neither the document nor the package changed
+         * since they were generated.
+         */
+        List<OASResult> getSpecs(String documentName, String packageFingerprint, String serviceFingerprint,
+                                 boolean enableBalExtension) {
+            DocumentSpecs specs = documents.get(documentName);
+            if (specs == null || specs.enableBalExtension() != enableBalExtension
+                    || !specs.packageFingerprint().equals(packageFingerprint)
+                    || !specs.serviceFingerprint().equals(serviceFingerprint)) {
+                return null;
+            }
+            return specs.oasResults();
+        }
+
+        void putSpecs(String documentName, String packageFingerprint, String serviceFingerprint,
+                      boolean enableBalExtension, List<OASResult> oasResults) {
+            documents.put(documentName, new DocumentSpecs(packageFingerprint, serviceFingerprint, enableBalExtension,
+                    List.copyOf(oasResults)));
+        }
+
+        /**
+         * Drops the specifications of the documents which are no longer part of the package.
+         */
+        void retainDocuments(Set<String> documentNames) {
+            documents.keySet().retainAll(documentNames);
+        }
+
+        void clear() {
+            sourcePackage = null;
+            compiledPackage = null;
+            documents.clear();
+        }
+    }
+}
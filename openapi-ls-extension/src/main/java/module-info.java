@@ -36,4 +36,5 @@ module io.ballerina.openapi.extension.openAPILSExtension {
     requires org.eclipse.lsp4j.jsonrpc;
     requires org.eclipse.lsp4j;
     requires com.google.gson;
+    requires com.fasterxml.jackson.databind;
 }
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.extension;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This test class covers the debouncing, coalescing and cancellation of the LS generations. The generations are run
+ * on a manual scheduler and timed with a manual clock, so that the tests do not depend on the timing of the threads.
+ */
+public class OpenAPIGenerationExecutorTests {
+    private static final long DEBOUNCE_MILLIS = 150;
+    private static final long GENERATION_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private ManualScheduler scheduler;
+    private AtomicLong clock;
+    private OpenAPIGenerationExecutor executor;
+
+    @BeforeMethod
+    public void setup() {
+        scheduler = new ManualScheduler();
+        clock = new AtomicLong();
+        executor = new OpenAPIGenerationExecutor(scheduler, DEBOUNCE_MILLIS, clock::get);
+    }
+
+    @Test(description = "Generations of the same key waiting for their delay are coalesced into the latest one")
+    public void testCoalescing() throws ExecutionException, InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<String> first = executor.submit("project", isCancelled -> generate(runs, "first"));
+        CompletableFuture<String> second = executor.submit("project", isCancelled -> generate(runs, "second"));
+        Assert.assertEquals(scheduler.delays, List.of(DEBOUNCE_MILLIS, DEBOUNCE_MILLIS));
+        Assert.assertEquals(executor.getMetrics().getQueueDepth(), 1);
+
+        scheduler.runPending();
+        Assert.assertEquals(runs.get(), 1);
+        Assert.assertEquals(second.get(), "second");
+        Assert.assertEquals(first.get(), "second");
+
+        OpenAPIGenerationMetrics metrics = executor.getMetrics();
+        Assert.assertEquals(metrics.getSubmittedGenerations(), 2);
+        Assert.assertEquals(metrics.getSupersededGenerations(), 1);
+        Assert.assertEquals(metrics.getCompletedGenerations(), 1);
+        Assert.assertEquals(metrics.getQueueDepth(), 0);
+        Assert.assertEquals(metrics.getMaxQueueDepth(), 1);
+        Assert.assertEquals(metrics.getLastGenerationMillis(), 20);
+    }
+
+    @Test(description = "Generations of different keys are not coalesced")
+    public void testDifferentKeys() throws ExecutionException, InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<String> first = executor.submit("project-1", isCancelled -> generate(runs, "first"));
+        CompletableFuture<String> second = executor.submit("project-2", isCancelled -> generate(runs, "second"));
+        scheduler.runPending();
+        Assert.assertEquals(runs.get(), 2);
+        Assert.assertEquals(first.get(), "first");
+        Assert.assertEquals(second.get(), "second");
+        Assert.assertEquals(executor.getMetrics().getSupersededGenerations(), 0);
+    }
+
+    @Test(description = "Running generation is cancelled and answered by the generation superseding it")
+    public void testSupersessionWhileRunning() throws ExecutionException, InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        AtomicReference<CompletableFuture<String>> second = new AtomicReference<>();
+        CompletableFuture<String> first = executor.submit("project", isCancelled -> {
+            second.set(executor.submit("project", check -> generate(runs, "second")));
+            Assert.assertTrue(isCancelled.getAsBoolean());
+            throw new CancellationException("OpenAPI generation is cancelled");
+        });
+
+        scheduler.runPending();
+        Assert.assertFalse(first.isDone());
+        Assert.assertEquals(executor.getMetrics().getRunningGenerations(), 0);
+        scheduler.runPending();
+        Assert.assertEquals(runs.get(), 1);
+        Assert.assertEquals(second.get().get(), "second");
+        Assert.assertEquals(first.get(), "second");
+    }
+
+    @Test(description = "Generation cancelled by the client before its delay is over does not run")
+    public void testCancellationBeforeStart() {
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<String> response = executor.submit("project", isCancelled -> generate(runs, "first"));
+        Assert.assertTrue(response.cancel(true));
+        Assert.assertEquals(executor.getMetrics().getQueueDepth(), 0);
+
+        scheduler.runPending();
+        Assert.assertEquals(runs.get(), 0);
+        Assert.assertEquals(executor.getMetrics().getCompletedGenerations(), 0);
+    }
+
+    @Test(description = "Running generation observes the cancellation by the client")
+    public void testCancellationWhileRunning() {
+        AtomicReference<CompletableFuture<String>> response = new AtomicReference<>();
+        AtomicInteger checks = new AtomicInteger();
+        response.set(executor.submit("project", isCancelled -> {
+            Assert.assertFalse(isCancelled.getAsBoolean());
+            response.get().cancel(true);
+            checks.incrementAndGet();
+            if (isCancelled.getAsBoolean()) {
+                throw new CancellationException("OpenAPI generation is cancelled");
+            }
+            return "first";
+        }));
+
+        scheduler.runPending();
+        Assert.assertEquals(checks.get(), 1);
+        Assert.assertTrue(response.get().isCancelled());
+        OpenAPIGenerationMetrics metrics = executor.getMetrics();
+        Assert.assertEquals(metrics.getCompletedGenerations(), 0);
+        Assert.assertEquals(metrics.getFailedGenerations(), 0);
+        Assert.assertEquals(metrics.getRunningGenerations(), 0);
+    }
+
+    @Test(description = "Coalesced generation keeps running while another request still waits for it")
+    public void testCancellationOfCoalescedRequest() throws ExecutionException, InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<String> first = executor.submit("project", isCancelled -> generate(runs, "first"));
+        CompletableFuture<String> second = executor.submit("project", isCancelled -> generate(runs, "second"));
+        Assert.assertTrue(first.cancel(true));
+
+        scheduler.runPending();
+        Assert.assertEquals(runs.get(), 1);
+        Assert.assertEquals(second.get(), "second");
+
+        // Once the last waiting request is cancelled, the coalesced generation is cancelled as well
+        CompletableFuture<String> third = executor.submit("project", isCancelled -> generate(runs, "third"));
+        CompletableFuture<String> fourth = executor.submit("project", isCancelled -> generate(runs, "fourth"));
+        Assert.assertTrue(fourth.cancel(true));
+        Assert.assertTrue(third.cancel(true));
+        scheduler.runPending();
+        Assert.assertEquals(runs.get(), 1);
+        Assert.assertEquals(executor.getMetrics().getQueueDepth(), 0);
+    }
+
+    @Test(description = "Failure of a generation is reported to the requests waiting for it")
+    public void testFailure() {
+        CompletableFuture<String> first = executor.submit("project", isCancelled -> "first");
+        CompletableFuture<String> second = executor.submit("project", isCancelled -> {
+            throw new IllegalStateException("generation failed");
+        });
+        scheduler.runPending();
+        for (CompletableFuture<String> response : List.of(first, second)) {
+            ExecutionException exception = Assert.expectThrows(ExecutionException.class, response::get);
+            Assert.assertTrue(exception.getCause() instanceof IllegalStateException);
+        }
+        Assert.assertEquals(executor.getMetrics().getFailedGenerations(), 1);
+    }
+
+    private String generate(AtomicInteger runs, String result) {
+        runs.incrementAndGet();
+        clock.addAndGet(GENERATION_NANOS);
+        return result;
+    }
+
+    /**
+     * Scheduler which runs the scheduled tasks only when asked to, regardless of their delays.
+     */
+    private static final class ManualScheduler implements OpenAPIGenerationExecutor.Scheduler {
+        private final List<FutureTask<?>> tasks = new ArrayList<>();
+        private final List<Long> delays = new ArrayList<>();
+
+        @Override
+        public Future<?> schedule(Runnable task, long delayMillis) {
+            FutureTask<?> futureTask = new FutureTask<>(task, null);
+            tasks.add(futureTask);
+            delays.add(delayMillis);
+            return futureTask;
+        }
+
+        /**
+         * Runs the tasks scheduled so far, other than the cancelled ones. Tasks scheduled by these tasks are left for
+         * the next run.
+         */
+        void runPending() {
+            List<FutureTask<?>> pendingTasks = new ArrayList<>(tasks);
+            tasks.clear();
+            for (FutureTask<?> task : pendingTasks) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.extension;
+
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * This test class covers the reuse and the invalidation of the specifications cached by the LS extension.
+ */
+public class OpenAPISpecCacheTests {
+    private static final String PACKAGE_FINGERPRINT = "package";
+    private static final String SERVICE = """
+            import ballerina/http;
+
+            service /greeting on new http:Listener(9090) {
+                resource function get greeting() returns string {
+                    return "Hello, World!";
+                }
+            }
+            """;
+    private static final String SERVICE_WITH_CONTRACT = """
+            import ballerina/http;
+            import ballerina/openapi;
+
+            @openapi:ServiceInfo {
+                contract: "contract.yaml"
+            }
+            service /greeting on new http:Listener(9090) {
+                resource function get greeting() returns string {
+                    return "Hello, World!";
+                }
+            }
+            """;
+    private static final String SERVICE_WITH_EXAMPLE = """
+            import ballerina/http;
+            import ballerina/openapi;
+
+            service /greeting on new http:Listener(9090) {
+                @openapi:ResourceInfo {
+                    examples: {
+                        "response": {
+                            "200": {
+                                "application/json": {
+                                    "greeting": {
+                                        filePath: "example.json"
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+                resource function get greeting() returns json {
+                    return {message: "Hello, World!"};
+                }
+            }
+            """;
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("openapi-ls-extension-test-" + System.nanoTime());
+    }
+
+    @Test(description = "Specifications are reused while the document and the package are unchanged")
+    public void testCacheHit() throws IOException {
+        Path balFile = Files.writeString(tempDir.resolve("service.bal"), SERVICE);
+        String serviceFingerprint = OpenAPISpecCache.serviceFingerprint(loadDocument(balFile), balFile);
+        Assert.assertNotNull(serviceFingerprint);
+
+        OpenAPISpecCache.ProjectSpecs projectSpecs = new OpenAPISpecCache.ProjectSpecs();
+        List<OASResult> oasResults = List.of(new OASResult(null, new ArrayList<>()));
+        projectSpecs.putSpecs("service.bal", PACKAGE_FINGERPRINT, serviceFingerprint, false, oasResults);
+        Assert.assertEquals(OpenAPISpecCache.serviceFingerprint(loadDocument(balFile), balFile), serviceFingerprint);
+        Assert.assertEquals(projectSpecs.getSpecs("service.bal", PACKAGE_FINGERPRINT, serviceFingerprint, false),
+                oasResults);
+    }
+
+    @Test(description = "Specifications are not reused once the services, the package or the options change")
+    public void testCacheMiss() throws IOException {
+        Path balFile = Files.writeString(tempDir.resolve("service.bal"), SERVICE);
+        Document document = loadDocument(balFile);
+        String serviceFingerprint = OpenAPISpecCache.serviceFingerprint(document, balFile);
+        OpenAPISpecCache.ProjectSpecs projectSpecs = new OpenAPISpecCache.ProjectSpecs();
+        projectSpecs.putSpecs("service.bal", PACKAGE_FINGERPRINT, serviceFingerprint, false,
+                List.of(new OASResult(null, new ArrayList<>())));
+
+        Document modifiedDocument = document.modify()
+                .withContent(SERVICE.replace("/greeting on", "/hello on")).apply();
+        String modifiedFingerprint = OpenAPISpecCache.serviceFingerprint(modifiedDocument, balFile);
+        Assert.assertNotEquals(modifiedFingerprint, serviceFingerprint);
+        Assert.assertNull(projectSpecs.getSpecs("service.bal", PACKAGE_FINGERPRINT, modifiedFingerprint, false));
+        Assert.assertNull(projectSpecs.getSpecs("service.bal", "modified", serviceFingerprint, false));
+        Assert.assertNull(projectSpecs.getSpecs("service.bal", PACKAGE_FINGERPRINT, serviceFingerprint, true));
+        Assert.assertNull(projectSpecs.getSpecs("other.bal", PACKAGE_FINGERPRINT, serviceFingerprint, false));
+    }
+
+    @Test(description = "Specifications are invalidated when the contract of the service info changes")
+    public void testContractFileInvalidation() throws IOException {
+        Path balFile = Files.writeString(tempDir.resolve("service.bal"), SERVICE_WITH_CONTRACT);
+        Path contractFile = Files.writeString(tempDir.resolve("contract.yaml"), "openapi: 3.0.1\n");
+        Document document = loadDocument(balFile);
+        String serviceFingerprint = OpenAPISpecCache.serviceFingerprint(document, balFile);
+        Assert.assertNotNull(serviceFingerprint);
+        Assert.assertEquals(OpenAPISpecCache.serviceFingerprint(document, balFile), serviceFingerprint);
+
+        modifyFile(contractFile, "openapi: 3.0.1\ninfo:\n  title: Greeting\n");
+        Assert.assertNotEquals(OpenAPISpecCache.serviceFingerprint(document, balFile), serviceFingerprint);
+    }
+
+    @Test(description = "Specifications are invalidated when an example file of the resource info changes")
+    public void testExampleFileInvalidation() throws IOException {
+        Path balFile = Files.writeString(tempDir.resolve("service.bal"), SERVICE_WITH_EXAMPLE);
+        Document document = loadDocument(balFile);
+        String missingFileFingerprint = OpenAPISpecCache.serviceFingerprint(document, balFile);
+        Assert.assertNotNull(missingFileFingerprint);
+
+        Path exampleFile = Files.writeString(tempDir.resolve("example.json"), "{\"message\": \"Hello\"}");
+        String serviceFingerprint = OpenAPISpecCache.serviceFingerprint(document, balFile);
+        Assert.assertNotEquals(serviceFingerprint, missingFileFingerprint);
+
+        modifyFile(exampleFile, "{\"message\": \"Hello, World!\"}");
+        Assert.assertNotEquals(OpenAPISpecCache.serviceFingerprint(document, balFile), serviceFingerprint);
+    }
+
+    @Test(description = "Specifications are not cached when a referred file cannot be resolved from the syntax")
+    public void testUnresolvedContractFile() throws IOException {
+        Path balFile = Files.writeString(tempDir.resolve("service.bal"), SERVICE_WITH_CONTRACT
+                .replace("\"contract.yaml\"", "CONTRACT_PATH"));
+        Assert.assertNull(OpenAPISpecCache.serviceFingerprint(loadDocument(balFile), balFile));
+    }
+
+    @Test(description = "The specifications of the least recently used project are dropped")
+    public void testProjectEviction() throws IOException {
+        Project first = loadProject("first");
+        Project second = loadProject("second");
+        Project third = loadProject("third");
+        OpenAPISpecCache specCache = new OpenAPISpecCache(2);
+        OpenAPISpecCache.ProjectSpecs firstSpecs = specCache.getProjectSpecs(first);
+        OpenAPISpecCache.ProjectSpecs secondSpecs = specCache.getProjectSpecs(second);
+        Assert.assertSame(specCache.getProjectSpecs(first), firstSpecs);
+
+        specCache.getProjectSpecs(third);
+        Assert.assertEquals(specCache.size(), 2);
+        Assert.assertSame(specCache.getProjectSpecs(first), firstSpecs);
+        Assert.assertNotSame(specCache.getProjectSpecs(second), secondSpecs);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private static Document loadDocument(Path balFile) {
+        Project project = ProjectLoader.loadProject(balFile);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        return module.document(documentId);
+    }
+
+    private Project loadProject(String name) throws IOException {
+        Path projectDir = Files.createDirectories(tempDir.resolve(name));
+        return ProjectLoader.loadProject(Files.writeString(projectDir.resolve("service.bal"), SERVICE));
+    }
+
+    /**
+     * Rewrites the given file and moves its modified time forward, so that the change is seen regardless of the
+     * resolution of the file times.
+     */
+    private static void modifyFile(Path file, String content) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedTime.toMillis() + 10_000));
+    }
+}
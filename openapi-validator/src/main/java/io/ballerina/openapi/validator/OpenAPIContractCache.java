@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process wide cache of the parsed OpenAPI contracts used by the validator. The services of a package, as well as
+ * the repeated compilations triggered by the language server, usually refer to the same contract, so a contract is
+ * parsed only when its content changes.
+ * <p>
+ * The entries are keyed by the canonical path of the contract and are validated against the last modified time and
+ * the size of the file. When either of them changes, the content of the file is compared with the cached content to
+ * decide whether the contract has to be parsed again. The least recently used entries are evicted once the number of
+ * entries or the total size of the cached contracts exceeds the given limits. The returned {@link OpenAPI} models are
+ * shared between the callers and must be treated as read-only.
+ *
+ * @since 2.3.2
+ */
+public final class OpenAPIContractCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 32;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final OpenAPIContractCache INSTANCE = new OpenAPIContractCache(DEFAULT_MAX_ENTRIES,
+            DEFAULT_MAX_BYTES);
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Path, CachedContract> contracts = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    public OpenAPIContractCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("contract cache limits must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public static OpenAPIContractCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the parsed OpenAPI model of the given contract.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @return the shared OpenAPI model, or {@code null} if the contract could not be parsed
+     * @throws IOException in case of an error while reading the contract
+     */
+    public OpenAPI getOpenAPI(Path contractPath) throws IOException {
+        Path canonicalPath = contractPath.toRealPath();
+        BasicFileAttributes attributes = Files.readAttributes(canonicalPath, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+        CachedContract cached;
+        synchronized (this) {
+            cached = contracts.get(canonicalPath);
+        }
+        if (cached != null && cached.lastModified() == lastModified && cached.size() == size) {
+            return cached.openAPI();
+        }
+
+        byte[] content = Files.readAllBytes(canonicalPath);
+        if (cached != null && Arrays.equals(cached.content(), content)) {
+            // The file was touched without changing its content
+            put(canonicalPath, new CachedContract(lastModified, size, cached.content(), cached.openAPI()));
+            return cached.openAPI();
+        }
+
+        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(
+                new String(content, StandardCharsets.UTF_8), null, new ParseOptions());
+        OpenAPI openAPI = parseResult.getOpenAPI();
+        if (openAPI == null) {
+            invalidate(canonicalPath);
+        } else {
+            put(canonicalPath, new CachedContract(lastModified, size, content, openAPI));
+        }
+        return openAPI;
+    }
+
+    public synchronized void invalidate(Path canonicalPath) {
+        CachedContract removed = contracts.remove(canonicalPath);
+        if (removed != null) {
+            cachedBytes -= removed.size();
+        }
+    }
+
+    public synchronized void clear() {
+        contracts.clear();
+        cachedBytes = 0;
+    }
+
+    public synchronized int size() {
+        return contracts.size();
+    }
+
+    private synchronized void put(Path canonicalPath, CachedContract contract) {
+        CachedContract previous = contracts.put(canonicalPath, contract);
+        if (previous != null) {
+            cachedBytes -= previous.size();
+        }
+        cachedBytes += contract.size();
+        // The most recently used contract is kept even if it alone exceeds the size limit
+        Iterator<Map.Entry<Path, CachedContract>> iterator = contracts.entrySet().iterator();
+        while (contracts.size() > 1 && (contracts.size() > maxEntries || cachedBytes > maxBytes)) {
+            cachedBytes -= iterator.next().getValue().size();
+            iterator.remove();
+        }
+    }
+
+    private record CachedContract(long lastModified, long size, byte[] content, OpenAPI openAPI) {
+    }
+}
@@ -32,21 +32,20 @@ import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
  * @since 1.1.0
  */
 public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
-    private final ServiceValidator serviceValidator;
-    private final PreValidator preValidator;
 
-    public ServiceAnalysisTask() {
-        this.preValidator = new PreValidator();
-        this.serviceValidator = new ServiceValidator();
-    }
+    /**
+     * The compiler and the language server may analyze the services of different documents in parallel, hence the
+     * validators hold the state of a single invocation and are not shared between invocations.
+     */
     @Override
     public void perform(SyntaxNodeAnalysisContext syntaxContext) {
-        this.preValidator.initialize(syntaxContext);
-        this.preValidator.validate();
-        if (this.preValidator.getOpenAPI() == null) {
+        PreValidator preValidator = new PreValidator();
+        preValidator.initialize(syntaxContext);
+        preValidator.validate();
+        if (preValidator.getOpenAPI() == null) {
             return;
         }
-        Filter filter = this.preValidator.getFilter();
+        Filter filter = preValidator.getFilter();
         boolean tagEnabled = filter.getTag() != null;
         boolean operationEnabled = filter.getOperation() != null;
         boolean excludeTagsEnabled = filter.getExcludeTag() != null;
@@ -73,7 +72,8 @@ public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisConte
             return;
         }
 
-        this.serviceValidator.initialize(syntaxContext, this.preValidator.getOpenAPI(), filter);
-        this.serviceValidator.validate();
+        ServiceValidator serviceValidator = new ServiceValidator();
+        serviceValidator.initialize(syntaxContext, preValidator.getOpenAPI(), filter);
+        serviceValidator.validate();
     }
 }
@@ -26,6 +26,7 @@ import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.validator.error.CompilationError;
 import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.openapi.validator.model.OpenAPIPathIndex;
 import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
 import io.ballerina.openapi.validator.model.ResourceMethod;
 import io.ballerina.openapi.validator.model.ResourcePathSummary;
@@ -39,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.openapi.validator.ValidatorUtils.getNormalizedPath;
@@ -75,8 +77,8 @@ public class ServiceValidator implements Validator {
     public void validate() {
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
 
-        // 1. Summaries the OAS operations and return the filtered operations
-        List<OpenAPIPathSummary> openAPIPathSummaries = summarizeOpenAPI(openAPI, context, filter);
+        // 1. Summaries the OAS operations and return the filtered operations indexed by the path
+        OpenAPIPathIndex openAPIPathIndex = summarizeOpenAPI(openAPI, context, filter);
         // 2. Summaries the ballerina resource
         NodeList<Node> members = serviceNode.members();
         List<FunctionDefinitionNode> resourceFunctions = new ArrayList<>();
@@ -89,14 +91,13 @@ public class ServiceValidator implements Validator {
         Map<String, ResourcePathSummary> resourcePathMap = summarizeResources(resourceFunctions, context);
 
         // 4. Unimplemented resource in service file (extra resource in openapi spec)
-        List<OpenAPIPathSummary> updatedOASPaths = validateMissingBalResources(openAPIPathSummaries,
-                resourcePathMap);
+        validateMissingBalResources(openAPIPathIndex, resourcePathMap);
         // 5. Undocumented resource in service file (extra resource in ballerina service)
-        Map<String, ResourcePathSummary> updatedResourcePath = validateUndefinedBalResources(openAPIPathSummaries,
+        Map<String, ResourcePathSummary> updatedResourcePath = validateUndefinedBalResources(openAPIPathIndex,
                 resourcePathMap);
 
         // 6. Resource validation
-        validateBalServiceWithOAS(updatedResourcePath, updatedOASPaths);
+        validateBalServiceWithOAS(updatedResourcePath, openAPIPathIndex);
 
     }
 
@@ -104,46 +105,37 @@ public class ServiceValidator implements Validator {
      * Validate all the resource with operations to check whether there is any missing implementation for operations.
      * OAS-> ballerina validate add
      */
-    private List<OpenAPIPathSummary> validateMissingBalResources(List<OpenAPIPathSummary> operations, Map<String,
-            ResourcePathSummary> resources) {
+    private void validateMissingBalResources(OpenAPIPathIndex operations, Map<String, ResourcePathSummary> resources) {
         boolean filterEnable = filter.getOperation() != null || filter.getTag() != null ||
                 filter.getExcludeTag() != null || filter.getExcludeOperation() != null;
-        Iterator<OpenAPIPathSummary> openAPIPathIterator = operations.iterator();
-        while (openAPIPathIterator.hasNext()) {
-            OpenAPIPathSummary operationPath = openAPIPathIterator.next();
+        if (filterEnable) {
+            return;
+        }
+        for (OpenAPIPathSummary operationPath : operations.getPaths()) {
+            String normalizedPath = getNormalizedPath(operationPath.getPath());
+            ResourcePathSummary resourcePath = resources.get(normalizedPath);
             // Extra path openapi
-            if (!resources.containsKey(operationPath.getPath())) {
-                if (!filterEnable) {
-                    reportDiagnostic(context, CompilationError.MISSING_RESOURCE_PATH, context.node().location(),
-                            filter.getKind(),
-                            getNormalizedPath(operationPath.getPath()));
-                }
-                openAPIPathIterator.remove();
-            } else {
-                // Extra operation in openAPI
-                ResourcePathSummary resourcePath = resources.get(operationPath.getPath());
-                Map<String, ResourceMethod> resourceMethods = resourcePath.getMethods();
-                Map<String, Operation> methods = operationPath.getOperations();
-                for (Map.Entry<String, Operation> operation : methods.entrySet()) {
-                    if (!resourceMethods.containsKey(operation.getKey().trim())) {
-                        if (!filterEnable) {
-                            reportDiagnostic(context, CompilationError.MISSING_RESOURCE_FUNCTION,
-                                    context.node().location(), filter.getKind(), operation.getKey().trim(),
-                                    getNormalizedPath(operationPath.getPath()));
-                        }
-                        methods.remove(operation.getKey());
-                    }
+            if (resourcePath == null) {
+                reportDiagnostic(context, CompilationError.MISSING_RESOURCE_PATH, context.node().location(),
+                        filter.getKind(), normalizedPath);
+                continue;
+            }
+            // Extra operation in openAPI
+            Map<String, ResourceMethod> resourceMethods = resourcePath.getMethods();
+            for (String method : operationPath.getOperations().keySet()) {
+                if (!resourceMethods.containsKey(method.trim())) {
+                    reportDiagnostic(context, CompilationError.MISSING_RESOURCE_FUNCTION,
+                            context.node().location(), filter.getKind(), method.trim(), normalizedPath);
                 }
             }
         }
-        return operations;
     }
 
     /**
      * Checking whether there is undocumented resource function with align to openapi spec.
      * Ballerina -> OAS
      */
-    private Map<String, ResourcePathSummary> validateUndefinedBalResources(List<OpenAPIPathSummary> operations,
+    private Map<String, ResourcePathSummary> validateUndefinedBalResources(OpenAPIPathIndex operations,
                                                                            Map<String, ResourcePathSummary>
                                                                                    resourcePathMap) {
         boolean filterEnable = filter.getOperation() != null || filter.getTag() != null ||
@@ -152,33 +144,28 @@ public class ServiceValidator implements Validator {
         Iterator<Map.Entry<String, ResourcePathSummary>> resourcePathIter = resourcePathMap.entrySet().iterator();
         while (resourcePathIter.hasNext()) {
             Map.Entry<String, ResourcePathSummary> resourcePath = resourcePathIter.next();
-            boolean isPathDocumented = false;
-            for (OpenAPIPathSummary operationPath: operations) {
-                if (operationPath.getPath().equals(resourcePath.getKey())) {
-                    isPathDocumented = true;
-                    Set<Map.Entry<String, ResourceMethod>> methods = resourcePath.getValue().getMethods().entrySet();
-                    Iterator<Map.Entry<String, ResourceMethod>> methodsIter = methods.iterator();
-                    while (methodsIter.hasNext()) {
-                        Map.Entry<String, ResourceMethod> method = methodsIter.next();
-                        if (!operationPath.getOperations().containsKey(method.getKey().trim())) {
-                            if (!filterEnable) {
-                                reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
-                                        method.getValue().getLocation(), filter.getKind(), method.getKey(),
-                                        getNormalizedPath(resourcePath.getKey()));
-                            }
-                            methodsIter.remove();
-                        }
-                    }
-                    break;
-                }
-            }
-            if (!isPathDocumented) {
+            String normalizedPath = getNormalizedPath(resourcePath.getKey());
+            Optional<OpenAPIPathSummary> operationPath = operations.getPath(normalizedPath);
+            if (operationPath.isEmpty()) {
                 if (!filterEnable) {
                     reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_PATH, context.node().location(),
-                            filter.getKind(),
-                            getNormalizedPath(resourcePath.getKey()));
+                            filter.getKind(), normalizedPath);
                 }
                 resourcePathIter.remove();
+                continue;
+            }
+            Map<String, Operation> documentedOperations = operationPath.get().getOperations();
+            Iterator<Map.Entry<String, ResourceMethod>> methodsIter =
+                    resourcePath.getValue().getMethods().entrySet().iterator();
+            while (methodsIter.hasNext()) {
+                Map.Entry<String, ResourceMethod> method = methodsIter.next();
+                if (!documentedOperations.containsKey(method.getKey().trim())) {
+                    if (!filterEnable) {
+                        reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
+                                method.getValue().getLocation(), filter.getKind(), method.getKey(), normalizedPath);
+                    }
+                    methodsIter.remove();
+                }
             }
         }
         return resourcePathMap;
@@ -188,25 +175,20 @@ public class ServiceValidator implements Validator {
      * This validation happens ballerina service against to openapi specification.
      */
     private void validateBalServiceWithOAS(Map<String, ResourcePathSummary> resourcePaths,
-                                           List<OpenAPIPathSummary> oasPaths) {
+                                           OpenAPIPathIndex oasPaths) {
 
         Set<Map.Entry<String, ResourcePathSummary>> paths = resourcePaths.entrySet();
         for (Map.Entry<String, ResourcePathSummary> path : paths) {
             Map<String, ResourceMethod> methods = path.getValue().getMethods();
-            OpenAPIPathSummary oasPath = null;
-            for (OpenAPIPathSummary openAPIPath : oasPaths) {
-                if (path.getKey().equals(openAPIPath.getPath())) {
-                    oasPath = openAPIPath;
-                    break;
-                }
-            }
-
+            String normalizedPath = getNormalizedPath(path.getKey());
             for (Map.Entry<String, ResourceMethod> method : methods.entrySet()) {
-                assert oasPath != null;
+                Optional<Operation> operation = oasPaths.getOperation(normalizedPath, method.getKey());
+                if (operation.isEmpty()) {
+                    continue;
+                }
                 ValidatorContext validatorContext = new ValidatorContext(context, openAPI, path.getKey(),
                         method.getKey(), filter.getKind(), method.getValue().getLocation());
-                Map<String, Operation> operations = oasPath.getOperations();
-                Operation oasOperation = operations.get(method.getKey());
+                Operation oasOperation = operation.get();
                 // Parameters validation
                 List<Parameter> oasParameters = oasOperation.getParameters();
                 ParameterValidator parameterValidator = new ParameterValidator(validatorContext,
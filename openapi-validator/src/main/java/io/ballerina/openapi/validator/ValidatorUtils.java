@@ -48,6 +48,7 @@ import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.openapi.validator.error.CompilationError;
 import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.openapi.validator.model.OpenAPIPathIndex;
 import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
 import io.ballerina.openapi.validator.model.ResourceMethod;
 import io.ballerina.openapi.validator.model.ResourcePathSummary;
@@ -60,9 +61,6 @@ import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -72,6 +70,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -109,7 +108,8 @@ public class ValidatorUtils {
     }
 
     /**
-     * Parse and get the {@link OpenAPI} for the given OpenAPI contract.
+     * Parse and get the {@link OpenAPI} for the given OpenAPI contract. The parsed contracts are shared through the
+     * {@link OpenAPIContractCache}, hence the returned model must not be modified.
      *
      * @param definitionURI     URI for the OpenAPI contract
      * @return {@link OpenAPI}  OpenAPI model
@@ -118,7 +118,6 @@ public class ValidatorUtils {
     public static OpenAPI parseOpenAPIFile(SyntaxNodeAnalysisContext context, String definitionURI, Location location)
             throws  IOException {
         Path contractPath = Paths.get(definitionURI);
-        ParseOptions parseOptions = new ParseOptions();
 
         if (!Files.exists(contractPath)) {
             reportDiagnostic(context, CompilationError.INVALID_CONTRACT_PATH, location, DiagnosticSeverity.ERROR,
@@ -131,10 +130,7 @@ public class ValidatorUtils {
             return null;
         }
 
-        String openAPIFileContent = Files.readString(contractPath);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null,
-                parseOptions);
-        OpenAPI api = parseResult.getOpenAPI();
+        OpenAPI api = OpenAPIContractCache.getInstance().getOpenAPI(contractPath);
         if (api == null) {
             reportDiagnostic(context, CompilationError.PARSER_EXCEPTION, location, DiagnosticSeverity.ERROR,
                     definitionURI);
@@ -248,12 +244,15 @@ public class ValidatorUtils {
     /**
      * Summarize openAPI contract paths to easily access details to validate.
      * @param contract                openAPI contract
-     * @return List of summarized OpenAPIPathSummary
+     * @return Index of the summarized OpenAPIPathSummary by the normalized path
      */
-    public static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract, SyntaxNodeAnalysisContext context,
-                                                             Filter filter) {
-        List<OpenAPIPathSummary> openAPISummaries = new ArrayList<>();
+    public static OpenAPIPathIndex summarizeOpenAPI(OpenAPI contract, SyntaxNodeAnalysisContext context,
+                                                    Filter filter) {
+        Map<String, OpenAPIPathSummary> openAPISummaries = new LinkedHashMap<>();
         io.swagger.v3.oas.models.Paths paths = contract.getPaths();
+        if (paths == null) {
+            return new OpenAPIPathIndex(openAPISummaries);
+        }
         paths.forEach((path, value) -> {
             OpenAPIPathSummary openAPISummary = new OpenAPIPathSummary();
             if (value != null) {
@@ -284,10 +283,10 @@ public class ValidatorUtils {
                 }
             }
             if (openAPISummary.getOperations().size() > 0) {
-                openAPISummaries.add(openAPISummary);
+                openAPISummaries.put(getNormalizedPath(path), openAPISummary);
             }
         });
-        return openAPISummaries;
+        return new OpenAPIPathIndex(openAPISummaries);
     }
 
     private static void addOpenAPISummary(OpenAPIPathSummary openAPISummary, String httpMethod, Operation operation,
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator.model;
+
+import io.swagger.v3.oas.models.Operation;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable index of the summarized OpenAPI paths, keyed by the normalized path. The paths are kept in the order of
+ * the contract, so the diagnostics reported while iterating the index follow the contract.
+ *
+ * @since 2.3.2
+ */
+public class OpenAPIPathIndex {
+    private final Map<String, OpenAPIPathSummary> paths;
+
+    public OpenAPIPathIndex(Map<String, OpenAPIPathSummary> paths) {
+        this.paths = Collections.unmodifiableMap(new LinkedHashMap<>(paths));
+    }
+
+    public Collection<OpenAPIPathSummary> getPaths() {
+        return paths.values();
+    }
+
+    public Optional<OpenAPIPathSummary> getPath(String normalizedPath) {
+        return Optional.ofNullable(paths.get(normalizedPath));
+    }
+
+    public boolean containsPath(String normalizedPath) {
+        return paths.containsKey(normalizedPath);
+    }
+
+    public Optional<Operation> getOperation(String normalizedPath, String method) {
+        OpenAPIPathSummary pathSummary = paths.get(normalizedPath);
+        return pathSummary == null ? Optional.empty() : Optional.ofNullable(pathSummary.getOperations().get(method));
+    }
+
+    public int size() {
+        return paths.size();
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.openapi.validator.model;
 import io.swagger.v3.oas.models.Operation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,6 @@ public class OpenAPIPathSummary {
     }
 
     public Map<String, Operation> getOperations() {
-        return this.operations;
+        return Collections.unmodifiableMap(this.operations);
     }
 }
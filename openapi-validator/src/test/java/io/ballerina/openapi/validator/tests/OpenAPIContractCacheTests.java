@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator.tests;
+
+import io.ballerina.openapi.validator.OpenAPIContractCache;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * This test class contains the tests for the parsed OpenAPI contract cache used by the validator.
+ */
+public class OpenAPIContractCacheTests {
+    private static final String CONTRACT = """
+            openapi: 3.0.1
+            info:
+              title: %s
+              version: 1.0.0
+            paths: {}
+            """;
+
+    private Path tempDir;
+
+    @BeforeMethod
+    public void createTempDir() throws IOException {
+        tempDir = Files.createTempDirectory("openapi-contract-cache");
+    }
+
+    @AfterMethod
+    public void deleteTempDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "Unchanged contract is parsed only once")
+    public void unchangedContract() throws IOException {
+        OpenAPIContractCache cache = new OpenAPIContractCache(4, Long.MAX_VALUE);
+        Path contract = writeContract("pet.yaml", "Pet");
+        OpenAPI first = cache.getOpenAPI(contract);
+        Assert.assertNotNull(first);
+        Assert.assertSame(cache.getOpenAPI(contract), first);
+        Assert.assertSame(cache.getOpenAPI(tempDir.resolve(".").resolve("pet.yaml")), first);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test(description = "Touched contract with the same content is not parsed again")
+    public void touchedContract() throws IOException {
+        OpenAPIContractCache cache = new OpenAPIContractCache(4, Long.MAX_VALUE);
+        Path contract = writeContract("pet.yaml", "Pet");
+        OpenAPI first = cache.getOpenAPI(contract);
+        Files.setLastModifiedTime(contract, FileTime.fromMillis(Files.getLastModifiedTime(contract).toMillis()
+                + 10_000));
+        Assert.assertSame(cache.getOpenAPI(contract), first);
+    }
+
+    @Test(description = "Modified contract is parsed again")
+    public void modifiedContract() throws IOException {
+        OpenAPIContractCache cache = new OpenAPIContractCache(4, Long.MAX_VALUE);
+        Path contract = writeContract("pet.yaml", "Pet");
+        OpenAPI first = cache.getOpenAPI(contract);
+        writeContract("pet.yaml", "Pet Store");
+        Files.setLastModifiedTime(contract, FileTime.fromMillis(Files.getLastModifiedTime(contract).toMillis()
+                + 10_000));
+        OpenAPI second = cache.getOpenAPI(contract);
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(second.getInfo().getTitle(), "Pet Store");
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test(description = "Least recently used contract is evicted")
+    public void leastRecentlyUsedEviction() throws IOException {
+        OpenAPIContractCache cache = new OpenAPIContractCache(2, Long.MAX_VALUE);
+        Path pet = writeContract("pet.yaml", "Pet");
+        Path store = writeContract("store.yaml", "Store");
+        Path user = writeContract("user.yaml", "User");
+        OpenAPI petOpenAPI = cache.getOpenAPI(pet);
+        OpenAPI storeOpenAPI = cache.getOpenAPI(store);
+        Assert.assertSame(cache.getOpenAPI(pet), petOpenAPI);
+        cache.getOpenAPI(user);
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertSame(cache.getOpenAPI(pet), petOpenAPI);
+        Assert.assertNotSame(cache.getOpenAPI(store), storeOpenAPI);
+    }
+
+    @Test(description = "Contracts exceeding the size limit are evicted")
+    public void sizeBasedEviction() throws IOException {
+        Path pet = writeContract("pet.yaml", "Pet");
+        Path store = writeContract("store.yaml", "Store");
+        OpenAPIContractCache cache = new OpenAPIContractCache(4, Files.size(store));
+        OpenAPI petOpenAPI = cache.getOpenAPI(pet);
+        cache.getOpenAPI(store);
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertNotSame(cache.getOpenAPI(pet), petOpenAPI);
+    }
+
+    @Test(description = "Invalid contract is not cached")
+    public void invalidContract() throws IOException {
+        OpenAPIContractCache cache = new OpenAPIContractCache(4, Long.MAX_VALUE);
+        Path contract = Files.writeString(tempDir.resolve("invalid.yaml"), "openapi: 3.0.1\ninfo: {title: Pet\n");
+        Assert.assertNull(cache.getOpenAPI(contract));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    private Path writeContract(String fileName, String title) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), String.format(CONTRACT, title));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator.tests;
+
+import io.ballerina.openapi.validator.ValidatorUtils;
+import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.openapi.validator.model.OpenAPIPathIndex;
+import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This test class checks that the OpenAPI path index used by the service validator resolves the same paths and
+ * operations as the linear scan over the summarized paths it replaced.
+ */
+public class OpenAPIPathIndexTests {
+    private static final List<String> METHODS = List.of("get", "post", "put", "delete", "head", "patch", "options",
+            "trace");
+    private static final List<String> RESOURCE_PATHS = List.of(
+            "/pets", "/pets/", "pets", "/pets//", "/pets/{petId}", "/pets/{petId}/", "/pets/{id}",
+            "/pets/{petId}/owner", "/pets/{id}/owner", "/pets/{petId}/owner/", "/v1/{org}/{repo}", "/v1/{org}/{repo}/",
+            "/v1/{repo}/{org}", "/store/inventory.json", "/store/inventory", "/", "", "/untagged", "/unknown");
+
+    @DataProvider(name = "filters")
+    public Object[][] filters() {
+        return new Object[][]{
+                {new Filter.FilterBuilder().build()},
+                {new Filter.FilterBuilder().withTag(List.of("pets")).build()},
+                {new Filter.FilterBuilder().withExcludeOperation(List.of("getOwner", "listPetsSlash")).build()}
+        };
+    }
+
+    @Test(description = "Path index resolves the same operations as the linear scan of the summaries",
+            dataProvider = "filters")
+    public void testIndexMatchesLinearScan(Filter filter) {
+        OpenAPI openAPI = createOpenAPI();
+        OpenAPIPathIndex pathIndex = ValidatorUtils.summarizeOpenAPI(openAPI, null, filter);
+        List<OpenAPIPathSummary> summaries = new ArrayList<>(pathIndex.getPaths());
+
+        for (String resourcePath : RESOURCE_PATHS) {
+            String normalizedPath = ValidatorUtils.getNormalizedPath(resourcePath);
+            OpenAPIPathSummary scannedPath = scanPath(summaries, resourcePath);
+            Assert.assertEquals(pathIndex.getPath(normalizedPath).orElse(null), scannedPath, resourcePath);
+            Assert.assertEquals(pathIndex.containsPath(normalizedPath), scannedPath != null, resourcePath);
+            for (String method : METHODS) {
+                Operation scannedOperation = scannedPath == null ? null : scannedPath.getOperations().get(method);
+                Assert.assertEquals(pathIndex.getOperation(normalizedPath, method).orElse(null), scannedOperation,
+                        method + " " + resourcePath);
+            }
+        }
+    }
+
+    @Test(description = "Path index keeps the contract paths which have filtered operations in the contract order",
+            dataProvider = "filters")
+    public void testIndexedPaths(Filter filter) {
+        OpenAPI openAPI = createOpenAPI();
+        OpenAPIPathIndex pathIndex = ValidatorUtils.summarizeOpenAPI(openAPI, null, filter);
+        List<String> expectedPaths = new ArrayList<>();
+        openAPI.getPaths().forEach((path, pathItem) -> {
+            if (pathItem.readOperations().stream().anyMatch(operation -> isSelected(filter, operation))) {
+                expectedPaths.add(path);
+            }
+        });
+        Assert.assertEquals(pathIndex.getPaths().stream().map(OpenAPIPathSummary::getPath).toList(), expectedPaths);
+        Assert.assertEquals(pathIndex.size(), expectedPaths.size());
+    }
+
+    @Test(description = "Contract without paths gives an empty index")
+    public void testContractWithoutPaths() {
+        OpenAPIPathIndex pathIndex = ValidatorUtils.summarizeOpenAPI(new OpenAPI(), null,
+                new Filter.FilterBuilder().build());
+        Assert.assertEquals(pathIndex.size(), 0);
+        Assert.assertTrue(pathIndex.getOperation("/pets", "get").isEmpty());
+    }
+
+    @Test(description = "Resource paths differing from the contract paths only in the parameter names or a trailing " +
+            "slash are not matched")
+    public void testPathVariants() {
+        OpenAPIPathIndex pathIndex = ValidatorUtils.summarizeOpenAPI(createOpenAPI(), null,
+                new Filter.FilterBuilder().build());
+        Assert.assertEquals(pathIndex.getOperation("/pets/", "get").map(Operation::getOperationId),
+                Optional.of("listPetsSlash"));
+        Assert.assertEquals(pathIndex.getOperation("/pets", "get").map(Operation::getOperationId),
+                Optional.of("listPets"));
+        Assert.assertTrue(pathIndex.getOperation("/pets/{petId}/", "get").isEmpty());
+        Assert.assertTrue(pathIndex.getOperation("/pets/{id}", "get").isEmpty());
+        Assert.assertTrue(pathIndex.getOperation("/pets/{petId}", "post").isEmpty());
+        Assert.assertFalse(pathIndex.containsPath("/empty"));
+    }
+
+    /**
+     * Finds the summary of the given resource path in the same way as the service validator did before the paths
+     * were indexed, by comparing the resource path with the path of each summary.
+     */
+    private static OpenAPIPathSummary scanPath(List<OpenAPIPathSummary> summaries, String resourcePath) {
+        for (OpenAPIPathSummary summary : summaries) {
+            if (summary.getPath().equals(resourcePath)) {
+                return summary;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSelected(Filter filter, Operation operation) {
+        if (filter.getTag() != null) {
+            return operation.getTags() != null && operation.getTags().stream().anyMatch(filter.getTag()::contains);
+        }
+        if (filter.getExcludeOperation() != null) {
+            return operation.getOperationId() != null &&
+                    !filter.getExcludeOperation().contains(operation.getOperationId());
+        }
+        return true;
+    }
+
+    private static OpenAPI createOpenAPI() {
+        Paths paths = new Paths();
+        paths.addPathItem("/pets", new PathItem()
+                .get(operation("listPets", "pets"))
+                .post(operation("createPet", "pets")));
+        paths.addPathItem("/pets/", new PathItem()
+                .get(operation("listPetsSlash", "pets")));
+        paths.addPathItem("/pets/{petId}", new PathItem()
+                .get(operation("getPet", "pets"))
+                .put(operation("updatePet", "pets"))
+                .delete(operation("deletePet", "admin")));
+        paths.addPathItem("/pets/{petId}/owner", new PathItem()
+                .get(operation("getOwner", "owners"))
+                .patch(operation("patchOwner", "pets")));
+        paths.addPathItem("/v1/{org}/{repo}", new PathItem()
+                .head(operation("headRepo", "repos"))
+                .options(operation("repoOptions", "repos"))
+                .trace(operation("traceRepo", "repos")));
+        paths.addPathItem("/store/inventory.json", new PathItem()
+                .get(operation("getInventory", "store")));
+        paths.addPathItem("/untagged", new PathItem()
+                .get(new Operation().operationId("untagged")));
+        paths.addPathItem("/empty", new PathItem());
+        return new OpenAPI().paths(paths);
+    }
+
+    private static Operation operation(String operationId, String tag) {
+        return new Operation().operationId(operationId).addTagsItem(tag);
+    }
+}